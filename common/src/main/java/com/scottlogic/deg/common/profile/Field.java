@@ -24,6 +24,6 @@ public class Field {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return Objects.hashCode(name);
     }
 }
@@ -2,15 +2,32 @@ package com.scottlogic.deg.common.profile;
 
 
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
+/**
+ * The fields of a profile, or of part of one.
+ *
+ * Each field has a dense ordinal, from 0 to getOrdinalCount() - 1, so that data for the fields can be kept in an array
+ * rather than a map. The fields of a subset keep the ordinals they had in the fields they were taken from, so data
+ * for different subsets of the same profile can be combined by ordinal.
+ */
 public class ProfileFields implements Iterable<Field> {
     private final List<Field> fields;
+    private final Ordinals ordinals;
 
     public ProfileFields(List<Field> fields) {
+        this(fields, new Ordinals(fields));
+    }
+
+    private ProfileFields(List<Field> fields, Ordinals ordinals) {
         this.fields = fields;
+        this.ordinals = ordinals;
     }
 
     public Field getByName(String fieldName) {
@@ -19,11 +36,53 @@ public class ProfileFields implements Iterable<Field> {
             .findFirst()
             .orElseThrow(() -> new IllegalArgumentException("Profile fields do not contain " + fieldName));
     }
-    
+
     public int size() {
         return this.fields.size();
     }
 
+    /**
+     * Get some of these fields, keeping the ordinals they have here. If any of the fields aren't in these fields, the
+     * subset has ordinals of its own.
+     */
+    public ProfileFields subset(Collection<Field> fields) {
+        List<Field> subset = new ArrayList<>(fields);
+        for (Field field : subset) {
+            if (getOrdinal(field) < 0) {
+                return new ProfileFields(subset);
+            }
+        }
+
+        return new ProfileFields(subset, ordinals);
+    }
+
+    /**
+     * @return the ordinal of the field, or -1 if the field isn't in these fields or the fields they were taken from
+     */
+    public int getOrdinal(Field field) {
+        Integer ordinal = ordinals.ordinals.get(field);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public Field getFieldWithOrdinal(int ordinal) {
+        return ordinals.fields.get(ordinal);
+    }
+
+    /**
+     * @return the number of ordinals, which is more than size() for a subset
+     */
+    public int getOrdinalCount() {
+        return ordinals.fields.size();
+    }
+
+    /**
+     * @return whether the fields have the same ordinals as the other fields, because they are, or were taken from, the
+     * same fields
+     */
+    public boolean hasSameOrdinals(ProfileFields other) {
+        return ordinals == other.ordinals;
+    }
+
     @Override
     public Iterator<Field> iterator() {
         return fields.iterator();
@@ -50,4 +109,17 @@ public class ProfileFields implements Iterable<Field> {
     public int hashCode() {
         return fields.hashCode();
     }
+
+    private static class Ordinals {
+        private final List<Field> fields = new ArrayList<>();
+        private final Map<Field, Integer> ordinals = new HashMap<>();
+
+        Ordinals(List<Field> fields) {
+            for (Field field : fields) {
+                if (ordinals.putIfAbsent(field, this.fields.size()) == null) {
+                    this.fields.add(field);
+                }
+            }
+        }
+    }
 }
@@ -30,7 +30,7 @@ public class ParsedDateGranularity {
 
     @Override
     public int hashCode(){
-        return Objects.hash(granularity);
+        return Objects.hash(granularity.name());
     }
 
     @Override
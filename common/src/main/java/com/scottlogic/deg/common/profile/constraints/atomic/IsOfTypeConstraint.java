@@ -58,7 +58,7 @@ public class IsOfTypeConstraint implements AtomicConstraint {
 
     @Override
     public int hashCode(){
-        return Objects.hash(field, requiredType);
+        return Objects.hash(field, requiredType.name());
     }
 
     @Override
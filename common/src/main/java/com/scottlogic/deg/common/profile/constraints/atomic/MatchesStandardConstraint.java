@@ -45,7 +45,7 @@ public class MatchesStandardConstraint implements AtomicConstraint {
 
     @Override
     public int hashCode(){
-        return Objects.hash(field, standard);
+        return Objects.hash(field, standard.name());
     }
 
     @Override
@@ -0,0 +1,27 @@
+package com.scottlogic.deg.common.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates daemon threads named after what they are for, numbered from 0 in the order they are created, so that worker
+ * pools never keep the JVM alive once the main thread has finished and are easy to tell apart in a thread dump.
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final AtomicInteger threadIndex = new AtomicInteger();
+
+    /**
+     * @param namePrefix the start of the name of each thread, to which a hyphen and its number are added
+     */
+    public DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + "-" + threadIndex.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
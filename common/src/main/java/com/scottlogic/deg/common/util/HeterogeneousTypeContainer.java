@@ -13,7 +13,7 @@ public class HeterogeneousTypeContainer<I> {
     private final Map<Class<? extends I>, I> map;
 
     public HeterogeneousTypeContainer() {
-        this.map = new HashMap<>();
+        this.map = new LinkedHashMap<>();
     }
 
     private HeterogeneousTypeContainer(Map<Class<? extends I>, I> map) {
@@ -29,7 +29,7 @@ public class HeterogeneousTypeContainer<I> {
      * @return New container with the value input (original container is unaffected)
      */
     public <T extends I> HeterogeneousTypeContainer<I> put(Class<T> type, T element) {
-        Map<Class<? extends I>, I> copy = new HashMap<>(map);
+        Map<Class<? extends I>, I> copy = new LinkedHashMap<>(map);
         if (element != null) {
             copy.put(Objects.requireNonNull(type), element);
         } else {
@@ -85,9 +85,17 @@ public class HeterogeneousTypeContainer<I> {
         return map.equals(that.map);
     }
 
+    /**
+     * Hashes the names of the classes rather than the classes themselves, whose hash codes differ from one run to the
+     * next, so that sets of containers, e.g. of field specs, are iterated in the same order in every run
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(map);
+        int hashCode = 0;
+        for (Map.Entry<Class<? extends I>, I> entry : map.entrySet()) {
+            hashCode += entry.getKey().getName().hashCode() ^ Objects.hashCode(entry.getValue());
+        }
+        return hashCode;
     }
 
     @Override
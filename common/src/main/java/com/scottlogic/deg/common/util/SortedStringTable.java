@@ -0,0 +1,487 @@
+package com.scottlogic.deg.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of strings kept in memory-mapped temporary files rather than on the heap, for sets of values read
+ * from files that can have millions of lines.
+ *
+ * The strings are held as UTF-8, sorted by their bytes and without duplicates, one after another in a data file, with
+ * the offset of each in an index file. Strings are only decoded as they are retrieved, by index or by iterating; a
+ * membership test is a binary search comparing the bytes of the strings in place, and two tables are intersected by
+ * stepping through both in order. Intersecting or filtering a table that loses none of its strings returns the table
+ * itself, without writing any files.
+ *
+ * The files are deleted as soon as they are mapped, so they take no space once the table is unreachable and its
+ * mapping has been garbage collected. Where a mapped file can't be deleted, as on Windows, it is deleted on exit.
+ */
+public class SortedStringTable extends AbstractSet<Object> {
+    private static final String TEMP_FILE_PREFIX = "datahelix-strings";
+    private static final long MAX_DATA_BYTES = Integer.MAX_VALUE;
+    private static final Comparator<byte[]> UNSIGNED_BYTES = SortedStringTable::compareUnsigned;
+
+    private static final SortedStringTable EMPTY =
+        new SortedStringTable(0, LongBuffer.wrap(new long[] { 0 }), ByteBuffer.allocate(0), 0);
+
+    private final int size;
+    private final LongBuffer offsets;
+    private final ByteBuffer data;
+    private final int hashCode;
+
+    private SortedStringTable(int size, LongBuffer offsets, ByteBuffer data, int hashCode) {
+        this.size = size;
+        this.offsets = offsets;
+        this.data = data;
+        this.hashCode = hashCode;
+    }
+
+    public static Builder builder() {
+        return new Builder(Builder.RUN_BYTES);
+    }
+
+    static Builder builder(int runBytes) {
+        return new Builder(runBytes);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the string at the given (zero-based) position, in order of their UTF-8 bytes
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is beyond the end of the " + size + " strings");
+        }
+
+        return new String(getBytes(index), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return a view of the strings, in order, that retrieves each from the table as it is read
+     */
+    public List<Object> asList() {
+        return new StringList();
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof String && indexOf(((String) value).getBytes(StandardCharsets.UTF_8)) >= 0;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return asList().iterator();
+    }
+
+    /**
+     * @return the strings of both tables, found by stepping through them side by side; either table itself if it has
+     * no strings that the other doesn't
+     */
+    public SortedStringTable intersect(SortedStringTable other) {
+        if (other == this) {
+            return this;
+        }
+
+        try (TableWriter writer = new TableWriter()) {
+            int index = 0;
+            int otherIndex = 0;
+            while (index < size && otherIndex < other.size) {
+                int comparison = compareUnsigned(getBytes(index), other.getBytes(otherIndex));
+                if (comparison < 0) {
+                    index++;
+                } else if (comparison > 0) {
+                    otherIndex++;
+                } else {
+                    writer.write(getBytes(index));
+                    index++;
+                    otherIndex++;
+                }
+            }
+
+            if (writer.size == size) {
+                return this;
+            }
+            if (writer.size == other.size) {
+                return other;
+            }
+            return writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the strings that satisfy the predicate, in a new table; or this table if they all do
+     */
+    public SortedStringTable filter(Predicate<Object> predicate) {
+        int firstRejected = 0;
+        while (firstRejected < size && predicate.test(get(firstRejected))) {
+            firstRejected++;
+        }
+        if (firstRejected == size) {
+            return this;
+        }
+
+        try (TableWriter writer = new TableWriter()) {
+            for (int index = 0; index < firstRejected; index++) {
+                writer.write(getBytes(index));
+            }
+            for (int index = firstRejected + 1; index < size; index++) {
+                byte[] bytes = getBytes(index);
+                if (predicate.test(new String(bytes, StandardCharsets.UTF_8))) {
+                    writer.write(bytes);
+                }
+            }
+
+            return writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Two tables are compared by their hash codes, which were worked out as they were written, before their bytes; any
+     * other set by its size and hash code before its strings are looked up in this table
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof SortedStringTable) {
+            SortedStringTable other = (SortedStringTable) obj;
+            return size == other.size
+                && hashCode == other.hashCode
+                && offsets.equals(other.offsets)
+                && data.equals(other.data);
+        }
+        if (!(obj instanceof Set)) {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) obj;
+        return size == other.size() && hashCode == other.hashCode() && containsAll(other);
+    }
+
+    /**
+     * The sum of the hash codes of the strings, as for any other set, worked out as the table was written
+     */
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private byte[] getBytes(int index) {
+        int start = (int) offsets.get(index);
+        int end = (int) offsets.get(index + 1);
+
+        byte[] bytes = new byte[end - start];
+        ByteBuffer buffer = data.duplicate();
+        buffer.position(start);
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private int indexOf(byte[] value) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareInPlace(middle, value);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    private int compareInPlace(int index, byte[] value) {
+        int start = (int) offsets.get(index);
+        int length = (int) offsets.get(index + 1) - start;
+
+        for (int i = 0; i < Math.min(length, value.length); i++) {
+            int comparison = Integer.compare(data.get(start + i) & 0xff, value[i] & 0xff);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return Integer.compare(length, value.length);
+    }
+
+    private static int compareUnsigned(byte[] left, byte[] right) {
+        for (int i = 0; i < Math.min(left.length, right.length); i++) {
+            int comparison = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return Integer.compare(left.length, right.length);
+    }
+
+    private static Path createTempFile() throws IOException {
+        Path file = Files.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    private class StringList extends AbstractList<Object> implements RandomAccess {
+        @Override
+        public Object get(int index) {
+            return SortedStringTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Collects strings in any order, with duplicates, into a table.
+     *
+     * Strings are sorted in runs of up to RUN_BYTES bytes at a time, each written to a file of its own once it is full, and
+     * the runs are merged into the table, so that only one run is held on the heap at once.
+     */
+    public static class Builder {
+        private static final int RUN_BYTES = 64 * 1024 * 1024;
+
+        private final int maxRunBytes;
+        private final List<Path> runFiles = new ArrayList<>();
+        private List<byte[]> run = new ArrayList<>();
+        private long runBytes;
+
+        private Builder(int maxRunBytes) {
+            this.maxRunBytes = maxRunBytes;
+        }
+
+        public Builder add(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            run.add(bytes);
+            runBytes += bytes.length;
+
+            if (runBytes >= maxRunBytes) {
+                writeRun();
+            }
+
+            return this;
+        }
+
+        public SortedStringTable build() {
+            try {
+                if (runFiles.isEmpty()) {
+                    run.sort(UNSIGNED_BYTES);
+                    try (TableWriter writer = new TableWriter()) {
+                        for (byte[] value : run) {
+                            writer.writeIfNew(value);
+                        }
+                        return writer.finish();
+                    }
+                }
+
+                writeRun();
+                return mergeRuns();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                run = new ArrayList<>();
+                for (Path runFile : runFiles) {
+                    runFile.toFile().delete();
+                }
+                runFiles.clear();
+            }
+        }
+
+        private void writeRun() {
+            run.sort(UNSIGNED_BYTES);
+            try {
+                Path runFile = createTempFile();
+                runFiles.add(runFile);
+                try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+                    for (byte[] value : run) {
+                        output.writeInt(value.length);
+                        output.write(value);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            run = new ArrayList<>();
+            runBytes = 0;
+        }
+
+        private SortedStringTable mergeRuns() throws IOException {
+            PriorityQueue<RunReader> readers = new PriorityQueue<>(
+                Math.max(1, runFiles.size()),
+                (left, right) -> compareUnsigned(left.current, right.current));
+            try (TableWriter writer = new TableWriter()) {
+                for (Path runFile : runFiles) {
+                    RunReader reader = new RunReader(runFile);
+                    if (reader.advance()) {
+                        readers.add(reader);
+                    } else {
+                        reader.close();
+                    }
+                }
+
+                while (!readers.isEmpty()) {
+                    RunReader reader = readers.poll();
+                    writer.writeIfNew(reader.current);
+                    if (reader.advance()) {
+                        readers.add(reader);
+                    } else {
+                        reader.close();
+                    }
+                }
+
+                return writer.finish();
+            } finally {
+                for (RunReader reader : readers) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static class RunReader {
+        private final DataInputStream input;
+        private byte[] current;
+
+        RunReader(Path runFile) throws IOException {
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(runFile)));
+        }
+
+        boolean advance() throws IOException {
+            int length;
+            try {
+                length = input.readInt();
+            } catch (EOFException endOfRun) {
+                return false;
+            }
+
+            current = new byte[length];
+            input.readFully(current);
+            return true;
+        }
+
+        void close() throws IOException {
+            input.close();
+        }
+    }
+
+    /**
+     * Writes strings, which must already be in order, to the data and index files of a new table, then maps them.
+     */
+    private static class TableWriter implements AutoCloseable {
+        private final Path dataFile;
+        private final Path offsetsFile;
+        private final DataOutputStream data;
+        private final DataOutputStream offsets;
+        private byte[] last;
+        private long dataBytes;
+        private int size;
+        private int hashCode;
+
+        TableWriter() throws IOException {
+            dataFile = createTempFile();
+            offsetsFile = createTempFile();
+            data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile)));
+            offsets = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(offsetsFile)));
+            offsets.writeLong(0);
+        }
+
+        void writeIfNew(byte[] value) throws IOException {
+            if (last == null || compareUnsigned(last, value) != 0) {
+                write(value);
+            }
+        }
+
+        void write(byte[] value) throws IOException {
+            dataBytes += value.length;
+            if (dataBytes > MAX_DATA_BYTES) {
+                throw new IllegalStateException("Sets of strings can be at most " + MAX_DATA_BYTES + " bytes long");
+            }
+
+            data.write(value);
+            offsets.writeLong(dataBytes);
+            last = value;
+            size++;
+            hashCode += new String(value, StandardCharsets.UTF_8).hashCode();
+        }
+
+        SortedStringTable finish() throws IOException {
+            closeFiles();
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            return new SortedStringTable(size, map(offsetsFile).asLongBuffer(), map(dataFile), hashCode);
+        }
+
+        /**
+         * Close and delete the files, which are no longer needed once they are mapped, or if the table isn't finished
+         */
+        @Override
+        public void close() throws IOException {
+            closeFiles();
+            delete(dataFile);
+            delete(offsetsFile);
+        }
+
+        private void closeFiles() throws IOException {
+            try {
+                data.close();
+            } finally {
+                offsets.close();
+            }
+        }
+
+        private static void delete(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // a file that is still mapped can't be deleted on some platforms, and is deleted on exit instead
+            }
+        }
+
+        private static ByteBuffer map(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+    }
+}
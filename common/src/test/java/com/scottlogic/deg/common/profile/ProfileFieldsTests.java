@@ -7,6 +7,7 @@ import com.scottlogic.deg.common.profile.ProfileFields;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 class ProfileFieldsTests {
     @Test
@@ -187,4 +188,42 @@ class ProfileFieldsTests {
             secondHashCode
         );
     }
+
+    @Test
+    void getOrdinal_fieldsInProfileFields_returnsPositionOfEachField() {
+        Field first = new Field("First Field");
+        Field second = new Field("Second Field");
+        ProfileFields fields = new ProfileFields(Arrays.asList(first, second));
+
+        assertEquals(0, fields.getOrdinal(first));
+        assertEquals(1, fields.getOrdinal(second));
+        assertEquals(second, fields.getFieldWithOrdinal(1));
+        assertEquals(-1, fields.getOrdinal(new Field("Third Field")));
+    }
+
+    @Test
+    void subset_fieldsInProfileFields_keepsOrdinalsOfProfileFields() {
+        Field first = new Field("First Field");
+        Field second = new Field("Second Field");
+        ProfileFields fields = new ProfileFields(Arrays.asList(first, second));
+
+        ProfileFields subset = fields.subset(Collections.singletonList(second));
+
+        assertEquals(1, subset.size());
+        assertEquals(2, subset.getOrdinalCount());
+        assertEquals(1, subset.getOrdinal(second));
+        assertTrue(subset.hasSameOrdinals(fields));
+    }
+
+    @Test
+    void subset_fieldNotInProfileFields_hasOrdinalsOfItsOwn() {
+        Field first = new Field("First Field");
+        Field other = new Field("Other Field");
+        ProfileFields fields = new ProfileFields(Collections.singletonList(first));
+
+        ProfileFields subset = fields.subset(Collections.singletonList(other));
+
+        assertEquals(0, subset.getOrdinal(other));
+        assertFalse(subset.hasSameOrdinals(fields));
+    }
 }
@@ -0,0 +1,114 @@
+package com.scottlogic.deg.common.util;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.*;
+
+class SortedStringTableTests {
+    @Test
+    void build_withDuplicatesInAnyOrder_holdsEachStringOnceInOrderOfTheirBytes() {
+        SortedStringTable table = table("pear", "apple", "é", "pear", "", "Zebra", "apple");
+
+        Assert.assertThat(table.size(), equalTo(5));
+        Assert.assertThat(table.asList(), contains("", "Zebra", "apple", "pear", "é"));
+        Assert.assertThat(table.get(3), equalTo("pear"));
+    }
+
+    @Test
+    void build_withMoreThanOneRun_mergesTheRuns() {
+        SortedStringTable.Builder builder = SortedStringTable.builder(16);
+        IntStream.range(0, 1000).map(i -> (i * 7919) % 500).forEach(i -> builder.add("value " + i));
+
+        SortedStringTable table = builder.build();
+
+        Assert.assertThat(table.size(), equalTo(500));
+        Assert.assertThat(
+            new HashSet<>(table),
+            equalTo(IntStream.range(0, 500).mapToObj(i -> "value " + i).collect(Collectors.toSet())));
+        for (int i = 1; i < table.size(); i++) {
+            Assert.assertThat(table.get(i - 1), lessThan(table.get(i)));
+        }
+    }
+
+    @Test
+    void contains_isTrueOnlyForStringsOfTheTable() {
+        SortedStringTable table = table("a", "b", "ba", "c");
+
+        Assert.assertTrue(table.contains("ba"));
+        Assert.assertTrue(table.contains("c"));
+        Assert.assertFalse(table.contains("bb"));
+        Assert.assertFalse(table.contains("B"));
+        Assert.assertFalse(table.contains(null));
+        Assert.assertFalse(table.contains(1));
+    }
+
+    @Test
+    void intersect_withAnotherTable_holdsTheStringsOfBoth() {
+        SortedStringTable table = table("a", "c", "d", "f", "g");
+        SortedStringTable other = table("b", "c", "f", "h");
+
+        Assert.assertThat(table.intersect(other).asList(), contains("c", "f"));
+    }
+
+    @Test
+    void intersect_withTableHoldingAllOfItsStrings_returnsTheTableItself() {
+        SortedStringTable table = table("c", "f");
+        SortedStringTable other = table("b", "c", "f", "h");
+
+        Assert.assertThat(table.intersect(other), sameInstance(table));
+        Assert.assertThat(other.intersect(table), sameInstance(table));
+        Assert.assertThat(table.intersect(table), sameInstance(table));
+    }
+
+    @Test
+    void intersect_withNoStringsInCommon_isEmpty() {
+        Assert.assertThat(table("a", "b").intersect(table("c", "d")), empty());
+    }
+
+    @Test
+    void filter_whenEveryStringSatisfiesThePredicate_returnsTheTableItself() {
+        SortedStringTable table = table("one", "two", "three");
+
+        Assert.assertThat(table.filter(value -> true), sameInstance(table));
+    }
+
+    @Test
+    void filter_holdsOnlyTheStringsThatSatisfyThePredicate() {
+        SortedStringTable table = table("one", "two", "three", "four");
+
+        Assert.assertThat(table.filter(value -> ((String) value).length() > 3).asList(), contains("four", "three"));
+    }
+
+    @Test
+    void equalsAndHashCode_areTheSameAsForAnyOtherSetOfTheStrings() {
+        SortedStringTable table = table("x", "y", "z");
+        Set<Object> set = new HashSet<>(Arrays.asList("z", "y", "x"));
+
+        Assert.assertEquals(set, table);
+        Assert.assertEquals(table, set);
+        Assert.assertEquals(table, table("z", "x", "y"));
+        Assert.assertNotEquals(table, table("x", "y"));
+        Assert.assertEquals(set.hashCode(), table.hashCode());
+    }
+
+    @Test
+    void equals_withSetOfOtherStringsOfTheSameSize_isFalse() {
+        Assert.assertNotEquals(table("x", "y", "z"), new HashSet<>(Arrays.asList("x", "y", "a")));
+        Assert.assertNotEquals(table("x", "y", "z"), table("x", "y", "a"));
+    }
+
+    private static SortedStringTable table(String... values) {
+        SortedStringTable.Builder builder = SortedStringTable.builder();
+        for (String value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.scottlogic.deg.generator.config.detail;
+
+public enum RandomNumberGeneratorType {
+    SPLITTABLE,
+    XOSHIRO,
+    JAVA_UTIL
+}
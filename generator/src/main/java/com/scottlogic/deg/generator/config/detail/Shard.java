@@ -0,0 +1,84 @@
+package com.scottlogic.deg.generator.config.detail;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Identifies one of a number of slices of the generated output, written as index/count, e.g. 0/4 for the first of
+ * four slices. Every item of the output belongs to exactly one slice; item n belongs to slice n % count.
+ */
+public class Shard {
+    public static final Shard ALL = new Shard(0, 1);
+
+    private static final Pattern SHARD_PATTERN = Pattern.compile("^(\\d+)/(\\d+)$");
+
+    private final int index;
+    private final int count;
+
+    public Shard(int index, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, but was " + count);
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(
+                "Shard index must be between 0 and " + (count - 1) + ", but was " + index);
+        }
+
+        this.index = index;
+        this.count = count;
+    }
+
+    public static Shard parse(String shard) {
+        Matcher matcher = SHARD_PATTERN.matcher(shard.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Shard must be given as index/count, e.g. 0/4, but was " + shard);
+        }
+
+        return new Shard(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isAll() {
+        return count == 1;
+    }
+
+    /**
+     * Keep only the items of the given stream that belong to this shard
+     */
+    public <T> Stream<T> select(Stream<T> items) {
+        if (isAll()) {
+            return items;
+        }
+
+        AtomicLong itemIndex = new AtomicLong();
+        return items.filter(item -> itemIndex.getAndIncrement() % count == index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Shard shard = (Shard) o;
+        return index == shard.index && count == shard.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, count);
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
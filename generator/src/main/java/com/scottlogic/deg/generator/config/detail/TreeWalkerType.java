@@ -2,5 +2,6 @@ package com.scottlogic.deg.generator.config.detail;
 
 public enum TreeWalkerType {
     CARTESIAN_PRODUCT,
-    REDUCTIVE
+    REDUCTIVE,
+    ITERATIVE_REDUCTIVE
 }
@@ -1,9 +1,12 @@
 package com.scottlogic.deg.generator.decisiontree;
 
+import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.common.profile.constraints.atomic.AtomicConstraint;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.fieldspecs.RowSpec;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -11,6 +14,7 @@ public interface ConstraintNode extends Node {
     Collection<AtomicConstraint> getAtomicConstraints();
     Collection<DecisionNode> getDecisions();
     Optional<RowSpec> getOrCreateRowSpec(Supplier<Optional<RowSpec>> createRowSpecFunc);
+    Set<FieldSpec> getOrCreateFieldSpecs(Field field, Function<Field, Set<FieldSpec>> createFieldSpecsFunc);
     ConstraintNode removeDecisions(Collection<DecisionNode> decisionsToRemove);
     ConstraintNode cloneWithoutAtomicConstraint(AtomicConstraint excludeAtomicConstraint);
     boolean atomicConstraintExists(AtomicConstraint constraint);
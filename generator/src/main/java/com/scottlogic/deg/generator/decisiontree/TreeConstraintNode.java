@@ -1,10 +1,13 @@
 package com.scottlogic.deg.generator.decisiontree;
 
+import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.common.util.FlatMappingSpliterator;
 import com.scottlogic.deg.common.profile.constraints.atomic.AtomicConstraint;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.fieldspecs.RowSpec;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -16,6 +19,7 @@ public final class TreeConstraintNode implements ConstraintNode {
     private final Collection<AtomicConstraint> atomicConstraints;
     private final Collection<DecisionNode> decisions;
     private final Set<NodeMarking> nodeMarkings;
+    private int hashCode;
 
     public TreeConstraintNode(Collection<AtomicConstraint> atomicConstraints, Collection<DecisionNode> decisions) {
         this(atomicConstraints, decisions, Collections.emptySet());
@@ -65,6 +69,26 @@ public final class TreeConstraintNode implements ConstraintNode {
     }
     private Optional<RowSpec> adaptedRowSpec = null;
 
+    /**
+     * Get the FieldSpecs of the field in this node, created the first time they are asked for and then kept for as
+     * long as the node is, so that a tree reached again and again (e.g. by pruning for the same values in every random
+     * row) only has them worked out once
+     */
+    public Set<FieldSpec> getOrCreateFieldSpecs(Field field, Function<Field, Set<FieldSpec>> createFieldSpecsFunc) {
+        Map<Field, Set<FieldSpec>> fieldSpecs = this.fieldSpecs;
+        if (fieldSpecs == null) {
+            synchronized (this) {
+                if (this.fieldSpecs == null) {
+                    this.fieldSpecs = new ConcurrentHashMap<>();
+                }
+                fieldSpecs = this.fieldSpecs;
+            }
+        }
+
+        return fieldSpecs.computeIfAbsent(field, createFieldSpecsFunc);
+    }
+    private volatile Map<Field, Set<FieldSpec>> fieldSpecs = null;
+
     public String toString(){
         if (decisions.isEmpty())
             return atomicConstraints.size() > 5
@@ -168,9 +192,24 @@ public final class TreeConstraintNode implements ConstraintNode {
             Objects.equals(decisions, that.decisions);
     }
 
+    /**
+     * Hashes the constraints and decisions themselves; the unmodifiable collections holding them don't override
+     * hashCode, so would give a different hash in every run, and sets of nodes would be iterated in a different order
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(atomicConstraints, decisions);
+        if (hashCode == 0) {
+            hashCode = 31 * elementsHashCode(atomicConstraints) + elementsHashCode(decisions);
+        }
+        return hashCode;
+    }
+
+    static int elementsHashCode(Collection<?> elements) {
+        int hashCode = 0;
+        for (Object element : elements) {
+            hashCode += Objects.hashCode(element);
+        }
+        return hashCode;
     }
 
     @Override
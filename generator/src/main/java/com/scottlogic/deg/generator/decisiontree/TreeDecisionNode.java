@@ -10,6 +10,7 @@ import java.util.stream.Stream;
 public final class TreeDecisionNode implements DecisionNode {
     private final Collection<ConstraintNode> options;
     private final Set<NodeMarking> nodeMarkings;
+    private int hashCode;
 
     public TreeDecisionNode(ConstraintNode... options) {
         this(Collections.unmodifiableCollection(Arrays.asList(options)));
@@ -67,9 +68,15 @@ public final class TreeDecisionNode implements DecisionNode {
         return Objects.equals(options, that.options);
     }
 
+    /**
+     * Hashes the options themselves, as the unmodifiable collection holding them doesn't override hashCode
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(options);
+        if (hashCode == 0) {
+            hashCode = TreeConstraintNode.elementsHashCode(options);
+        }
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,283 @@
+package com.scottlogic.deg.generator.decisiontree.serialisation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the optimised partitions of a profile's decision tree in a directory, so that generating from the same profile
+ * with the same options again can skip analysing, partitioning and optimising it.
+ *
+ * Each entry is a JSON list of DecisionTreeDtos, named after a hash of the profile file, the generator version and the
+ * options that shape the trees. DecisionTreeMapper can't represent every constraint, or keep the type of every value,
+ * so the trees are only written if they read back the same as they were given; otherwise they are recreated each time.
+ * Node markings and rule information aren't kept, as nothing uses them once the trees have been optimised.
+ *
+ * Profiles that read values from files (fromFile constraints) aren't cached at all: the entry would have to copy every
+ * value of every file, and the key, being a hash of the profile alone, wouldn't change when the files did.
+ */
+public class DecisionTreeCache {
+    private static final String FORMAT_VERSION = "2";
+    private static final String FROM_FILE = "fromFile";
+
+    private final Path directory;
+    private final File profileFile;
+    private final String options;
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final DecisionTreeMapper decisionTreeMapper = new DecisionTreeMapper();
+    private String key;
+    private Boolean readsFromFiles;
+
+    public DecisionTreeCache(Path directory, File profileFile, String options) {
+        this.directory = directory;
+        this.profileFile = profileFile;
+        this.options = options;
+    }
+
+    public static DecisionTreeCache disabled() {
+        return new DecisionTreeCache(null, null, null);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Get the optimised partitions written for this profile and these options, if there are any
+     */
+    public Optional<List<DecisionTree>> get() {
+        if (!isEnabled() || readsFromFiles()) {
+            return Optional.empty();
+        }
+
+        Path cacheFile = getCacheFile();
+        if (!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(Files.readAllBytes(cacheFile)));
+        } catch (IOException | RuntimeException e) {
+            // an entry that can't be read is treated as missing, and replaced when the trees are next put
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the optimised partitions for this profile and these options, if they can be read back unchanged
+     */
+    public void put(List<DecisionTree> partitions) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (readsFromFiles()) {
+            declinePut("the profile reads values from files");
+            return;
+        }
+
+        byte[] contents;
+        try {
+            contents = write(partitions);
+            if (!isSameInOrder(partitions, read(contents), DecisionTreeCache::isSameTree)) {
+                declinePut("some values in the trees would not be read back as the same type");
+                return;
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            declinePut("the cache can't represent them exactly: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, getKey(), ".tmp");
+            try {
+                Files.write(temporaryFile, contents);
+                Files.move(temporaryFile, getCacheFile(), StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write to the decision tree cache in " + directory, e);
+        }
+    }
+
+    private void declinePut(String reason) {
+        System.err.println(
+            String.format(
+                "Not writing the decision trees of %s to the tree cache, as %s",
+                profileFile,
+                reason));
+    }
+
+    private boolean readsFromFiles() {
+        if (readsFromFiles == null) {
+            try {
+                readsFromFiles = hasFromFileConstraint(jsonMapper.readTree(profileFile));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read the profile " + profileFile, e);
+            }
+        }
+
+        return readsFromFiles;
+    }
+
+    private static boolean hasFromFileConstraint(JsonNode node) {
+        if (node.isObject() && FROM_FILE.equals(node.path("is").asText())) {
+            return true;
+        }
+
+        for (JsonNode child : node) {
+            if (hasFromFileConstraint(child)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Path getCacheFile() {
+        return directory.resolve(getKey() + ".json");
+    }
+
+    private String getKey() {
+        if (key == null) {
+            key = createKey();
+        }
+
+        return key;
+    }
+
+    private String createKey() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        String settings = String.join(
+            "\n",
+            FORMAT_VERSION,
+            getGeneratorVersion(),
+            options);
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        try {
+            digest.update(Files.readAllBytes(profileFile.toPath()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the profile " + profileFile, e);
+        }
+
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+
+        return hash.toString();
+    }
+
+    /**
+     * The version of the generator, or when running from a build without one, the size and modification time of the
+     * jar the generator was loaded from, so that trees written by a different build are never read
+     */
+    private static String getGeneratorVersion() {
+        String version = Objects.toString(DecisionTreeCache.class.getPackage().getImplementationVersion(), "unspecified");
+
+        CodeSource codeSource = DecisionTreeCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return version;
+        }
+
+        try {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isRegularFile(location)) {
+                return version + "/" + Files.size(location) + "/" + Files.getLastModifiedTime(location).toMillis();
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // fall back to the version alone
+        }
+
+        return version;
+    }
+
+    private byte[] write(List<DecisionTree> partitions) throws IOException {
+        return jsonMapper.writeValueAsBytes(
+            partitions.stream()
+                .map(decisionTreeMapper::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    private List<DecisionTree> read(byte[] contents) throws IOException {
+        List<DecisionTreeDto> dtos = jsonMapper.readValue(contents, new TypeReference<List<DecisionTreeDto>>(){});
+        List<DecisionTree> partitions = dtos.stream()
+            .map(decisionTreeMapper::fromDto)
+            .collect(Collectors.toList());
+
+        // give the partitions the ordinals of one set of fields again, so their data can be merged by ordinal
+        ProfileFields allFields = new ProfileFields(
+            partitions.stream()
+                .flatMap(partition -> partition.getFields().stream())
+                .collect(Collectors.toList()));
+
+        return partitions.stream()
+            .map(partition -> new DecisionTree(
+                partition.getRootNode(),
+                allFields.subset(partition.getFields().stream().collect(Collectors.toList())),
+                partition.getDescription()))
+            .collect(Collectors.toList());
+    }
+
+    private static boolean isSameTree(DecisionTree expected, DecisionTree actual) {
+        return Objects.equals(expected.getDescription(), actual.getDescription())
+            && expected.getFields().equals(actual.getFields())
+            && isSameNode(expected.getRootNode(), actual.getRootNode());
+    }
+
+    private static boolean isSameNode(ConstraintNode expected, ConstraintNode actual) {
+        return isSameInOrder(expected.getAtomicConstraints(), actual.getAtomicConstraints(), Object::equals)
+            && isSameInOrder(expected.getDecisions(), actual.getDecisions(), DecisionTreeCache::isSameDecision);
+    }
+
+    private static boolean isSameDecision(DecisionNode expected, DecisionNode actual) {
+        return isSameInOrder(expected.getOptions(), actual.getOptions(), DecisionTreeCache::isSameNode);
+    }
+
+    private static <T> boolean isSameInOrder(Collection<T> expected, Collection<T> actual, BiPredicate<T, T> isSame) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+
+        Iterator<T> actualItems = actual.iterator();
+        for (T expectedItem : expected) {
+            if (!isSame.test(expectedItem, actualItems.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
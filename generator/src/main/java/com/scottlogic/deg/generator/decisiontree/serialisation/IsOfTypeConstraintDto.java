@@ -1,5 +1,6 @@
 package com.scottlogic.deg.generator.decisiontree.serialisation;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.scottlogic.deg.common.profile.constraints.atomic.IsOfTypeConstraint;
 
@@ -10,6 +11,7 @@ public class IsOfTypeConstraintDto implements ConstraintDto {
 
     public String rule;
 
+    @JsonIgnore
     public IsOfTypeConstraint.Types getTypesFromTypesDto() {
         return IsOfTypeConstraint.Types.valueOf(requiredTypeString.toUpperCase());
     }
@@ -2,7 +2,6 @@ package com.scottlogic.deg.generator.decisiontree.treepartitioning;
 
 import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.common.util.FlatMappingSpliterator;
-import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.common.profile.constraints.atomic.AtomicConstraint;
 import com.scottlogic.deg.generator.decisiontree.DecisionNode;
 import com.scottlogic.deg.generator.decisiontree.DecisionTree;
@@ -67,13 +66,13 @@ public class RelatedFieldTreePartitioner implements TreePartitioner {
                 .sorted(Comparator.comparingInt(p -> p.id))
                 .map(partition -> new DecisionTree(
                     new TreeConstraintNode(partition.getAtomicConstraints(), partition.getDecisionNodes()),
-                    new ProfileFields(new ArrayList<>(partition.fields)),
+                    decisionTree.getFields().subset(partition.fields),
                     "Partitioned Tree"
                 )),
             unpartitionedFields
                 .map(field -> new DecisionTree(
                     new TreeConstraintNode(),
-                    new ProfileFields(Collections.singletonList(field)),
+                    decisionTree.getFields().subset(Collections.singletonList(field)),
                     "Tree with Unpartitioned Fields"
                 ))
             );
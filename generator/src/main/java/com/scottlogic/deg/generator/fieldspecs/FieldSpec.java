@@ -16,6 +16,12 @@ public class FieldSpec {
     public static final FieldSpec Empty =
         new FieldSpec(new HeterogeneousTypeContainer<>(), true, null);
 
+    private static final List<Class<? extends TypedRestrictions>> typedRestrictionTypes = Arrays.asList(
+        NumericRestrictions.class,
+        DateTimeRestrictions.class,
+        StringRestrictions.class,
+        BlacklistRestrictions.class);
+
     private final boolean nullable;
     private final String formatting;
 
@@ -137,18 +143,10 @@ public class FieldSpec {
             }
         }
 
-        Set<Class<? extends Restrictions>> keys = new HashSet<>();
-        keys.add(NumericRestrictions.class);
-        keys.add(DateTimeRestrictions.class);
-        keys.add(StringRestrictions.class);
-        keys.add(BlacklistRestrictions.class);
-
-        Set<TypedRestrictions> toCheckForMatch = restrictions.getMultiple(keys)
-            .stream()
-            .map(r -> (TypedRestrictions) r)
-            .collect(Collectors.toSet());
-        for (TypedRestrictions restriction : toCheckForMatch) {
-            if (restriction != null && restriction.isInstanceOf(value) && !restriction.match(value)) {
+        // looked up one type at a time, as this is checked for every value of sets that can have millions of values
+        for (Class<? extends TypedRestrictions> type : typedRestrictionTypes) {
+            Optional<? extends TypedRestrictions> restriction = restrictions.get(type);
+            if (restriction.isPresent() && restriction.get().isInstanceOf(value) && !restriction.get().match(value)) {
                 return false;
             }
         }
@@ -1,5 +1,7 @@
 package com.scottlogic.deg.generator.fieldspecs;
 
+import com.scottlogic.deg.common.profile.constraints.atomic.IsOfTypeConstraint;
+import com.scottlogic.deg.common.util.SortedStringTable;
 import com.scottlogic.deg.generator.restrictions.*;
 import com.scottlogic.deg.generator.utils.SetUtils;
 
@@ -41,21 +43,54 @@ public class FieldSpecMerger {
     }
 
     private Optional<FieldSpec> mergeSets(FieldSpec left, FieldSpec right) {
-        Set<Object> set = SetUtils.intersect(
+        Set<Object> set = intersect(
             left.getSetRestrictions().getWhitelist(),
             right.getSetRestrictions().getWhitelist()
         );
         return addNullable(left, right, set);
     }
 
+    /**
+     * Sets read from files are kept off the heap; two of them are intersected into another by stepping through both in
+     * order, and any other set is copied with only its values that are also in the one from a file.
+     */
+    private static Set<Object> intersect(Set<Object> left, Set<Object> right) {
+        if (left instanceof SortedStringTable && right instanceof SortedStringTable) {
+            return ((SortedStringTable) left).intersect((SortedStringTable) right);
+        }
+        if (left instanceof SortedStringTable) {
+            return SetUtils.intersect(right, left);
+        }
+
+        return SetUtils.intersect(left, right);
+    }
+
     private Optional<FieldSpec> combineSetWithRestrictions(FieldSpec set, FieldSpec restrictions) {
-        Set<Object> newSet = set.getSetRestrictions().getWhitelist().stream()
-            .filter(restrictions::permits)
-            .collect(Collectors.toSet());
+        Set<Object> whitelist = set.getSetRestrictions().getWhitelist();
+        Set<Object> newSet = whitelist instanceof SortedStringTable
+            ? filter((SortedStringTable) whitelist, restrictions)
+            : whitelist.stream()
+                .filter(restrictions::permits)
+                .collect(Collectors.toSet());
 
         return addNullable(set, restrictions, newSet);
     }
 
+    /**
+     * A set read from a file only holds strings, so it is kept as it is, without checking each of its values, when the
+     * restrictions can't reject a string: e.g. when merging with FieldSpec.Empty, or with restrictions of other types.
+     */
+    private static Set<Object> filter(SortedStringTable strings, FieldSpec restrictions) {
+        TypeRestrictions typeRestrictions = restrictions.getTypeRestrictions();
+        boolean permitsAnyString = restrictions.getStringRestrictions() == null
+            && restrictions.getBlacklistRestrictions() == null
+            && (typeRestrictions == null || typeRestrictions.isTypeAllowed(IsOfTypeConstraint.Types.STRING));
+
+        return permitsAnyString
+            ? strings
+            : strings.filter(restrictions::permits);
+    }
+
     private Optional<FieldSpec> addNullable(FieldSpec left, FieldSpec right, Set<Object> set) {
         FieldSpec newFieldSpec = FieldSpec.Empty.withSetRestrictions(new SetRestrictions(set));
 
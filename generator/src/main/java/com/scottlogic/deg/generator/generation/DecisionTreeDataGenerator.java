@@ -3,15 +3,25 @@ package com.scottlogic.deg.generator.generation;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.scottlogic.deg.common.profile.Profile;
+import com.scottlogic.deg.generator.config.detail.Shard;
 import com.scottlogic.deg.generator.decisiontree.DecisionTree;
 import com.scottlogic.deg.generator.decisiontree.DecisionTreeFactory;
 import com.scottlogic.deg.generator.decisiontree.DecisionTreeOptimiser;
+import com.scottlogic.deg.generator.decisiontree.serialisation.DecisionTreeCache;
 import com.scottlogic.deg.generator.decisiontree.treepartitioning.TreePartitioner;
 import com.scottlogic.deg.generator.generation.combinationstrategies.CombinationStrategy;
 import com.scottlogic.deg.generator.generation.databags.*;
 import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 import com.scottlogic.deg.generator.walker.DecisionTreeWalker;
+import com.scottlogic.deg.generator.walker.PartialWalk;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class DecisionTreeDataGenerator implements DataGenerator {
@@ -21,7 +31,11 @@ public class DecisionTreeDataGenerator implements DataGenerator {
     private final TreePartitioner treePartitioner;
     private final DecisionTreeOptimiser treeOptimiser;
     private final CombinationStrategy partitionCombiner;
+    private final ParallelPartitionWalker partitionWalker;
+    private final DecisionTreeCache treeCache;
+    private final RandomNumberGenerator randomNumberGenerator;
     private final long maxRows;
+    private final Shard shard;
 
     @Inject
     public DecisionTreeDataGenerator(
@@ -31,29 +45,91 @@ public class DecisionTreeDataGenerator implements DataGenerator {
         DecisionTreeOptimiser optimiser,
         DataGeneratorMonitor monitor,
         CombinationStrategy combinationStrategy,
-        @Named("config:maxRows") long maxRows) {
+        ParallelPartitionWalker partitionWalker,
+        DecisionTreeCache treeCache,
+        RandomNumberGenerator randomNumberGenerator,
+        @Named("config:maxRows") long maxRows,
+        Shard shard) {
         this.decisionTreeGenerator = decisionTreeGenerator;
         this.treePartitioner = treePartitioner;
         this.treeOptimiser = optimiser;
         this.treeWalker = treeWalker;
         this.monitor = monitor;
         this.partitionCombiner = combinationStrategy;
+        this.partitionWalker = partitionWalker;
+        this.treeCache = treeCache;
+        this.randomNumberGenerator = randomNumberGenerator;
         this.maxRows = maxRows;
+        this.shard = shard;
     }
 
     @Override
     public Stream<GeneratedObject> generateData(Profile profile) {
         monitor.generationStarting();
-        DecisionTree decisionTree = decisionTreeGenerator.analyse(profile);
 
-        Stream<Stream<DataBag>> partitionedDataBags = treePartitioner
-            .splitTreeIntoPartitions(decisionTree)
-            .map(treeOptimiser::optimiseTree)
-            .map(treeWalker::walk);
+        Stream<DataBag> dataBags = shard.isAll() || !partitionCombiner.nestsSequences()
+            ? combinePartitions(profile)
+            : walkShardOfPartitions(profile);
 
-        return partitionCombiner.permute(partitionedDataBags)
+        return dataBags
             .map(d->(GeneratedObject)d)
             .limit(maxRows)
             .peek(monitor::rowEmitted);
     }
+
+    private Stream<DataBag> combinePartitions(Profile profile) {
+        Stream<Stream<DataBag>> partitionedDataBags = partitionWalker.walk(walks(profile, DecisionTreeWalker::walk));
+
+        return partitionCombiner.permute(partitionedDataBags, shard)
+            .onClose(partitionedDataBags::close);
+    }
+
+    /**
+     * Walk only the parts of the partitions that produce the rows of this shard. The partitions are walked one after
+     * another on the consuming thread.
+     */
+    private Stream<DataBag> walkShardOfPartitions(Profile profile) {
+        List<PartialWalk> partitionWalks = walks(profile, DecisionTreeWalker::partialWalk)
+            .map(Supplier::get)
+            .collect(Collectors.toList());
+
+        return new ShardedPartitionWalk(partitionWalks, shard).walk();
+    }
+
+    private <T> Stream<Supplier<T>> walks(Profile profile, BiFunction<DecisionTreeWalker, DecisionTree, T> walk) {
+        Optional<List<DecisionTree>> cachedPartitions = treeCache.get();
+        if (cachedPartitions.isPresent()) {
+            return walks(cachedPartitions.get().stream(), UnaryOperator.identity(), walk);
+        }
+
+        DecisionTree decisionTree = decisionTreeGenerator.analyse(profile);
+        Stream<DecisionTree> partitions = treePartitioner.splitTreeIntoPartitions(decisionTree);
+
+        if (!treeCache.isEnabled()) {
+            return walks(partitions, treeOptimiser::optimiseTree, walk);
+        }
+
+        List<DecisionTree> optimisedPartitions = partitions
+            .map(treeOptimiser::optimiseTree)
+            .collect(Collectors.toList());
+        treeCache.put(optimisedPartitions);
+
+        return walks(optimisedPartitions.stream(), UnaryOperator.identity(), walk);
+    }
+
+    /**
+     * Give the walk of each partition its own random number generator, split from the injected one in partition
+     * order, so partitions walked at the same time never share a generator, and a seeded run produces the same rows
+     * however many partitions are walked at once
+     */
+    private <T> Stream<Supplier<T>> walks(
+        Stream<DecisionTree> partitions,
+        UnaryOperator<DecisionTree> prepare,
+        BiFunction<DecisionTreeWalker, DecisionTree, T> walk) {
+
+        return partitions.map(partition -> {
+            DecisionTreeWalker partitionWalker = treeWalker.withRandomNumberGenerator(randomNumberGenerator.split());
+            return () -> walk.apply(partitionWalker, prepare.apply(partition));
+        });
+    }
 }
@@ -4,9 +4,10 @@ import com.google.inject.Inject;
 import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.config.detail.DataGenerationType;
 import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.generation.databags.ValueFormatter;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.CombiningFieldValueSource;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
-import com.scottlogic.deg.generator.utils.JavaUtilRandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -17,39 +18,69 @@ import java.util.stream.StreamSupport;
 public class FieldSpecValueGenerator {
     private final DataGenerationType dataType;
     private final FieldValueSourceEvaluator sourceFactory;
-    private final JavaUtilRandomNumberGenerator randomNumberGenerator;
+    private final RandomNumberGenerator randomNumberGenerator;
 
     @Inject
-    public FieldSpecValueGenerator(DataGenerationType dataGenerationType, FieldValueSourceEvaluator sourceEvaluator, JavaUtilRandomNumberGenerator randomNumberGenerator) {
+    public FieldSpecValueGenerator(DataGenerationType dataGenerationType, FieldValueSourceEvaluator sourceEvaluator, RandomNumberGenerator randomNumberGenerator) {
         this.dataType = dataGenerationType;
         this.sourceFactory = sourceEvaluator;
         this.randomNumberGenerator = randomNumberGenerator;
     }
 
+    public FieldSpecValueGenerator withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator) {
+        return new FieldSpecValueGenerator(dataType, sourceFactory, randomNumberGenerator);
+    }
+
     public Stream<DataBagValue> generate(Set<FieldSpec> specs) {
+        return generate(specs, getFieldValueSource(specs));
+    }
+
+    /**
+     * Generate values for the specs from a source previously got from getFieldValueSource(specs), so the source can be
+     * built once and used many times
+     */
+    public Stream<DataBagValue> generate(Set<FieldSpec> specs, FieldValueSource fieldValueSource) {
+        return createValuesFromSource(specs.stream().findFirst().orElse(FieldSpec.Empty), fieldValueSource);
+    }
+
+    public Stream<DataBagValue> generate(FieldSpec spec) {
+        return createValuesFromSource(spec, getFieldValueSource(spec));
+    }
+
+    /**
+     * Whether the values generated for each field can instead be addressed by index, see getFieldValueSource()
+     */
+    public boolean canGenerateByIndex() {
+        return dataType == DataGenerationType.FULL_SEQUENTIAL;
+    }
+
+    /**
+     * Get a single source for all of the values of the spec, in the order generate() would produce them
+     */
+    public FieldValueSource getFieldValueSource(FieldSpec spec) {
+        return new CombiningFieldValueSource(sourceFactory.getFieldValueSources(spec));
+    }
+
+    /**
+     * Get a single source for all of the values of the specs, in the order generate() would produce them
+     */
+    public FieldValueSource getFieldValueSource(Set<FieldSpec> specs) {
         List<FieldValueSource> fieldValueSources = specs.stream()
             .map(sourceFactory::getFieldValueSources)
             .flatMap(Collection::stream)
             .distinct()
             .collect(Collectors.toList());
 
-        return createValuesFromSources(specs.stream().findFirst().orElse(FieldSpec.Empty), fieldValueSources);
-    }
-
-    public Stream<DataBagValue> generate(FieldSpec spec) {
-        List<FieldValueSource> fieldValueSources = sourceFactory.getFieldValueSources(spec);
-
-        return createValuesFromSources(spec, fieldValueSources);
+        return new CombiningFieldValueSource(fieldValueSources);
     }
 
     @NotNull
-    private Stream<DataBagValue> createValuesFromSources(FieldSpec spec, List<FieldValueSource> fieldValueSources) {
-        FieldValueSource combinedFieldValueSource = new CombiningFieldValueSource(fieldValueSources);
-
-        Iterable<Object> iterable =  getDataValues(combinedFieldValueSource);
+    private Stream<DataBagValue> createValuesFromSource(FieldSpec spec, FieldValueSource fieldValueSource) {
+        Iterable<Object> iterable =  getDataValues(fieldValueSource);
+        ValueFormatter formatter = ValueFormatter.compile(spec.getFormatting());
 
         return StreamSupport.stream(iterable.spliterator(), false)
-            .map(value -> new DataBagValue(value, spec.getFormatting()));
+            .map(value -> DataBagValue.withFormatter(value, formatter));
     }
 
     private Iterable<Object> getDataValues(FieldValueSource source) {
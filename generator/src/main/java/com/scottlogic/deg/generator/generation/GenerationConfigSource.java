@@ -2,17 +2,31 @@ package com.scottlogic.deg.generator.generation;
 
 import com.scottlogic.deg.generator.config.detail.*;
 
+import java.io.File;
 import java.nio.file.Path;
 
 public interface GenerationConfigSource  {
+    File getProfileFile();
     DataGenerationType getGenerationType();
     CombinationStrategyType getCombinationStrategyType();
     TreeWalkerType getWalkerType();
+    FixFieldStrategyType getFixFieldStrategyType();
     long getMaxRows();
+    int getPartitionThreads();
+    int getRandomThreads();
+    Shard getShard();
+    RandomNumberGeneratorType getRandomNumberGeneratorType();
+
+    /**
+     * @return the seed of the random number generator, or null to seed it from the clock
+     */
+    Long getSeed();
 
     MonitorType getMonitorType();
     boolean shouldDoPartitioning();
     boolean visualiseReductions();
     boolean requireFieldTyping();
     boolean dontOptimise();
+    boolean learnNogoods();
+    Path getTreeCacheDirectory();
 }
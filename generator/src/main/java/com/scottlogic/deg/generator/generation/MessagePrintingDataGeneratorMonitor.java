@@ -9,10 +9,13 @@ import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class MessagePrintingDataGeneratorMonitor implements ReductiveDataGeneratorMonitor {
     private final PrintWriter writer;
+    private final AtomicLong prunedTreeCacheHits = new AtomicLong();
+    private final AtomicLong prunedTreeCacheMisses = new AtomicLong();
 
     public MessagePrintingDataGeneratorMonitor(PrintWriter writer) {
         this.writer = writer;
@@ -32,6 +35,14 @@ public class MessagePrintingDataGeneratorMonitor implements ReductiveDataGenerat
         println("RowSpec emitted");
     }
 
+    @Override
+    public void endGeneration() {
+        println(
+            "Pruned tree cache: %d hits, %d misses",
+            prunedTreeCacheHits.get(),
+            prunedTreeCacheMisses.get());
+    }
+
     @Override
     public void fieldFixedToValue(Field field, Object current) {
         println("Field [%s] = %s", field.name, current);
@@ -66,4 +77,23 @@ public class MessagePrintingDataGeneratorMonitor implements ReductiveDataGenerat
             reductiveState.getFieldValues().size(),
             Objects.toString(emptyFieldSpecs));
     }
+
+    @Override
+    public void backjumped(Field field, ReductiveState reductiveState) {
+        println(
+            "%d: No values for field %s, jumping back to %s ",
+            reductiveState.getFieldValues().size(),
+            field,
+            reductiveState.toString(true));
+    }
+
+    @Override
+    public void prunedTreeCacheHit() {
+        prunedTreeCacheHits.incrementAndGet();
+    }
+
+    @Override
+    public void prunedTreeCacheMiss() {
+        prunedTreeCacheMisses.incrementAndGet();
+    }
 }
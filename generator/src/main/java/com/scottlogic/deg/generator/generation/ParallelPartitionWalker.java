@@ -0,0 +1,288 @@
+package com.scottlogic.deg.generator.generation;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.deg.common.util.DaemonThreadFactory;
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Optimises and walks the partitions of a decision tree, optionally on several threads at once.
+ *
+ * When more than one thread is configured the partitions are queued on a pool of at most partitionThreads workers.
+ * A worker pushes the DataBags of its partition into a bounded buffer. The buffers are exposed as streams, in
+ * partition order, so they can be handed straight to a CombinationStrategy.
+ *
+ * A partition is walked by whichever gets to it first: a worker, or the consuming thread when it reads from a
+ * partition that no worker has started. So a combination strategy that needs a row from a partition that is still
+ * queued, while every worker is blocked on a full buffer, walks that partition itself rather than deadlocking.
+ *
+ * Closing the returned stream closes the stream of every partition that has been walked, along with anything it owns,
+ * such as the workers of a partition walked by the random walker.
+ */
+public class ParallelPartitionWalker {
+    private static final int BUFFER_SIZE = 1000;
+    private static final Object END_OF_PARTITION = new Object();
+
+    private final int partitionThreads;
+    private final int bufferSize;
+
+    @Inject
+    public ParallelPartitionWalker(@Named("config:partitionThreads") int partitionThreads) {
+        this(partitionThreads, BUFFER_SIZE);
+    }
+
+    ParallelPartitionWalker(int partitionThreads, int bufferSize) {
+        this.partitionThreads = partitionThreads;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param partitionWalks the walk of each partition, in partition order, to be started when it is first needed
+     * @return the DataBags of each partition, in partition order
+     */
+    public Stream<Stream<DataBag>> walk(Stream<Supplier<Stream<DataBag>>> partitionWalks) {
+        if (partitionThreads <= 1) {
+            return walkOnConsumingThread(partitionWalks);
+        }
+
+        List<Supplier<Stream<DataBag>>> partitionList = partitionWalks.collect(Collectors.toList());
+        if (partitionList.size() <= 1) {
+            return walkOnConsumingThread(partitionList.stream());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(partitionThreads, partitionList.size()),
+            new DaemonThreadFactory("partition-walker"));
+
+        List<Partition> partitions = new ArrayList<>();
+        List<Stream<DataBag>> buffers = new ArrayList<>();
+        for (Supplier<Stream<DataBag>> partitionWalk : partitionList) {
+            Partition partition = new Partition(partitionWalk, new ArrayBlockingQueue<>(bufferSize));
+            partitions.add(partition);
+            executor.execute(partition::produce);
+            buffers.add(StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(partition.iterator(), Spliterator.ORDERED),
+                false));
+        }
+        executor.shutdown();
+
+        return buffers.stream().onClose(() -> {
+            executor.shutdownNow();
+            closeAll(partitions.stream().map(partition -> (Runnable) partition::close).collect(Collectors.toList()));
+        });
+    }
+
+    private static Stream<Stream<DataBag>> walkOnConsumingThread(Stream<Supplier<Stream<DataBag>>> partitionWalks) {
+        List<Stream<DataBag>> walked = new ArrayList<>();
+
+        return partitionWalks
+            .map(walk -> {
+                Stream<DataBag> partition = walk.get();
+                walked.add(partition);
+                return partition;
+            })
+            .onClose(() -> closeAll(walked.stream().map(partition -> (Runnable) partition::close).collect(Collectors.toList())));
+    }
+
+    /**
+     * Close every one of the partitions, even if closing one of them fails
+     */
+    private static void closeAll(List<Runnable> closers) {
+        RuntimeException failure = null;
+        for (Runnable close : closers) {
+            try {
+                close.run();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static class Partition {
+        private final Supplier<Stream<DataBag>> walk;
+        private final BlockingQueue<Object> buffer;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private Stream<DataBag> walked;
+        private boolean closed;
+
+        Partition(Supplier<Stream<DataBag>> walk, BlockingQueue<Object> buffer) {
+            this.walk = walk;
+            this.buffer = buffer;
+        }
+
+        void produce() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                Iterator<DataBag> dataBags = open().iterator();
+                while (dataBags.hasNext()) {
+                    buffer.put(dataBags.next());
+                }
+                buffer.put(END_OF_PARTITION);
+            } catch (InterruptedException e) {
+                // the consumer has gone away, nothing more to do
+            } catch (RuntimeException | Error e) {
+                try {
+                    buffer.put(new PartitionFailure(e));
+                } catch (InterruptedException ignored) {
+                    // the consumer has gone away, nothing more to do
+                }
+            }
+        }
+
+        /**
+         * Start walking the partition, on whichever thread got to it first
+         */
+        synchronized Stream<DataBag> open() {
+            if (closed) {
+                throw new IllegalStateException("The partition has already been closed");
+            }
+
+            walked = walk.get();
+            return walked;
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (walked != null) {
+                walked.close();
+            }
+        }
+
+        Iterator<DataBag> iterator() {
+            return new Iterator<DataBag>() {
+                private Iterator<DataBag> source;
+
+                @Override
+                public boolean hasNext() {
+                    return source().hasNext();
+                }
+
+                @Override
+                public DataBag next() {
+                    return source().next();
+                }
+
+                private Iterator<DataBag> source() {
+                    if (source == null) {
+                        source = started.compareAndSet(false, true)
+                            ? new WalkingIterator(() -> open().iterator())
+                            : new BufferIterator(buffer);
+                    }
+
+                    return source;
+                }
+            };
+        }
+    }
+
+    /**
+     * Walks a partition on the consuming thread, reporting failures the same way as a partition walked by a worker.
+     */
+    private static class WalkingIterator implements Iterator<DataBag> {
+        private final Supplier<Iterator<DataBag>> walk;
+        private Iterator<DataBag> dataBags;
+
+        WalkingIterator(Supplier<Iterator<DataBag>> walk) {
+            this.walk = walk;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                if (dataBags == null) {
+                    dataBags = walk.get();
+                }
+
+                return dataBags.hasNext();
+            } catch (RuntimeException | Error e) {
+                throw new IllegalStateException("Unable to generate data for partition", e);
+            }
+        }
+
+        @Override
+        public DataBag next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return dataBags.next();
+        }
+    }
+
+    private static class BufferIterator implements Iterator<DataBag> {
+        private final BlockingQueue<Object> buffer;
+        private Object next;
+
+        BufferIterator(BlockingQueue<Object> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = take();
+            }
+
+            if (next instanceof PartitionFailure) {
+                throw new IllegalStateException("Unable to generate data for partition", ((PartitionFailure) next).cause);
+            }
+
+            return next != END_OF_PARTITION;
+        }
+
+        @Override
+        public DataBag next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            DataBag dataBag = (DataBag) next;
+            next = null;
+            return dataBag;
+        }
+
+        private Object take() {
+            try {
+                return buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for partition data", e);
+            }
+        }
+    }
+
+    private static class PartitionFailure {
+        private final Throwable cause;
+
+        PartitionFailure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
@@ -12,4 +12,7 @@ public interface ReductiveDataGeneratorMonitor extends DataGeneratorMonitor {
     default void unableToStepFurther(ReductiveState reductiveState) {}
     default void noValuesForField(ReductiveState reductiveState, Field field) {}
     default void unableToEmitRowAsSomeFieldSpecsAreEmpty(ReductiveState reductiveState, Map<Field, FieldSpec> fieldSpecsPerField) {}
+    default void backjumped(Field field, ReductiveState reductiveState) {}
+    default void prunedTreeCacheHit() {}
+    default void prunedTreeCacheMiss() {}
 }
@@ -0,0 +1,182 @@
+package com.scottlogic.deg.generator.generation;
+
+import com.scottlogic.deg.common.util.FlatMappingSpliterator;
+import com.scottlogic.deg.generator.config.detail.Shard;
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.utils.RestartableIterator;
+import com.scottlogic.deg.generator.walker.PartialWalk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks one shard of the combined rows of several partitions, without walking the rows of the other shards. The rows
+ * are combined as by the ReductiveCombinationStrategy: each row of a partition with every combination of the rows of
+ * the partitions after it.
+ *
+ * The walks of the partitions nest into one tree of branches: the parts of the walk of the first partition, and for
+ * each of its rows, the parts of the walk of the next partition. Every shard splits the same branches, breadth first
+ * and in order, until there are at least BRANCHES_PER_SHARD of them for each shard, then deals them out to the shards
+ * in turn and walks only its own. Together the shards produce every row exactly once, and each produces its rows in
+ * the order they would be produced without sharding.
+ */
+class ShardedPartitionWalk {
+    private static final int BRANCHES_PER_SHARD = 16;
+
+    private final List<PartialWalk> partitions;
+    private final Shard shard;
+    private final List<RestartableIterator<DataBag>> laterPartitionRows = new ArrayList<>();
+    private final List<Stream<?>> openStreams = new ArrayList<>();
+
+    ShardedPartitionWalk(List<PartialWalk> partitions, Shard shard) {
+        this.partitions = partitions;
+        this.shard = shard;
+    }
+
+    Stream<DataBag> walk() {
+        if (partitions.isEmpty()) {
+            return shard.select(Stream.of(DataBag.empty));
+        }
+
+        for (PartialWalk partition : partitions.subList(1, partitions.size())) {
+            laterPartitionRows.add(new RestartableIterator<>(open(partition.walk()).iterator()));
+        }
+
+        Stream<Branch> branches = splitIntoBranches(new Branch(0, partitions.get(0), DataBag.empty));
+
+        return FlatMappingSpliterator.flatMap(shard.select(branches), Branch::walk)
+            .onClose(this::closeOpenStreams);
+    }
+
+    /**
+     * Split the branches one level at a time, keeping them in order, until there are enough to deal out to the shards
+     * or every branch is a single row. The branches still to be split when there are enough are left as they are.
+     */
+    private Stream<Branch> splitIntoBranches(Branch root) {
+        int branchesRequired = BRANCHES_PER_SHARD * shard.getCount();
+        List<Branch> level = new ArrayList<>();
+        level.add(root);
+
+        while (true) {
+            List<Branch> nextLevel = new ArrayList<>();
+            boolean anySplit = false;
+
+            for (int index = 0; index < level.size(); index++) {
+                if (nextLevel.size() + level.size() - index >= branchesRequired) {
+                    return Stream.concat(nextLevel.stream(), level.subList(index, level.size()).stream());
+                }
+
+                Branch branch = level.get(index);
+                if (branch.isCombinedRow()) {
+                    nextLevel.add(branch);
+                    continue;
+                }
+
+                anySplit = true;
+                Iterator<Branch> parts = open(branch.split()).iterator();
+                while (parts.hasNext()) {
+                    nextLevel.add(parts.next());
+
+                    if (nextLevel.size() + level.size() - index - 1 >= branchesRequired) {
+                        return Stream.concat(
+                            nextLevel.stream(),
+                            Stream.concat(stream(parts), level.subList(index + 1, level.size()).stream()));
+                    }
+                }
+            }
+
+            if (!anySplit) {
+                return nextLevel.stream();
+            }
+
+            level = nextLevel;
+        }
+    }
+
+    private Stream<DataBag> combineWithLaterPartitions(DataBag accumulatingBag, int partitionIndex) {
+        if (partitionIndex < partitions.size()) {
+            RestartableIterator<DataBag> rows = laterPartitionRows.get(partitionIndex - 1);
+            rows.restart();
+
+            return FlatMappingSpliterator.flatMap(
+                stream(rows).map(innerBag -> DataBag.merge(innerBag, accumulatingBag)),
+                innerBag -> combineWithLaterPartitions(innerBag, partitionIndex + 1));
+        }
+        else
+            return Stream.of(accumulatingBag);
+    }
+
+    private <T> Stream<T> open(Stream<T> stream) {
+        openStreams.add(stream);
+        return stream;
+    }
+
+    private void closeOpenStreams() {
+        RuntimeException failure = null;
+        for (Stream<?> stream : openStreams) {
+            try {
+                stream.close();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static <T> Stream<T> stream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * A part of the walk of one partition, combined with a row from each of the partitions before it
+     */
+    private class Branch {
+        private final int partitionIndex;
+        private final PartialWalk part;
+        private final DataBag accumulatingBag;
+
+        Branch(int partitionIndex, PartialWalk part, DataBag accumulatingBag) {
+            this.partitionIndex = partitionIndex;
+            this.part = part;
+            this.accumulatingBag = accumulatingBag;
+        }
+
+        /**
+         * Whether this branch is a single row of the last partition, combined with a row from each of the others
+         */
+        boolean isCombinedRow() {
+            return partitionIndex == partitions.size() - 1 && part.getRow().isPresent();
+        }
+
+        /**
+         * Split the part of the walk of this partition, or once it is a single row, move on to the next partition
+         */
+        Stream<Branch> split() {
+            return part.getRow()
+                .map(row -> Stream.of(new Branch(
+                    partitionIndex + 1,
+                    partitions.get(partitionIndex + 1),
+                    DataBag.merge(row, accumulatingBag))))
+                .orElseGet(() -> part.split()
+                    .map(smallerPart -> new Branch(partitionIndex, smallerPart, accumulatingBag)));
+        }
+
+        Stream<DataBag> walk() {
+            return FlatMappingSpliterator.flatMap(
+                part.walk().map(innerBag -> DataBag.merge(innerBag, accumulatingBag)),
+                innerBag -> combineWithLaterPartitions(innerBag, partitionIndex + 1));
+        }
+    }
+}
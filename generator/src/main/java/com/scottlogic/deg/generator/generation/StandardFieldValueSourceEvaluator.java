@@ -1,6 +1,7 @@
 package com.scottlogic.deg.generator.generation;
 
 import com.scottlogic.deg.common.profile.constraints.atomic.IsOfTypeConstraint;
+import com.scottlogic.deg.common.util.SortedStringTable;
 import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.*;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.datetime.DateTimeFieldValueSource;
@@ -62,9 +63,12 @@ public class StandardFieldValueSourceEvaluator implements FieldValueSourceEvalua
             return Collections.emptyList();
         }
 
+        // sets read from files are kept off the heap, and each value is only retrieved from them as it is generated
         return Collections.singletonList(
             new CannedValuesFieldValueSource(
-                new ArrayList<>(whitelist)));
+                whitelist instanceof SortedStringTable
+                    ? ((SortedStringTable) whitelist).asList()
+                    : new ArrayList<>(whitelist)));
     }
 
     private FieldValueSource getNumericSource(FieldSpec fieldSpec) {
@@ -72,6 +76,12 @@ public class StandardFieldValueSourceEvaluator implements FieldValueSourceEvalua
             ? new NumericRestrictions()
             : fieldSpec.getNumericRestrictions();
 
+        if (IntegerFieldValueSource.canGenerate(restrictions)) {
+            return new IntegerFieldValueSource(
+                restrictions,
+                getBlacklist(fieldSpec));
+        }
+
         return new RealNumberFieldValueSource(
             restrictions,
             getBlacklist(fieldSpec));
@@ -1,9 +1,30 @@
 package com.scottlogic.deg.generator.generation.combinationstrategies;
 
+import com.scottlogic.deg.generator.config.detail.Shard;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
 
 import java.util.stream.Stream;
 
 public interface CombinationStrategy {
     Stream<DataBag> permute(Stream<Stream<DataBag>> dataBagSequences);
+
+    /**
+     * Whether permute() produces every combination of the sequences, the first sequence changing slowest and the last
+     * fastest, so that the combinations can instead be numbered and produced by a MixedRadixRowIndex
+     */
+    boolean isExhaustive();
+
+    /**
+     * Whether permute() combines each item of a sequence with every combination of the items of the sequences after
+     * it, in order, so that the combinations of one shard can be produced by a ShardedPartitionWalk instead
+     */
+    boolean nestsSequences();
+
+    /**
+     * Produce only the combinations that belong to the given shard, by producing every combination and discarding
+     * those belonging to other shards
+     */
+    default Stream<DataBag> permute(Stream<Stream<DataBag>> dataBagSequences, Shard shard) {
+        return shard.select(permute(dataBagSequences));
+    }
 }
@@ -10,6 +10,16 @@ import java.util.stream.StreamSupport;
 
 public class ExhaustiveCombinationStrategy implements CombinationStrategy {
 
+    @Override
+    public boolean isExhaustive() {
+        return true;
+    }
+
+    @Override
+    public boolean nestsSequences() {
+        return true;
+    }
+
     @Override
     public Stream<DataBag> permute(Stream<Stream<DataBag>> dataBagSequences) {
 
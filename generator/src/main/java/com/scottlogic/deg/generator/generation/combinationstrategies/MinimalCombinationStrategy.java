@@ -7,6 +7,16 @@ import java.util.stream.*;
 
 public class MinimalCombinationStrategy implements CombinationStrategy {
 
+    @Override
+    public boolean isExhaustive() {
+        return false;
+    }
+
+    @Override
+    public boolean nestsSequences() {
+        return false;
+    }
+
     @Override
     public Stream<DataBag> permute(Stream<Stream<DataBag>> dataBagSequences) {
         List<Iterator<DataBag>> iterators = dataBagSequences
@@ -12,6 +12,16 @@ import java.util.stream.StreamSupport;
 
 public class PinningCombinationStrategy implements CombinationStrategy {
 
+    @Override
+    public boolean isExhaustive() {
+        return false;
+    }
+
+    @Override
+    public boolean nestsSequences() {
+        return false;
+    }
+
     @Override
     public Stream<DataBag> permute(Stream<Stream<DataBag>> dataBagSequences) {
         Iterable<DataBag> iterable = new PinningCombinationStrategy
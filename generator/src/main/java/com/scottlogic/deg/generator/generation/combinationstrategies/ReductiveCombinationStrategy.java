@@ -12,6 +12,16 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class ReductiveCombinationStrategy implements CombinationStrategy {
+    @Override
+    public boolean isExhaustive() {
+        return false;
+    }
+
+    @Override
+    public boolean nestsSequences() {
+        return true;
+    }
+
     @Override
     public Stream<DataBag> permute(Stream<Stream<DataBag>> dataBagSequences) {
         List<RestartableIterator<DataBag>> bagsAsLists = dataBagSequences
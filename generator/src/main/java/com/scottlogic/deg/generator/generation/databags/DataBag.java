@@ -1,34 +1,71 @@
 package com.scottlogic.deg.generator.generation.databags;
 
 import com.scottlogic.deg.common.profile.Field;
-import com.scottlogic.deg.common.util.FlatMappingSpliterator;
+import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.common.output.GeneratedObject;
 
 import java.util.*;
 
-
+/**
+ * The values of some of the fields of a profile, kept in an array indexed by the ordinals of the fields.
+ *
+ * DataBags made for fields with the same ordinals, e.g. from the partitions of one profile, are merged by copying
+ * their arrays into the merged one. DataBags made for unrelated fields are merged field by field.
+ */
 public class DataBag implements GeneratedObject {
-    public static final DataBag empty = new DataBag(new HashMap<>());
+    public static final DataBag empty = new DataBag(new ProfileFields(Collections.emptyList()), new DataBagValue[0], 0);
 
-    private final Map<Field, DataBagValue> fieldToValue;
+    private final ProfileFields fields;
+    private final DataBagValue[] values;
+    private final int size;
 
     public DataBag(Map<Field, DataBagValue> fieldToValue) {
-        this.fieldToValue = fieldToValue;
+        this(new ProfileFields(new ArrayList<>(fieldToValue.keySet())), fieldToValue);
+    }
+
+    /**
+     * Create a DataBag for the given values, each of which must be for one of the fields, or the fields they were
+     * taken from
+     */
+    public DataBag(ProfileFields fields, Map<Field, DataBagValue> fieldToValue) {
+        this(fields, toArray(fields, fieldToValue), fieldToValue.size());
+    }
+
+    /**
+     * Create a DataBag from values indexed by the ordinals of the fields, which the DataBag takes ownership of
+     */
+    DataBag(ProfileFields fields, DataBagValue[] values) {
+        this(fields, values, countValues(values));
+    }
+
+    private DataBag(ProfileFields fields, DataBagValue[] values, int size) {
+        this.fields = fields;
+        this.values = values;
+        this.size = size;
     }
 
     public DataBagValue getDataBagValue(Field field) {
-        if (!fieldToValue.containsKey(field))
+        DataBagValue value = getValueOrNull(field);
+        if (value == null)
             throw new IllegalStateException("Databag has no value stored for " + field);
 
-        return fieldToValue.get(field);
+        return value;
     }
 
     @Override
     public Object getFormattedValue(Field field) {
-        if (!fieldToValue.containsKey(field))
+        DataBagValue value = getValueOrNull(field);
+        if (value == null)
             throw new IllegalStateException("DataBag has no value stored for " + field);
 
-        return fieldToValue.get(field).getFormattedValue();
+        return value.getFormattedValue();
+    }
+
+    private DataBagValue getValueOrNull(Field field) {
+        int ordinal = fields.getOrdinal(field);
+        return ordinal < 0 || ordinal >= values.length
+            ? null
+            : values[ordinal];
     }
 
     @Override
@@ -36,27 +73,111 @@ public class DataBag implements GeneratedObject {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DataBag generatedObject = (DataBag) o;
-        return Objects.equals(fieldToValue, generatedObject.fieldToValue);
+        if (size != generatedObject.size) return false;
+
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null
+                && !values[ordinal].equals(generatedObject.getValueOrNull(fields.getFieldWithOrdinal(ordinal)))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(fieldToValue);
+        int hashCode = 0;
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null) {
+                hashCode += fields.getFieldWithOrdinal(ordinal).hashCode() ^ values[ordinal].hashCode();
+            }
+        }
+
+        return hashCode;
     }
 
     public static DataBag merge(DataBag... bags) {
+        ProfileFields mergedFields = null;
+        for (DataBag bag : bags) {
+            if (bag.size == 0) {
+                continue;
+            }
+
+            if (mergedFields == null) {
+                mergedFields = bag.fields;
+            } else if (!mergedFields.hasSameOrdinals(bag.fields)) {
+                return mergeByField(bags);
+            }
+        }
+
+        if (mergedFields == null) {
+            return empty;
+        }
+
+        DataBagValue[] mergedValues = new DataBagValue[mergedFields.getOrdinalCount()];
+        int mergedSize = 0;
+        for (DataBag bag : bags) {
+            for (int ordinal = 0; ordinal < bag.values.length; ordinal++) {
+                DataBagValue value = bag.values[ordinal];
+                if (value == null) {
+                    continue;
+                }
+
+                if (mergedValues[ordinal] != null)
+                    throw overlapping(mergedFields.getFieldWithOrdinal(ordinal));
+
+                mergedValues[ordinal] = value;
+                mergedSize++;
+            }
+        }
+
+        return new DataBag(mergedFields, mergedValues, mergedSize);
+    }
+
+    private static DataBag mergeByField(DataBag... bags) {
         Map<Field, DataBagValue> newFieldToValue = new HashMap<>();
 
-        FlatMappingSpliterator.flatMap(Arrays.stream(bags)
-            .map(r -> r.fieldToValue.entrySet().stream()),
-            entrySetStream -> entrySetStream)
-            .forEach(entry -> {
-                if (newFieldToValue.containsKey(entry.getKey()))
-                    throw new IllegalArgumentException("Databags can't be merged because they overlap on field " + entry.getKey().name);
+        for (DataBag bag : bags) {
+            for (int ordinal = 0; ordinal < bag.values.length; ordinal++) {
+                if (bag.values[ordinal] == null) {
+                    continue;
+                }
 
-                newFieldToValue.put(entry.getKey(), entry.getValue());
-            });
+                Field field = bag.fields.getFieldWithOrdinal(ordinal);
+                if (newFieldToValue.putIfAbsent(field, bag.values[ordinal]) != null)
+                    throw overlapping(field);
+            }
+        }
 
         return new DataBag(newFieldToValue);
     }
+
+    private static IllegalArgumentException overlapping(Field field) {
+        return new IllegalArgumentException("Databags can't be merged because they overlap on field " + field.name);
+    }
+
+    private static DataBagValue[] toArray(ProfileFields fields, Map<Field, DataBagValue> fieldToValue) {
+        DataBagValue[] values = new DataBagValue[fields.getOrdinalCount()];
+        fieldToValue.forEach((field, value) -> {
+            int ordinal = fields.getOrdinal(field);
+            if (ordinal < 0)
+                throw new IllegalArgumentException("Profile fields do not contain " + field);
+
+            values[ordinal] = value;
+        });
+
+        return values;
+    }
+
+    private static int countValues(DataBagValue[] values) {
+        int count = 0;
+        for (DataBagValue value : values) {
+            if (value != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
 }
@@ -4,15 +4,27 @@ import java.util.Objects;
 
 public class DataBagValue {
     private final Object value;
-    private final String format;
+    private final ValueFormatter formatter;
+    private Object formattedValue;
 
     public DataBagValue(Object value, String format){
-        this.value = value;
-        this.format = format;
+        this(value, ValueFormatter.compile(format));
     }
 
     public DataBagValue(Object value) {
-        this(value, null);
+        this(value, ValueFormatter.compile(null));
+    }
+
+    private DataBagValue(Object value, ValueFormatter formatter){
+        this.value = value;
+        this.formatter = formatter;
+    }
+
+    /**
+     * Create a value formatted by a formatter that has already been compiled for its field
+     */
+    public static DataBagValue withFormatter(Object value, ValueFormatter formatter) {
+        return new DataBagValue(value, formatter);
     }
 
     @Override
@@ -21,24 +33,27 @@ public class DataBagValue {
         if (o == null || getClass() != o.getClass()) return false;
         DataBagValue that = (DataBagValue) o;
         return Objects.equals(value, that.value) &&
-            Objects.equals(format, that.format);
+            Objects.equals(formatter.getFormat(), that.formatter.getFormat());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, format);
+        return Objects.hash(value, formatter.getFormat());
     }
 
+    /**
+     * @return the value formatted with the format of its field, which is only formatted the first time it is read
+     */
     public Object getFormattedValue() {
-        if (format == null || value == null) {
-            return value;
+        // racing threads format the value to equal, immutable results, so the cache needn't be synchronised
+        if (formattedValue == null) {
+            formattedValue = formatter.format(value);
         }
 
-        return String.format(format, value);
+        return formattedValue;
     }
 
     public Object getUnformattedValue(){
         return value;
     }
 }
-
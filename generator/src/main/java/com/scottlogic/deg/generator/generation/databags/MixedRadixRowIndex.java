@@ -0,0 +1,125 @@
+package com.scottlogic.deg.generator.generation.databags;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Addresses every combination of the values of some fields by a single row number, so that any row can be produced
+ * without producing the rows before it.
+ *
+ * Rows are in the same order as the ExhaustiveCombinationStrategy, where the first field changes slowest and the last
+ * field fastest. The row number is decoded as a mixed-radix number, each field being a digit whose radix is the
+ * number of values the field has.
+ */
+public class MixedRadixRowIndex {
+    private final ProfileFields profileFields;
+    private final List<IndexedField> fields;
+    private final int[] ordinals;
+    private final long[] valueCounts;
+    private final long rowCount;
+
+    private MixedRadixRowIndex(
+        ProfileFields profileFields,
+        List<IndexedField> fields,
+        int[] ordinals,
+        long[] valueCounts,
+        long rowCount) {
+        this.profileFields = profileFields;
+        this.fields = fields;
+        this.ordinals = ordinals;
+        this.valueCounts = valueCounts;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * @return the row index, or empty if a field's values can't be retrieved by index or there are too many rows to
+     * number with a long
+     */
+    public static Optional<MixedRadixRowIndex> create(List<IndexedField> fields) {
+        return create(
+            new ProfileFields(fields.stream().map(field -> field.field).collect(Collectors.toList())),
+            fields);
+    }
+
+    /**
+     * @param profileFields the fields whose ordinals the rows are stored by, which must include every indexed field
+     * @return the row index, or empty if a field's values can't be retrieved by index or there are too many rows to
+     * number with a long
+     */
+    public static Optional<MixedRadixRowIndex> create(ProfileFields profileFields, List<IndexedField> fields) {
+        int[] ordinals = new int[fields.size()];
+        long[] valueCounts = new long[fields.size()];
+        long rowCount = 1;
+        for (int fieldIndex = 0; fieldIndex < fields.size(); fieldIndex++) {
+            ordinals[fieldIndex] = profileFields.getOrdinal(fields.get(fieldIndex).field);
+            if (ordinals[fieldIndex] < 0) {
+                throw new IllegalArgumentException("Profile fields do not contain " + fields.get(fieldIndex).field);
+            }
+
+            FieldValueSource source = fields.get(fieldIndex).source;
+            if (!source.isIndexable()) {
+                return Optional.empty();
+            }
+
+            valueCounts[fieldIndex] = source.getValueCount();
+            try {
+                rowCount = Math.multiplyExact(rowCount, valueCounts[fieldIndex]);
+            } catch (ArithmeticException e) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(new MixedRadixRowIndex(profileFields, new ArrayList<>(fields), ordinals, valueCounts, rowCount));
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public DataBag getRow(long rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + rowIndex + " is outside of the " + rowCount + " rows");
+        }
+
+        DataBagValue[] values = new DataBagValue[profileFields.getOrdinalCount()];
+        long remainingIndex = rowIndex;
+        for (int fieldIndex = fields.size() - 1; fieldIndex >= 0; fieldIndex--) {
+            IndexedField field = fields.get(fieldIndex);
+            long valueCount = valueCounts[fieldIndex];
+
+            values[ordinals[fieldIndex]] =
+                DataBagValue.withFormatter(field.source.getValueAtIndex(remainingIndex % valueCount), field.formatter);
+            remainingIndex /= valueCount;
+        }
+
+        return new DataBag(profileFields, values);
+    }
+
+    /**
+     * @return every row from the given row number onwards, in order
+     */
+    public Stream<DataBag> getRows(long firstRowIndex) {
+        return LongStream.range(firstRowIndex, rowCount)
+            .mapToObj(this::getRow);
+    }
+
+    public static class IndexedField {
+        private final Field field;
+        private final FieldValueSource source;
+        private final ValueFormatter formatter;
+
+        public IndexedField(Field field, FieldValueSource source, String format) {
+            this.field = field;
+            this.source = source;
+            this.formatter = ValueFormatter.compile(format);
+        }
+    }
+}
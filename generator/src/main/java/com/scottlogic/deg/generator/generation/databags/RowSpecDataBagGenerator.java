@@ -1,13 +1,15 @@
 package com.scottlogic.deg.generator.generation.databags;
 import com.google.inject.Inject;
 import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.fieldspecs.RowSpec;
 import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
 import com.scottlogic.deg.generator.generation.combinationstrategies.CombinationStrategy;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class RowSpecDataBagGenerator {
@@ -23,7 +25,21 @@ public class RowSpecDataBagGenerator {
         this.combinationStrategy = combinationStrategy;
     }
 
+    /**
+     * Create a generator that behaves in the same way as this one, but draws random values from the given generator
+     */
+    public RowSpecDataBagGenerator withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator) {
+        return new RowSpecDataBagGenerator(generator.withRandomNumberGenerator(randomNumberGenerator), combinationStrategy);
+    }
+
     public Stream<DataBag> createDataBags(RowSpec rowSpec) {
+        if (combinationStrategy.isExhaustive()) {
+            Optional<MixedRadixRowIndex> rowIndex = createRowIndex(rowSpec);
+            if (rowIndex.isPresent()) {
+                return rowIndex.get().getRows(0);
+            }
+        }
+
         Stream<Stream<DataBag>> dataBagsForFields =
             rowSpec.getFields().stream()
                 .map(field -> generateDataForField(rowSpec, field));
@@ -31,15 +47,37 @@ public class RowSpecDataBagGenerator {
         return combinationStrategy.permute(dataBagsForFields);
     }
 
+    /**
+     * Number every exhaustive combination of the field values of the row spec, so that generation can start from any
+     * row. Only possible when generating all values and every field's values can be retrieved by index.
+     */
+    public Optional<MixedRadixRowIndex> createRowIndex(RowSpec rowSpec) {
+        if (!generator.canGenerateByIndex()) {
+            return Optional.empty();
+        }
+
+        return MixedRadixRowIndex.create(
+            rowSpec.getFields(),
+            rowSpec.getFields().stream()
+                .map(field -> {
+                    FieldSpec fieldSpec = rowSpec.getSpecForField(field);
+                    return new MixedRadixRowIndex.IndexedField(
+                        field,
+                        generator.getFieldValueSource(fieldSpec),
+                        fieldSpec.getFormatting());
+                })
+                .collect(Collectors.toList()));
+    }
+
     private Stream<DataBag> generateDataForField(RowSpec rowSpec, Field field) {
         FieldSpec fieldSpec = rowSpec.getSpecForField(field);
 
-        return generator.generate(fieldSpec).map(value->toDataBag(field, value));
+        return generator.generate(fieldSpec).map(value->toDataBag(rowSpec.getFields(), field, value));
     }
 
-    private DataBag toDataBag(Field field, DataBagValue value) {
-        Map<Field, DataBagValue> map = new HashMap<>();
-        map.put(field, value);
-        return new DataBag(map);
+    private DataBag toDataBag(ProfileFields fields, Field field, DataBagValue value) {
+        DataBagValue[] values = new DataBagValue[fields.getOrdinalCount()];
+        values[fields.getOrdinal(field)] = value;
+        return new DataBag(fields, values);
     }
 }
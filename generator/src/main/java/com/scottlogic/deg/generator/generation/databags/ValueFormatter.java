@@ -0,0 +1,153 @@
+package com.scottlogic.deg.generator.generation.databags;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.time.OffsetDateTime;
+import java.util.Formattable;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Formats values with a field's formatting string, as String.format would.
+ *
+ * The formatting string is examined once, when the formatter is compiled, rather than for every value. The most
+ * common formats - %s, %d, %.Nf and %tF - are produced directly for the types of value the generator creates;
+ * any other format or type of value is passed to String.format.
+ */
+public class ValueFormatter {
+    private static final ValueFormatter unformatted = new ValueFormatter(null, value -> null);
+
+    private final String format;
+    private final Function<Object, String> fastFormat;
+
+    private ValueFormatter(String format, Function<Object, String> fastFormat) {
+        this.format = format;
+        this.fastFormat = fastFormat;
+    }
+
+    /**
+     * @param format the formatting string, or null if values aren't formatted
+     */
+    public static ValueFormatter compile(String format) {
+        if (format == null) {
+            return unformatted;
+        }
+
+        return new ValueFormatter(format, getFastFormat(format));
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the formatted value, or the value itself if there is no format or no value
+     */
+    public Object format(Object value) {
+        if (format == null || value == null) {
+            return value;
+        }
+
+        String formatted = fastFormat.apply(value);
+        return formatted != null
+            ? formatted
+            : String.format(format, value);
+    }
+
+    /**
+     * @return a function that formats the values it can format as String.format would, and returns null for others
+     */
+    private static Function<Object, String> getFastFormat(String format) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT));
+        boolean asciiDigits = symbols.getZeroDigit() == '0';
+
+        if (format.equals("%s")) {
+            return ValueFormatter::formatString;
+        }
+        if (format.equals("%d") && asciiDigits) {
+            return ValueFormatter::formatInteger;
+        }
+        if (format.equals("%tF") && asciiDigits) {
+            return ValueFormatter::formatIsoDate;
+        }
+
+        int precision = getFixedPointPrecision(format);
+        if (precision >= 0 && asciiDigits && symbols.getDecimalSeparator() == '.') {
+            return value -> formatFixedPoint(value, precision);
+        }
+
+        return value -> null;
+    }
+
+    /**
+     * @return N for a format of %.Nf, otherwise -1
+     */
+    private static int getFixedPointPrecision(String format) {
+        if (format.length() < 4 || format.length() > 6 || !format.startsWith("%.") || !format.endsWith("f")) {
+            return -1;
+        }
+
+        int precision = 0;
+        for (int i = 2; i < format.length() - 1; i++) {
+            char digit = format.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+
+            precision = precision * 10 + (digit - '0');
+        }
+
+        return precision;
+    }
+
+    private static String formatString(Object value) {
+        return value instanceof Formattable
+            ? null
+            : value.toString();
+    }
+
+    private static String formatInteger(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof BigInteger
+            ? value.toString()
+            : null;
+    }
+
+    private static String formatFixedPoint(Object value, int precision) {
+        if (!(value instanceof BigDecimal)) {
+            return null;
+        }
+
+        // the sign is that of the value before rounding, so a small negative value is formatted as -0.00
+        BigDecimal decimal = (BigDecimal) value;
+        String magnitude = decimal.abs().setScale(precision, RoundingMode.HALF_UP).toPlainString();
+        return decimal.signum() < 0
+            ? "-" + magnitude
+            : magnitude;
+    }
+
+    private static String formatIsoDate(Object value) {
+        if (!(value instanceof OffsetDateTime) || ((OffsetDateTime) value).getYear() < 0) {
+            return null;
+        }
+
+        OffsetDateTime dateTime = (OffsetDateTime) value;
+        StringBuilder formatted = new StringBuilder(10);
+        appendPadded(formatted, dateTime.getYear(), 4);
+        formatted.append('-');
+        appendPadded(formatted, dateTime.getMonthValue(), 2);
+        formatted.append('-');
+        appendPadded(formatted, dateTime.getDayOfMonth(), 2);
+        return formatted.toString();
+    }
+
+    private static void appendPadded(StringBuilder builder, int value, int width) {
+        String digits = Integer.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            builder.append('0');
+        }
+
+        builder.append(digits);
+    }
+}
@@ -0,0 +1,49 @@
+package com.scottlogic.deg.generator.generation.fieldvaluesources;
+
+import java.util.stream.LongStream;
+
+/**
+ * The positions of blacklisted values among all of the values of a source, counted from 0 at its first value.
+ *
+ * Keeps the positions sorted so that the index of a value among the values that are not blacklisted can be turned into
+ * its position among all of the values with a binary search, rather than by stepping past each blacklisted value or by
+ * picking positions until one is not blacklisted.
+ */
+public class BlacklistedPositions {
+    private final long[] sortedPositions;
+
+    public BlacklistedPositions(LongStream positions) {
+        this.sortedPositions = positions.distinct().sorted().toArray();
+    }
+
+    /**
+     * @return the number of blacklisted positions
+     */
+    public int size() {
+        return sortedPositions.length;
+    }
+
+    /**
+     * The (i)th blacklisted position has (position - i) values that are not blacklisted before it, which never
+     * decreases from one blacklisted position to the next; the value at the index is after every blacklisted position
+     * with at most index values before it, and before the rest.
+     * 0,1,2,3,4,5 with 1 and 3 blacklisted, index 2 -> position 4
+     *
+     * @param index the index of a value among the values that are not blacklisted
+     * @return the position of that value among all of the values
+     */
+    public long getPosition(long index) {
+        int low = 0;
+        int high = sortedPositions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedPositions[middle] - middle <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return index + low;
+    }
+}
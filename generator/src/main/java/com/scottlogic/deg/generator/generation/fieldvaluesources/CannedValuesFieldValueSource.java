@@ -48,6 +48,16 @@ public class CannedValuesFieldValueSource implements FieldValueSource {
                     this.allValues.size())));
     }
 
+    @Override
+    public boolean isIndexable() {
+        return true;
+    }
+
+    @Override
+    public Object getValueAtIndex(long index) {
+        return this.allValues.get(Math.toIntExact(index));
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -53,6 +53,26 @@ public class CombiningFieldValueSource implements FieldValueSource {
             randomNumberGenerator);
     }
 
+    @Override
+    public boolean isIndexable() {
+        return underlyingSources.stream().allMatch(FieldValueSource::isIndexable);
+    }
+
+    @Override
+    public Object getValueAtIndex(long index) {
+        long indexInSource = index;
+        for (FieldValueSource source : underlyingSources) {
+            long valueCount = source.getValueCount();
+            if (indexInSource < valueCount) {
+                return source.getValueAtIndex(indexInSource);
+            }
+
+            indexInSource -= valueCount;
+        }
+
+        throw new IndexOutOfBoundsException("Index " + index + " is beyond the end of the values");
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
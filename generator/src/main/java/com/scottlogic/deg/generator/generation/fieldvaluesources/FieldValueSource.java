@@ -11,5 +11,16 @@ public interface FieldValueSource {
     Iterable<Object> generateAllValues();
 
     Iterable<Object> generateRandomValues(RandomNumberGenerator randomNumberGenerator);
-}
 
+    /**
+     * Whether every value of generateAllValues() can be retrieved directly with getValueAtIndex()
+     */
+    boolean isIndexable();
+
+    /**
+     * Get the value at the given (zero-based) position of generateAllValues(), without producing the values before it
+     *
+     * @throws IllegalStateException if the source is not indexable
+     */
+    Object getValueAtIndex(long index);
+}
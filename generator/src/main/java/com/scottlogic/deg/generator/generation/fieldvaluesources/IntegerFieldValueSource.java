@@ -0,0 +1,247 @@
+package com.scottlogic.deg.generator.generation.fieldvaluesources;
+
+import com.scottlogic.deg.common.util.NumberUtils;
+import com.scottlogic.deg.generator.restrictions.NumericRestrictions;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.SupplierBasedIterator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Produces the same values as a RealNumberFieldValueSource for restrictions of scale 0 whose limits are within the
+ * range of a long, but steps through them, checks the blacklist and picks random values with primitive longs.
+ *
+ * Values are only made into BigDecimals as they are handed out. They can't be handed out as Longs: the values fixed by
+ * the reductive walker are checked against the sets and blacklists of the profile, which hold BigDecimals and compare
+ * values with equals, so a Long would never match them; and the %f formats and JSON writers expect BigDecimals.
+ */
+public class IntegerFieldValueSource implements FieldValueSource {
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final long inclusiveLowerLimit;
+    private final long inclusiveUpperLimit;
+    private final long[] sortedBlacklist;
+    private final long valueCount;
+    private final BlacklistedPositions blacklistedPositions;
+
+    public IntegerFieldValueSource(NumericRestrictions restrictions, Set<Object> blacklist) {
+        if (!canGenerate(restrictions)) {
+            throw new IllegalArgumentException("Restrictions are not of whole numbers within the range of a long");
+        }
+
+        BigDecimal lowerLimit = RealNumberFieldValueSource.getInclusiveLowerLimit(restrictions);
+        BigDecimal upperLimit = RealNumberFieldValueSource.getInclusiveUpperLimit(restrictions);
+        this.inclusiveLowerLimit = lowerLimit.longValueExact();
+        this.inclusiveUpperLimit = upperLimit.longValueExact();
+
+        this.sortedBlacklist = blacklist.stream()
+            .map(NumberUtils::coerceToBigDecimal)
+            .filter(Objects::nonNull)
+            .map(i -> i.setScale(0, RoundingMode.HALF_UP))
+            .filter(i -> lowerLimit.compareTo(i) <= 0 && i.compareTo(upperLimit) <= 0)
+            .mapToLong(BigDecimal::longValueExact)
+            .distinct()
+            .sorted()
+            .toArray();
+
+        this.valueCount = countValues(lowerLimit, upperLimit, sortedBlacklist.length);
+
+        // positions can only be counted from the lower limit without overflowing when there are fewer values than
+        // Long.MAX_VALUE, and the few blacklisted values of a larger range are only picked at random once in 2^63 times
+        this.blacklistedPositions = isIndexable()
+            ? new BlacklistedPositions(Arrays.stream(sortedBlacklist).map(value -> value - inclusiveLowerLimit))
+            : null;
+    }
+
+    /**
+     * @return whether the values of the restrictions are all whole numbers, between limits that fit in a long
+     */
+    public static boolean canGenerate(NumericRestrictions restrictions) {
+        return restrictions.getNumericScale() == 0
+            && RealNumberFieldValueSource.getInclusiveLowerLimit(restrictions).compareTo(MIN_LONG) >= 0
+            && RealNumberFieldValueSource.getInclusiveUpperLimit(restrictions).compareTo(MAX_LONG) <= 0;
+    }
+
+    private static long countValues(BigDecimal lowerLimit, BigDecimal upperLimit, int blacklistedValues) {
+        if (upperLimit.compareTo(lowerLimit) < 0) {
+            return 0;
+        }
+
+        BigDecimal count = upperLimit.subtract(lowerLimit)
+            .add(BigDecimal.valueOf(1L - blacklistedValues));
+
+        return count.compareTo(MAX_LONG) >= 0
+            ? Long.MAX_VALUE
+            : count.longValue();
+    }
+
+    @Override
+    public boolean isFinite() {
+        return true;
+    }
+
+    @Override
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    @Override
+    public boolean isIndexable() {
+        return valueCount < Long.MAX_VALUE;
+    }
+
+    @Override
+    public Object getValueAtIndex(long index) {
+        if (!isIndexable()) {
+            throw new IllegalStateException("Cannot retrieve values by index from more than Long.MAX_VALUE values");
+        }
+        if (index < 0 || index >= valueCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " is beyond the end of the values");
+        }
+
+        return BigDecimal.valueOf(inclusiveLowerLimit + blacklistedPositions.getPosition(index));
+    }
+
+    @Override
+    public Iterable<Object> generateInterestingValues() {
+        long nearUpperLimit = inclusiveUpperLimit > inclusiveLowerLimit
+            ? inclusiveUpperLimit - 1
+            : inclusiveLowerLimit;
+
+        return () -> LongStream.concat(
+                LongStream.concat(
+                    streamFrom(inclusiveLowerLimit).limit(2),
+                    streamFrom(0).limit(1)),
+                streamFrom(nearUpperLimit).limit(2))
+            .distinct()
+            .mapToObj(value -> (Object) BigDecimal.valueOf(value))
+            .iterator();
+    }
+
+    @Override
+    public Iterable<Object> generateAllValues() {
+        return () -> {
+            IntegerIterator values = new IntegerIterator(inclusiveLowerLimit);
+
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return values.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return BigDecimal.valueOf(values.nextLong());
+                }
+            };
+        };
+    }
+
+    @Override
+    public Iterable<Object> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        if (valueCount == 0) {
+            return Collections::emptyIterator;
+        }
+
+        if (blacklistedPositions != null) {
+            return () -> new SupplierBasedIterator<>(() -> BigDecimal.valueOf(
+                inclusiveLowerLimit + blacklistedPositions.getPosition(randomNumberGenerator.nextLong(0, valueCount - 1))));
+        }
+
+        return () -> new SupplierBasedIterator<>(() -> {
+            long value;
+            do {
+                value = randomNumberGenerator.nextLong(inclusiveLowerLimit, inclusiveUpperLimit);
+            } while (Arrays.binarySearch(sortedBlacklist, value) >= 0);
+
+            return BigDecimal.valueOf(value);
+        });
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        IntegerFieldValueSource otherSource = (IntegerFieldValueSource) obj;
+        return inclusiveUpperLimit == otherSource.inclusiveUpperLimit &&
+            inclusiveLowerLimit == otherSource.inclusiveLowerLimit &&
+            Arrays.equals(sortedBlacklist, otherSource.sortedBlacklist);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(inclusiveLowerLimit, inclusiveUpperLimit, Arrays.hashCode(sortedBlacklist));
+    }
+
+    private LongStream streamFrom(long startingPoint) {
+        return StreamSupport.longStream(
+            Spliterators.spliteratorUnknownSize(new IntegerIterator(startingPoint), Spliterator.ORDERED),
+            false);
+    }
+
+    /**
+     * Steps through the values from a starting point, keeping its place in the blacklist so that each value is
+     * checked against only the next blacklisted value. Stops at the upper limit without overflowing past it.
+     */
+    private class IntegerIterator implements PrimitiveIterator.OfLong {
+        private long nextValue;
+        private boolean hasNext;
+        private int nextBlacklisted;
+
+        IntegerIterator(long startingPoint) {
+            nextValue = Math.max(startingPoint, inclusiveLowerLimit);
+            hasNext = nextValue <= inclusiveUpperLimit;
+
+            int blacklistIndex = Arrays.binarySearch(sortedBlacklist, nextValue);
+            nextBlacklisted = blacklistIndex >= 0 ? blacklistIndex : -blacklistIndex - 1;
+            skipBlacklisted();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+
+            long currentValue = nextValue;
+            step();
+            skipBlacklisted();
+
+            return currentValue;
+        }
+
+        private void skipBlacklisted() {
+            while (hasNext && nextBlacklisted < sortedBlacklist.length && sortedBlacklist[nextBlacklisted] == nextValue) {
+                nextBlacklisted++;
+                step();
+            }
+        }
+
+        private void step() {
+            if (nextValue == inclusiveUpperLimit) {
+                hasNext = false;
+            } else {
+                nextValue++;
+            }
+        }
+    }
+}
@@ -9,7 +9,9 @@ import com.scottlogic.deg.generator.utils.*;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -22,8 +24,11 @@ public class RealNumberFieldValueSource implements FieldValueSource {
     private final BigDecimal inclusiveLowerLimit;
     private final BigDecimal stepSize;
     private final Set<BigDecimal> blacklist;
+    private final List<BigDecimal> sortedBlacklistedSteps;
+    private final BlacklistedPositions blacklistedPositions;
     private final int scale;
     private final static BigDecimal exclusivityAdjuster = BigDecimal.valueOf(Double.MIN_VALUE);
+    private final static BigDecimal MAX_VALUE_COUNT = BigDecimal.valueOf(Long.MAX_VALUE);
 
     public RealNumberFieldValueSource(
         NumericRestrictions restrictions,
@@ -31,31 +36,54 @@ public class RealNumberFieldValueSource implements FieldValueSource {
         this.scale = restrictions.getNumericScale();
         this.stepSize = restrictions.getStepSize();
 
+        this.inclusiveLowerLimit = getInclusiveLowerLimit(restrictions);
+        this.inclusiveUpperLimit = getInclusiveUpperLimit(restrictions);
+
+        this.blacklist = blacklist.stream()
+            .map(NumberUtils::coerceToBigDecimal)
+            .filter(Objects::nonNull)
+            .map(i -> i.setScale(scale, RoundingMode.HALF_UP))
+            .filter(i -> this.inclusiveLowerLimit.compareTo(i) <= 0 && i.compareTo(this.inclusiveUpperLimit) <= 0)
+            .collect(Collectors.toSet());
+
+        this.sortedBlacklistedSteps = this.blacklist.stream()
+            .filter(i -> i.subtract(this.inclusiveLowerLimit).remainder(this.stepSize).signum() == 0)
+            .sorted()
+            .collect(Collectors.toList());
+
+        // the steps of a range with more than Long.MAX_VALUE values can't all be counted in a long, but its few
+        // blacklisted values are picked so rarely that random values can just be picked again
+        this.blacklistedPositions = isIndexable()
+            ? new BlacklistedPositions(this.sortedBlacklistedSteps.stream()
+                .mapToLong(i -> i.subtract(this.inclusiveLowerLimit).divide(this.stepSize).longValueExact()))
+            : null;
+    }
+
+    /**
+     * @return the smallest value of the restrictions' scale that satisfies their lower limit
+     */
+    static BigDecimal getInclusiveLowerLimit(NumericRestrictions restrictions) {
         NumericLimit<BigDecimal> lowerLimit = getLowerLimit(restrictions);
 
-        this.inclusiveLowerLimit =
-            (lowerLimit.isInclusive()
+        return (lowerLimit.isInclusive()
                 ? lowerLimit.getLimit()
                 : lowerLimit.getLimit().add(exclusivityAdjuster))
-            .setScale(scale, RoundingMode.CEILING);
+            .setScale(restrictions.getNumericScale(), RoundingMode.CEILING);
+    }
 
+    /**
+     * @return the largest value of the restrictions' scale that satisfies their upper limit
+     */
+    static BigDecimal getInclusiveUpperLimit(NumericRestrictions restrictions) {
         NumericLimit<BigDecimal> upperLimit = getUpperLimit(restrictions);
 
-        this.inclusiveUpperLimit =
-            (upperLimit.isInclusive()
+        return (upperLimit.isInclusive()
                 ? upperLimit.getLimit()
                 : upperLimit.getLimit().subtract(exclusivityAdjuster))
-            .setScale(scale, RoundingMode.FLOOR);
-
-        this.blacklist = blacklist.stream()
-            .map(NumberUtils::coerceToBigDecimal)
-            .filter(Objects::nonNull)
-            .map(i -> i.setScale(scale, RoundingMode.HALF_UP))
-            .filter(i -> this.inclusiveLowerLimit.compareTo(i) <= 0 && i.compareTo(this.inclusiveUpperLimit) <= 0)
-            .collect(Collectors.toSet());
+            .setScale(restrictions.getNumericScale(), RoundingMode.FLOOR);
     }
 
-    private NumericLimit<BigDecimal> getUpperLimit(NumericRestrictions restrictions) {
+    private static NumericLimit<BigDecimal> getUpperLimit(NumericRestrictions restrictions) {
         BigDecimal maxValue = Defaults.NUMERIC_MAX;
         if (restrictions.max == null) {
             return new NumericLimit<>(maxValue, true);
@@ -65,7 +93,7 @@ public class RealNumberFieldValueSource implements FieldValueSource {
         return new NumericLimit<>(maxValue.min(restrictions.max.getLimit()), restrictions.max.isInclusive());
     }
 
-    private NumericLimit<BigDecimal> getLowerLimit(NumericRestrictions restrictions) {
+    private static NumericLimit<BigDecimal> getLowerLimit(NumericRestrictions restrictions) {
         BigDecimal minValue = Defaults.NUMERIC_MIN;
         if (restrictions.min == null) {
             return new NumericLimit<>(minValue, true);
@@ -82,10 +110,41 @@ public class RealNumberFieldValueSource implements FieldValueSource {
 
     @Override
     public long getValueCount() {
-        BigDecimal lowerStep = inclusiveLowerLimit.divide(stepSize, 0, RoundingMode.HALF_UP);
-        BigDecimal upperStep = inclusiveUpperLimit.divide(stepSize, 0, RoundingMode.HALF_UP);
+        if (inclusiveUpperLimit.compareTo(inclusiveLowerLimit) < 0) {
+            return 0;
+        }
 
-        return upperStep.subtract(lowerStep).longValue() + 1 - blacklist.size();
+        BigDecimal valueCount = inclusiveUpperLimit.subtract(inclusiveLowerLimit)
+            .divide(stepSize, 0, RoundingMode.FLOOR)
+            .add(BigDecimal.valueOf(1 - sortedBlacklistedSteps.size()));
+
+        return valueCount.compareTo(MAX_VALUE_COUNT) >= 0
+            ? Long.MAX_VALUE
+            : valueCount.longValue();
+    }
+
+    @Override
+    public boolean isIndexable() {
+        return getValueCount() < Long.MAX_VALUE;
+    }
+
+    /**
+     * Step forward from the lower limit, then once more for each blacklisted value that would have been skipped on
+     * the way, found with a binary search of the blacklisted positions.
+     */
+    @Override
+    public Object getValueAtIndex(long index) {
+        if (!isIndexable()) {
+            throw new IllegalStateException("Cannot retrieve values by index from more than Long.MAX_VALUE values");
+        }
+
+        BigDecimal value = getValueAtPosition(blacklistedPositions.getPosition(index));
+
+        if (value.compareTo(inclusiveUpperLimit) > 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " is beyond the end of the values");
+        }
+
+        return value;
     }
 
     @Override
@@ -106,8 +165,27 @@ public class RealNumberFieldValueSource implements FieldValueSource {
         return RealNumberIterator::new;
     }
 
+    private BigDecimal getValueAtPosition(long position) {
+        return inclusiveLowerLimit.add(stepSize.multiply(BigDecimal.valueOf(position)));
+    }
+
+    /**
+     * Pick values between the limits when none are blacklisted. Otherwise pick the index of a value that is not
+     * blacklisted, and find its position among all of the values, so that a blacklist of most of the values doesn't
+     * mean picking most values more than once.
+     */
     @Override
     public Iterable<Object> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        if (!sortedBlacklistedSteps.isEmpty() && blacklistedPositions != null) {
+            long valueCount = getValueCount();
+            if (valueCount == 0) {
+                return Collections::emptyIterator;
+            }
+
+            return () -> new SupplierBasedIterator<>(() -> getValueAtPosition(
+                blacklistedPositions.getPosition(randomNumberGenerator.nextLong(0, valueCount - 1))));
+        }
+
         return () -> new UpCastingIterator<>(
             new FilteringIterator<>(
                 new SupplierBasedIterator<>(() ->
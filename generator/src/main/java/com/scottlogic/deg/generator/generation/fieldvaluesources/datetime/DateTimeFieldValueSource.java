@@ -1,14 +1,17 @@
 package com.scottlogic.deg.generator.generation.fieldvaluesources.datetime;
 
 import com.scottlogic.deg.common.profile.constraintdetail.Timescale;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.BlacklistedPositions;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
 import com.scottlogic.deg.generator.restrictions.DateTimeRestrictions;
 import com.scottlogic.deg.generator.utils.FilteringIterator;
 import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.SupplierBasedIterator;
 import com.scottlogic.deg.generator.utils.UpCastingIterator;
 
 import java.time.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
@@ -22,6 +25,8 @@ public class DateTimeFieldValueSource implements FieldValueSource {
     private final Set<Object> blacklist;
     private final OffsetDateTime inclusiveLower;
     private final OffsetDateTime exclusiveUpper;
+    private final GranularDateRange allDates;
+    private final BlacklistedPositions blacklistedDates;
 
     public DateTimeFieldValueSource(
         DateTimeRestrictions restrictions,
@@ -34,6 +39,21 @@ public class DateTimeFieldValueSource implements FieldValueSource {
         this.exclusiveUpper = getExclusiveUpperBound(restrictions);
 
         this.blacklist = blacklist;
+
+        // only dates between ISO_MIN_DATE and ISO_MAX_DATE can be output, and their units of even the finest
+        // granularity can be counted from 1970 in a long
+        this.allDates = new GranularDateRange(
+            inclusiveLower != null && inclusiveLower.isAfter(ISO_MIN_DATE) ? inclusiveLower : ISO_MIN_DATE,
+            exclusiveUpper != null && exclusiveUpper.isBefore(ISO_MAX_DATE) ? exclusiveUpper : ISO_MAX_DATE,
+            granularity);
+        this.blacklistedDates = getBlacklistedPositions(allDates, blacklist);
+    }
+
+    private static BlacklistedPositions getBlacklistedPositions(GranularDateRange dates, Set<Object> blacklist) {
+        return new BlacklistedPositions(blacklist.stream()
+            .filter(value -> value instanceof OffsetDateTime)
+            .mapToLong(value -> dates.getIndexOfDate((OffsetDateTime) value))
+            .filter(index -> index >= 0));
     }
 
     @Override
@@ -48,29 +68,38 @@ public class DateTimeFieldValueSource implements FieldValueSource {
     public long getValueCount() {
 
         if (isFinite()) {
-            Duration duration = Duration.between(inclusiveLower, exclusiveUpper);
-            Period period = Period.between(inclusiveLower.toLocalDate(), exclusiveUpper.toLocalDate());
-
-            if (granularity == Timescale.MILLIS) return (duration.getNano() / 1000000) + 1;
-            if (granularity == Timescale.SECONDS) return duration.getSeconds() + 1;
-            if (granularity == Timescale.MINUTES) return (duration.getSeconds() / 60) + 1;
-            if (granularity == Timescale.HOURS) return (duration.getSeconds() / 360) + 1;
-            if (granularity == Timescale.DAYS) return (period.getDays() + 1);
-            if (granularity == Timescale.MONTHS) return (period.getMonths() + 1);
-            if (granularity == Timescale.YEARS) return (period.getYears() + 1);
+            return allDates.getDateCount() - blacklistedDates.size();
         }
 
         throw new IllegalStateException("Cannot get count of an infinite series");
     }
 
+    @Override
+    public boolean isIndexable() {
+        return isFinite();
+    }
+
+    /**
+     * Skip the blacklisted dates up to the date at the index with a binary search of their positions.
+     */
+    @Override
+    public Object getValueAtIndex(long index) {
+        if (!isIndexable()) {
+            throw new IllegalStateException("Cannot retrieve dates by index from an infinite series");
+        }
+
+        return allDates.getDateAtIndex(blacklistedDates.getPosition(index));
+    }
+
     @Override
     public Iterable<Object> generateAllValues() {
+        if (blacklist.isEmpty()) {
+            return () -> new UpCastingIterator<>(allDates.iterator());
+        }
+
         return () -> new UpCastingIterator<>(
             new FilteringIterator<>(
-                new SequentialDateIterator(
-                    inclusiveLower != null ? inclusiveLower : ISO_MIN_DATE,
-                    exclusiveUpper != null ? exclusiveUpper : ISO_MAX_DATE,
-                    granularity),
+                allDates.iterator(),
                 i -> !blacklist.contains(i)));
     }
 
@@ -104,23 +133,18 @@ public class DateTimeFieldValueSource implements FieldValueSource {
                 i -> !blacklist.contains(i)));
     }
 
+    /**
+     * Pick the index of a date that is not blacklisted, and find its position among all of the dates.
+     */
     @Override
     public Iterable<Object> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        long dateCount = allDates.getDateCount() - blacklistedDates.size();
+        if (dateCount <= 0) {
+            return Collections::emptyIterator;
+        }
 
-        OffsetDateTime lower = inclusiveLower != null
-            ? inclusiveLower
-            : ISO_MIN_DATE;
-
-
-        OffsetDateTime upper = exclusiveUpper != null
-            ? exclusiveUpper
-            : ISO_MAX_DATE.plusNanos(1_000_000);
-
-
-        return () -> new UpCastingIterator<>(
-            new FilteringIterator<>(new RandomDateIterator(lower, upper, randomNumberGenerator, granularity),
-                i -> !blacklist.contains(i)));
-
+        return () -> new SupplierBasedIterator<>(() -> allDates.getDateAtIndex(
+            blacklistedDates.getPosition(randomNumberGenerator.nextLong(0, dateCount - 1))));
     }
 
     private OffsetDateTime getExclusiveUpperBound(DateTimeRestrictions upper) {
@@ -0,0 +1,95 @@
+package com.scottlogic.deg.generator.generation.fieldvaluesources.datetime;
+
+import com.scottlogic.deg.common.profile.constraintdetail.Timescale;
+
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The dates at a granularity from an inclusive minimum to an exclusive maximum, held as the numbers of units of the
+ * granularity from the start of 1970, so that dates can be counted, stepped through and retrieved by index with
+ * arithmetic on longs. Only the dates that are handed out are made into OffsetDateTimes.
+ */
+class GranularDateRange implements Iterable<OffsetDateTime> {
+    private final Timescale granularity;
+    private final long firstUnit;
+    private final long exclusiveLastUnit;
+    private final OffsetDateTime firstDate;
+    private final OffsetDateTime exclusiveLastDate;
+
+    GranularDateRange(OffsetDateTime inclusiveMinDate, OffsetDateTime exclusiveMaxDate, Timescale granularity) {
+        this.granularity = granularity;
+        this.firstUnit = roundUpToGranularity(inclusiveMinDate);
+        this.exclusiveLastUnit = Math.max(firstUnit, roundUpToGranularity(exclusiveMaxDate));
+        this.firstDate = granularity.fromEpochUnits(firstUnit);
+        this.exclusiveLastDate = granularity.fromEpochUnits(exclusiveLastUnit);
+    }
+
+    /**
+     * initial datetime is rounded up to the next unit of the granularity, if it is not at the start of one.
+     * This can be used to ensure a datetime is not lower than a previously specified minimum after granularity is applied.
+     * 10:00 -> HOURS => 10:00
+     * 10:01 -> HOURS => 11:00
+     * @param initial initial datetime which will have granularity applied
+     * @return the unit of the granularity that starts at or after initial
+     */
+    private long roundUpToGranularity(OffsetDateTime initial) {
+        long earlierOrEqual = granularity.toEpochUnits(initial);
+        return granularity.fromEpochUnits(earlierOrEqual).isBefore(initial)
+            ? earlierOrEqual + 1
+            : earlierOrEqual;
+    }
+
+    /**
+     * @return the number of dates in the range
+     */
+    long getDateCount() {
+        return exclusiveLastUnit - firstUnit;
+    }
+
+    /**
+     * Get the date that would be returned by the (index + 1)th call to next() of iterator(), without making the calls
+     * before it.
+     * 24/07/1990, index 3 -> days = 27/07/1990
+     */
+    OffsetDateTime getDateAtIndex(long index) {
+        return granularity.fromEpochUnits(firstUnit + index);
+    }
+
+    /**
+     * Get the index of the date among the dates of the range, or -1 if it is not one of them.
+     * 24/07/1990, 27/07/1990 -> days = 3
+     */
+    long getIndexOfDate(OffsetDateTime date) {
+        if (date.isBefore(firstDate) || !date.isBefore(exclusiveLastDate)) {
+            return -1;
+        }
+
+        long unit = granularity.toEpochUnits(date);
+        return granularity.fromEpochUnits(unit).equals(date)
+            ? unit - firstUnit
+            : -1;
+    }
+
+    @Override
+    public Iterator<OffsetDateTime> iterator() {
+        return new Iterator<OffsetDateTime>() {
+            private long nextUnit = firstUnit;
+
+            @Override
+            public boolean hasNext() {
+                return nextUnit < exclusiveLastUnit;
+            }
+
+            @Override
+            public OffsetDateTime next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return granularity.fromEpochUnits(nextUnit++);
+            }
+        };
+    }
+}
@@ -107,6 +107,16 @@ public abstract class ChecksummedCodeStringGenerator implements StringGenerator
         return regexGenerator.getValueCount();
     }
 
+    @Override
+    public boolean isIndexable() {
+        return false;
+    }
+
+    @Override
+    public String getValueAtIndex(long index) {
+        throw new IllegalStateException("Cannot retrieve checksummed codes by index");
+    }
+
     @Override
     public Iterable<String> generateInterestingValues() {
         if (negate) {
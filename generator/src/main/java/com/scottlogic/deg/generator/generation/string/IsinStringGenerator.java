@@ -98,6 +98,16 @@ public class IsinStringGenerator implements StringGenerator {
         return isinRegexGenerator.getValueCount();
     }
 
+    @Override
+    public boolean isIndexable() {
+        return false;
+    }
+
+    @Override
+    public String getValueAtIndex(long index) {
+        throw new IllegalStateException("Cannot retrieve ISINs by index");
+    }
+
     @Override
     public boolean match(String subject) {
         boolean matches = FinancialCodeUtils.isValidIsin(subject);
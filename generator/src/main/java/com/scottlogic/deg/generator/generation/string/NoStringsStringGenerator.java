@@ -46,6 +46,16 @@ public class NoStringsStringGenerator implements StringGenerator {
         return 0;
     }
 
+    @Override
+    public boolean isIndexable() {
+        return true;
+    }
+
+    @Override
+    public String getValueAtIndex(long index) {
+        throw new IndexOutOfBoundsException("There are no strings, so none at index " + index);
+    }
+
     @Override
     public boolean match(String subject) {
         return false;
@@ -9,6 +9,7 @@ import dk.brics.automaton.State;
 import dk.brics.automaton.Transition;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,17 +18,18 @@ public class RegexStringGenerator implements StringGenerator {
     /**
      * Cache of all matching regex automatons, keyed on their regex
      */
-    private static final Map<String, Automaton> matchingRegexAutomatonCache = new HashMap<>();
+    private static final Map<String, Automaton> matchingRegexAutomatonCache = new ConcurrentHashMap<>();
 
     /**
      * Cache of all containing regex automatons, keyed on their regex
      */
-    private static final Map<String, Automaton> containingRegexAutomatonCache = new HashMap<>();
+    private static final Map<String, Automaton> containingRegexAutomatonCache = new ConcurrentHashMap<>();
 
     private Automaton automaton;
     private Node rootNode;
     private boolean isRootNodeBuilt;
     private int preparedTransactionNode;
+    private Boolean isIndexable;
     private final String regexRepresentation;
 
     private RegexStringGenerator(Automaton automaton, String regexRepresentation) {
@@ -178,6 +180,50 @@ public class RegexStringGenerator implements StringGenerator {
         return rootNode.matchedStringIdx;
     }
 
+    /**
+     * Strings are only addressable by index when none of them can contain a surrogate character, as those strings are
+     * skipped by generateAllValues() and would otherwise shift the position of every later string.
+     */
+    @Override
+    public boolean isIndexable() {
+        if (isIndexable == null) {
+            isIndexable = isFinite() && automaton.getStates().stream()
+                .flatMap(state -> state.getTransitions().stream())
+                .noneMatch(transition ->
+                    transition.getMin() <= Character.MAX_SURROGATE && transition.getMax() >= Character.MIN_SURROGATE);
+        }
+
+        return isIndexable;
+    }
+
+    @Override
+    public String getValueAtIndex(long index) {
+        if (!isIndexable()) {
+            throw new IllegalStateException("Cannot retrieve strings by index for " + regexRepresentation);
+        }
+
+        String value = getMatchedString(index + 1);
+        if (value == null) {
+            throw new IndexOutOfBoundsException("Index " + index + " is beyond the end of the matching strings");
+        }
+
+        return value;
+    }
+
+    private String getMatchedString(long indexOrder) {
+        buildRootNode();
+        if (indexOrder < 1) {
+            throw new IllegalArgumentException("indexOrder must be >= 1");
+        }
+
+        if (indexOrder > rootNode.matchedStringIdx) {
+            return null;
+        }
+        String result = buildStringFromNode(rootNode, indexOrder);
+        result = result.substring(1, result.length() - 1);
+        return result;
+    }
+
     @Override
     public boolean match(String subject) {
 
@@ -268,7 +314,7 @@ public class RegexStringGenerator implements StringGenerator {
         return transitions.isEmpty();
     }
 
-    private String buildStringFromNode(Node node, int indexOrder) {
+    private String buildStringFromNode(Node node, long indexOrder) {
         String result = "";
         long passedStringNbr = 0;
         long step = node.getMatchedStringIdx() / node.getNbrChar();
@@ -445,20 +491,6 @@ public class RegexStringGenerator implements StringGenerator {
             return currentValue != null;
         }
 
-        private String getMatchedString(int indexOrder) {
-            buildRootNode();
-            if (indexOrder < 1) {
-                throw new IllegalArgumentException("indexOrder must be >= 1");
-            }
-
-            if (indexOrder > rootNode.matchedStringIdx) {
-                return null;
-            }
-            String result = buildStringFromNode(rootNode, indexOrder);
-            result = result.substring(1, result.length() - 1);
-            return result;
-        }
-
         @Override
         public String next() {
             String result = currentValue;
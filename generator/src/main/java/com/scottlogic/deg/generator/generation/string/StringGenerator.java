@@ -18,6 +18,18 @@ public interface StringGenerator {
 
     Iterable<String> generateRandomValues(RandomNumberGenerator randomNumberGenerator);
 
+    /**
+     * Whether every value of generateAllValues() can be retrieved directly with getValueAtIndex()
+     */
+    boolean isIndexable();
+
+    /**
+     * Get the string at the given (zero-based) position of generateAllValues(), without producing the strings before it
+     *
+     * @throws IllegalStateException if the generator is not indexable
+     */
+    String getValueAtIndex(long index);
+
     default FieldValueSource asFieldValueSource() {
         return new StringGeneratorAsFieldValueSource(this);
     }
@@ -57,5 +69,15 @@ public interface StringGenerator {
             return () -> new UpCastingIterator<>(
                 underlyingGenerator.generateRandomValues(randomNumberGenerator).iterator());
         }
+
+        @Override
+        public boolean isIndexable() {
+            return underlyingGenerator.isIndexable();
+        }
+
+        @Override
+        public Object getValueAtIndex(long index) {
+            return underlyingGenerator.getValueAtIndex(index);
+        }
     }
 }
@@ -23,7 +23,8 @@ public class CombinationStrategyProvider  implements Provider<CombinationStrateg
             return new MinimalCombinationStrategy();
         }
 
-        if (config.getWalkerType() == TreeWalkerType.REDUCTIVE){
+        if (config.getWalkerType() == TreeWalkerType.REDUCTIVE
+            || config.getWalkerType() == TreeWalkerType.ITERATIVE_REDUCTIVE){
             return new ReductiveCombinationStrategy();
         }
 
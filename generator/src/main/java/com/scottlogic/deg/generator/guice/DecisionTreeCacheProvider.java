@@ -0,0 +1,29 @@
+package com.scottlogic.deg.generator.guice;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.scottlogic.deg.generator.decisiontree.serialisation.DecisionTreeCache;
+import com.scottlogic.deg.generator.generation.GenerationConfigSource;
+
+public class DecisionTreeCacheProvider implements Provider<DecisionTreeCache> {
+    private final GenerationConfigSource configSource;
+
+    @Inject
+    public DecisionTreeCacheProvider(GenerationConfigSource configSource) {
+        this.configSource = configSource;
+    }
+
+    @Override
+    public DecisionTreeCache get() {
+        if (configSource.getTreeCacheDirectory() == null) {
+            return DecisionTreeCache.disabled();
+        }
+
+        String options = String.format(
+            "partition=%s, optimise=%s",
+            configSource.shouldDoPartitioning(),
+            !configSource.dontOptimise());
+
+        return new DecisionTreeCache(configSource.getTreeCacheDirectory(), configSource.getProfileFile(), options);
+    }
+}
@@ -10,6 +10,7 @@ public class DecisionTreeWalkerProvider implements Provider<DecisionTreeWalker>
     private final DecisionTreeWalker reductiveDecisionTreeWalker;
     private final DecisionTreeWalker cartesianProductDecisionTreeWalker;
     private final RandomReductiveDecisionTreeWalker randomReductiveDecisionTreeWalker;
+    private final IterativeReductiveDecisionTreeWalker iterativeReductiveDecisionTreeWalker;
     private final GenerationConfigSource configSource;
 
     @Inject
@@ -17,10 +18,12 @@ public class DecisionTreeWalkerProvider implements Provider<DecisionTreeWalker>
         ReductiveDecisionTreeWalker reductiveDecisionTreeWalker,
         CartesianProductDecisionTreeWalker cartesianProductDecisionTreeWalker,
         RandomReductiveDecisionTreeWalker randomReductiveDecisionTreeWalker,
+        IterativeReductiveDecisionTreeWalker iterativeReductiveDecisionTreeWalker,
         GenerationConfigSource configSource) {
         this.reductiveDecisionTreeWalker = reductiveDecisionTreeWalker;
         this.cartesianProductDecisionTreeWalker = cartesianProductDecisionTreeWalker;
         this.randomReductiveDecisionTreeWalker = randomReductiveDecisionTreeWalker;
+        this.iterativeReductiveDecisionTreeWalker = iterativeReductiveDecisionTreeWalker;
         this.configSource = configSource;
     }
 
@@ -36,6 +39,12 @@ public class DecisionTreeWalkerProvider implements Provider<DecisionTreeWalker>
 
                   return this.reductiveDecisionTreeWalker;
 
+              case ITERATIVE_REDUCTIVE:
+                  if (this.configSource.getGenerationType() == DataGenerationType.RANDOM)
+                      return this.randomReductiveDecisionTreeWalker;
+
+                  return this.iterativeReductiveDecisionTreeWalker;
+
               default:
                   return this.reductiveDecisionTreeWalker;
         }
@@ -6,19 +6,22 @@ import com.google.inject.name.Names;
 import com.scottlogic.deg.generator.decisiontree.DecisionTreeFactory;
 import com.scottlogic.deg.generator.decisiontree.DecisionTreeOptimiser;
 import com.scottlogic.deg.generator.decisiontree.MaxStringLengthInjectingDecisionTreeFactory;
+import com.scottlogic.deg.generator.decisiontree.serialisation.DecisionTreeCache;
 import com.scottlogic.deg.generator.decisiontree.treepartitioning.TreePartitioner;
 import com.scottlogic.deg.generator.generation.*;
 import com.scottlogic.deg.generator.config.detail.DataGenerationType;
+import com.scottlogic.deg.generator.config.detail.FixFieldStrategyType;
+import com.scottlogic.deg.generator.config.detail.Shard;
 import com.scottlogic.deg.generator.generation.combinationstrategies.CombinationStrategy;
 import com.scottlogic.deg.generator.generation.databags.RowSpecDataBagGenerator;
 import com.scottlogic.deg.generator.inputs.validation.ProfileValidator;
-import com.scottlogic.deg.generator.utils.JavaUtilRandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 import com.scottlogic.deg.generator.walker.DecisionTreeWalker;
 import com.scottlogic.deg.generator.walker.reductive.IterationVisualiser;
+import com.scottlogic.deg.generator.walker.reductive.PrunedTreeCache;
 
 import java.io.PrintWriter;
 import java.nio.file.Path;
-import java.time.OffsetDateTime;
 
 /**
  * Class to define default bindings for Guice injection. Utilises the generation config source to determine which
@@ -42,23 +45,37 @@ public class GeneratorModule extends AbstractModule {
         bind(DecisionTreeWalker.class).toProvider(DecisionTreeWalkerProvider.class);
         bind(ProfileValidator.class).toProvider(ProfileValidatorProvider.class);
         bind(ReductiveDataGeneratorMonitor.class).toProvider(MonitorProvider.class).in(Singleton.class);
+        bind(PrunedTreeCache.class).in(Singleton.class);
+        bind(DecisionTreeCache.class).toProvider(DecisionTreeCacheProvider.class);
         bind(IterationVisualiser.class).toProvider(IterationVisualiserProvider.class);
         bind(CombinationStrategy.class).toProvider(CombinationStrategyProvider.class);
+        bind(RandomNumberGenerator.class).toProvider(RandomNumberGeneratorProvider.class).in(Singleton.class);
 
         // bind config directly
         bind(DataGenerationType.class).toInstance(generationConfigSource.getGenerationType());
+        bind(Shard.class).toInstance(generationConfigSource.getShard());
+        bind(FixFieldStrategyType.class).toInstance(generationConfigSource.getFixFieldStrategyType());
 
         bind(long.class)
             .annotatedWith(Names.named("config:maxRows"))
             .toInstance(generationConfigSource.getMaxRows());
 
+        bind(int.class)
+            .annotatedWith(Names.named("config:partitionThreads"))
+            .toInstance(generationConfigSource.getPartitionThreads());
+
+        bind(int.class)
+            .annotatedWith(Names.named("config:randomThreads"))
+            .toInstance(generationConfigSource.getRandomThreads());
+
+        bind(boolean.class)
+            .annotatedWith(Names.named("config:learnNogoods"))
+            .toInstance(generationConfigSource.learnNogoods());
+
         // Bind known implementations - no user input required
         bind(DataGeneratorMonitor.class).to(ReductiveDataGeneratorMonitor.class);
         bind(DataGenerator.class).to(DecisionTreeDataGenerator.class);
         bind(DecisionTreeFactory.class).to(MaxStringLengthInjectingDecisionTreeFactory.class);
         bind(FieldValueSourceEvaluator.class).to(StandardFieldValueSourceEvaluator.class);
-
-        bind(JavaUtilRandomNumberGenerator.class)
-            .toInstance(new JavaUtilRandomNumberGenerator(OffsetDateTime.now().getNano()));
     }
 }
@@ -0,0 +1,39 @@
+package com.scottlogic.deg.generator.guice;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.scottlogic.deg.generator.generation.GenerationConfigSource;
+import com.scottlogic.deg.generator.utils.JavaUtilRandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.SplittableRandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.XoshiroRandomNumberGenerator;
+
+import java.util.SplittableRandom;
+
+public class RandomNumberGeneratorProvider implements Provider<RandomNumberGenerator> {
+    private final GenerationConfigSource config;
+
+    @Inject
+    public RandomNumberGeneratorProvider(GenerationConfigSource config) {
+        this.config = config;
+    }
+
+    @Override
+    public RandomNumberGenerator get() {
+        long seed = config.getSeed() != null
+            ? config.getSeed()
+            : new SplittableRandom().nextLong();
+
+        switch (config.getRandomNumberGeneratorType()) {
+            case JAVA_UTIL:
+                return new JavaUtilRandomNumberGenerator(seed);
+            case XOSHIRO:
+                return new XoshiroRandomNumberGenerator(seed);
+            case SPLITTABLE:
+                return new SplittableRandomNumberGenerator(seed);
+            default:
+                throw new IllegalStateException(
+                    "--random-number-generator " + config.getRandomNumberGeneratorType() + " has no generator");
+        }
+    }
+}
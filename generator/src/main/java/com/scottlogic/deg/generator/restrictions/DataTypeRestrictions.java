@@ -75,9 +75,12 @@ public class DataTypeRestrictions implements TypeRestrictions {
         return Objects.equals(allowedTypes, that.allowedTypes);
     }
 
+    /**
+     * Hashes the names of the types, as the hash codes of enum values differ from one run to the next
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(allowedTypes);
+        return allowedTypes.stream().mapToInt(type -> type.name().hashCode()).sum();
     }
 }
 
@@ -350,6 +350,20 @@ public class TextualRestrictions implements StringRestrictions {
 
     @Override
     public int hashCode() {
-        return Objects.hash(excludedLengths, maxLength, minLength, containingRegex, matchingRegex, notMatchingRegex, notContainingRegex);
+        return Objects.hash(
+            excludedLengths,
+            maxLength,
+            minLength,
+            patternsHashCode(containingRegex),
+            patternsHashCode(matchingRegex),
+            patternsHashCode(notMatchingRegex),
+            patternsHashCode(notContainingRegex));
+    }
+
+    /**
+     * Patterns don't override hashCode, so hash their expressions instead, which are the same from one run to the next
+     */
+    private static int patternsHashCode(Set<Pattern> patterns) {
+        return patterns.stream().mapToInt(pattern -> pattern.toString().hashCode()).sum();
     }
 }
@@ -0,0 +1,113 @@
+package com.scottlogic.deg.generator.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Derives every kind of random number from a source of uniformly distributed 64 bit longs.
+ *
+ * Bounded values are unbiased, and BigDecimals are picked uniformly from the values of their scale in the range by
+ * picking their unscaled value as an integer, so are exact for any range and scale rather than rounded from a double.
+ */
+public abstract class AbstractRandomNumberGenerator implements RandomNumberGenerator {
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * @return the next uniformly distributed long, from the whole range of a long
+     */
+    protected abstract long nextLong();
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive, but was " + bound);
+        }
+
+        return (int) nextLong(0, bound - 1);
+    }
+
+    @Override
+    public int nextInt(int lowerInclusive, int upperExclusive) {
+        if (lowerInclusive >= upperExclusive) {
+            throw new IllegalArgumentException(
+                "Upper bound " + upperExclusive + " must be greater than lower bound " + lowerInclusive);
+        }
+
+        return (int) nextLong(lowerInclusive, upperExclusive - 1L);
+    }
+
+    @Override
+    public long nextLong(long lowerInclusive, long upperInclusive) {
+        // unbiased as in SplittableRandom::internalNextLong, but with an inclusive upper bound so that a range can
+        // end at Long.MAX_VALUE
+        if (upperInclusive < lowerInclusive) {
+            throw new IllegalArgumentException(
+                "Upper bound " + upperInclusive + " must not be less than lower bound " + lowerInclusive);
+        }
+
+        long n = upperInclusive - lowerInclusive + 1;
+        if (n > 0) {
+            long m = n - 1;
+            if ((n & m) == 0L) {
+                return (nextLong() & m) + lowerInclusive;
+            }
+
+            long r;
+            for (long u = nextLong() >>> 1; u + m - (r = u % n) < 0L; u = nextLong() >>> 1);
+            return r + lowerInclusive;
+        }
+        else {  // range not representable as a positive long
+            long r;
+            do {
+                r = nextLong();
+            } while (r < lowerInclusive || r > upperInclusive);
+            return r;
+        }
+    }
+
+    @Override
+    public double nextDouble(double lowerInclusive, double upperExclusive) {
+        return (nextLong() >>> 11) * DOUBLE_UNIT * (upperExclusive - lowerInclusive) + lowerInclusive;
+    }
+
+    @Override
+    public BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperInclusive, int scale) {
+        BigInteger lower = lowerInclusive.setScale(scale, RoundingMode.CEILING).unscaledValue();
+        BigInteger upper = upperInclusive.setScale(scale, RoundingMode.FLOOR).unscaledValue();
+        if (upper.compareTo(lower) < 0) {
+            // there are no values of the scale in the range, so give the nearest to it
+            return lowerInclusive.setScale(scale, RoundingMode.HALF_UP);
+        }
+
+        if (lower.bitLength() < Long.SIZE && upper.bitLength() < Long.SIZE) {
+            return BigDecimal.valueOf(nextLong(lower.longValue(), upper.longValue()), scale);
+        }
+
+        BigInteger valueCount = upper.subtract(lower).add(BigInteger.ONE);
+        return new BigDecimal(lower.add(nextBigInteger(valueCount)), scale);
+    }
+
+    /**
+     * Pick a value from 0 inclusive to bound exclusive, by picking as many random bits as the bound has and trying
+     * again if they are beyond it, which happens less than half of the time
+     */
+    private BigInteger nextBigInteger(BigInteger bound) {
+        int bits = bound.bitLength();
+        BigInteger value;
+        do {
+            value = BigInteger.ZERO;
+            for (int remaining = bits; remaining > 0; remaining -= Long.SIZE - 1) {
+                int chunk = Math.min(Long.SIZE - 1, remaining);
+                value = value.shiftLeft(chunk).or(BigInteger.valueOf(nextLong() >>> (Long.SIZE - chunk)));
+            }
+        } while (value.compareTo(bound) >= 0);
+
+        return value;
+    }
+}
@@ -1,17 +1,18 @@
 package com.scottlogic.deg.generator.utils;
 
 import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.generation.databags.ValueFormatter;
 
 import java.util.Iterator;
 
 public class DataBagValueIterator<T> implements Iterator<DataBagValue> {
 
     private Iterator<T> underlyingIterator;
-    private String formatString;
+    private ValueFormatter formatter;
 
     public DataBagValueIterator(Iterator<T> underlyingIterator, String formatString) {
         this.underlyingIterator = underlyingIterator;
-        this.formatString = formatString;
+        this.formatter = ValueFormatter.compile(formatString);
     }
 
     @Override
@@ -24,6 +25,6 @@ public class DataBagValueIterator<T> implements Iterator<DataBagValue> {
 
         Object next = underlyingIterator.next();
 
-        return new DataBagValue(next, formatString);
+        return DataBagValue.withFormatter(next, formatter);
     }
 }
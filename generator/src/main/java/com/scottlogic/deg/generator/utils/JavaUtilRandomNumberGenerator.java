@@ -4,7 +4,13 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Random;
 
-public class JavaUtilRandomNumberGenerator implements RandomNumberGenerator {
+/**
+ * A random number generator backed by a java.util.Random, which can be shared between threads.
+ *
+ * BigDecimals are made by scaling a random double to the range and rounding it to the scale, so they are not picked
+ * uniformly, and can only be as precise as a double; other generators pick them exactly.
+ */
+public class JavaUtilRandomNumberGenerator extends AbstractRandomNumberGenerator {
     private final Random random;
 
     public JavaUtilRandomNumberGenerator(){
@@ -27,35 +33,45 @@ public class JavaUtilRandomNumberGenerator implements RandomNumberGenerator {
 
     @Override
     public int nextInt(int lowerInclusive, int upperExclusive) {
-        // implementation copied from Random::internalNextInt
-        if (lowerInclusive < upperExclusive) {
-            int n = upperExclusive - lowerInclusive;
-            if (n > 0) {
-                return nextInt(n) + lowerInclusive;
-            }
-            else {  // range not representable as int
-                int r;
-                do {
-                    r = nextInt();
-                } while (r < lowerInclusive || r >= upperExclusive);
-                return r;
-            }
+        // implementation copied from Random::internalNextInt, so that a seeded generator picks the same values
+        if (lowerInclusive >= upperExclusive) {
+            throw new IllegalArgumentException(
+                "Upper bound " + upperExclusive + " must be greater than lower bound " + lowerInclusive);
         }
-        else {
-            return nextInt();
+
+        int n = upperExclusive - lowerInclusive;
+        if (n > 0) {
+            return nextInt(n) + lowerInclusive;
+        }
+        else {  // range not representable as int
+            int r;
+            do {
+                r = nextInt();
+            } while (r < lowerInclusive || r >= upperExclusive);
+            return r;
         }
     }
 
+    @Override
+    protected long nextLong() {
+        return random.nextLong();
+    }
+
     @Override
     public double nextDouble(double lowerInclusive, double upperExclusive) {
         return random.nextDouble() * (upperExclusive - lowerInclusive) + lowerInclusive;
     }
 
     @Override
-    public BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperExclusive, int scale) {
+    public BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperInclusive, int scale) {
         return new BigDecimal(random.nextDouble())
-            .multiply(upperExclusive.subtract(lowerInclusive))
+            .multiply(upperInclusive.subtract(lowerInclusive))
             .add(lowerInclusive)
             .setScale(scale, RoundingMode.HALF_UP);
     }
+
+    @Override
+    public RandomNumberGenerator split() {
+        return new JavaUtilRandomNumberGenerator(random.nextLong());
+    }
 }
@@ -6,6 +6,17 @@ public interface RandomNumberGenerator {
     int nextInt();
     int nextInt(int bound);
     int nextInt(int lowerInclusive, int upperExclusive);
+    long nextLong(long lowerInclusive, long upperInclusive);
     double nextDouble(double lowerInclusive, double upperExclusive);
-    BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperExclusive, int scale);
+
+    /**
+     * @return a value of the given scale from lowerInclusive to upperInclusive
+     */
+    BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperInclusive, int scale);
+
+    /**
+     * Create a new, independent generator seeded from this one, e.g. for use by another thread.
+     * Splitting the same generator in the same order always produces the same sequence of generators.
+     */
+    RandomNumberGenerator split();
 }
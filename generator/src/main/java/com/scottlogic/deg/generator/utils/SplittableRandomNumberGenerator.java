@@ -0,0 +1,31 @@
+package com.scottlogic.deg.generator.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * A random number generator backed by a SplittableRandom, which is much faster than java.util.Random, with a
+ * period of 2^64, and splits into generators whose sequences are statistically independent of each other.
+ *
+ * Not safe to use from more than one thread at once; split a generator for each thread instead.
+ */
+public class SplittableRandomNumberGenerator extends AbstractRandomNumberGenerator {
+    private final SplittableRandom random;
+
+    public SplittableRandomNumberGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomNumberGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    protected long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public RandomNumberGenerator split() {
+        return new SplittableRandomNumberGenerator(random.split());
+    }
+}
@@ -0,0 +1,54 @@
+package com.scottlogic.deg.generator.utils;
+
+/**
+ * A xoshiro256** random number generator, which has 256 bits of state, a period of 2^256 - 1, and passes all
+ * standard statistical tests; see http://prng.di.unimi.it/.
+ *
+ * The state is filled from the seed with SplitMix64, as the authors recommend, so that similar seeds don't give
+ * similar sequences. Not safe to use from more than one thread at once; split a generator for each thread instead.
+ */
+public class XoshiroRandomNumberGenerator extends AbstractRandomNumberGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    public XoshiroRandomNumberGenerator(long seed) {
+        s0 = splitMix64(seed += GOLDEN_GAMMA);
+        s1 = splitMix64(seed += GOLDEN_GAMMA);
+        s2 = splitMix64(seed += GOLDEN_GAMMA);
+        s3 = splitMix64(seed + GOLDEN_GAMMA);
+    }
+
+    @Override
+    protected long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+
+    /**
+     * Seed a new generator from the next value of this one, which is filled through SplitMix64 so shares none of
+     * this generator's state
+     */
+    @Override
+    public RandomNumberGenerator split() {
+        return new XoshiroRandomNumberGenerator(nextLong());
+    }
+
+    private static long splitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
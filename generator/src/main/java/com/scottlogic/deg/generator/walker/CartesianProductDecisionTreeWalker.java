@@ -13,6 +13,7 @@ import com.scottlogic.deg.generator.fieldspecs.RowSpecMerger;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
 import com.scottlogic.deg.generator.generation.databags.RowSpecDataBagGenerator;
 import com.scottlogic.deg.generator.reducer.ConstraintReducer;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -35,6 +36,14 @@ public class CartesianProductDecisionTreeWalker implements DecisionTreeWalker {
         this.dataBagSourceFactory = dataBagSourceFactory;
     }
 
+    @Override
+    public CartesianProductDecisionTreeWalker withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator) {
+        return new CartesianProductDecisionTreeWalker(
+            constraintReducer,
+            rowSpecMerger,
+            dataBagSourceFactory.withRandomNumberGenerator(randomNumberGenerator));
+    }
+
     public Stream<DataBag> walk(DecisionTree tree) {
         final DecisionTreeWalkerHelper helper = new DecisionTreeWalkerHelper(tree.getFields());
         Stream<RowSpec> rowSpecs = helper.walk(tree.getRootNode());
@@ -2,9 +2,23 @@ package com.scottlogic.deg.generator.walker;
 
 import com.scottlogic.deg.generator.decisiontree.DecisionTree;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 
 import java.util.stream.Stream;
 
 public interface DecisionTreeWalker {
     Stream<DataBag> walk(DecisionTree tree);
+
+    /**
+     * Start a walk of the tree that can be split into parts. By default it can only be split into its rows; walkers
+     * that fix one field at a time should override this to split the walk field by field.
+     */
+    default PartialWalk partialWalk(DecisionTree tree) {
+        return PartialWalk.ofRows(() -> walk(tree));
+    }
+
+    /**
+     * Create a walker that behaves in the same way as this one, but draws random values from the given generator
+     */
+    DecisionTreeWalker withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator);
 }
@@ -0,0 +1,380 @@
+package com.scottlogic.deg.generator.walker;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.util.FlatMappingSpliterator;
+import com.scottlogic.deg.generator.config.detail.DataGenerationType;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
+import com.scottlogic.deg.generator.generation.ReductiveDataGeneratorMonitor;
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
+import com.scottlogic.deg.generator.walker.reductive.*;
+import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategy;
+import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategyFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks the tree in the same way, and in the same order, as the ReductiveDecisionTreeWalker, but keeps the fields it
+ * has fixed on an explicit stack rather than recursing once per field. Each DataBag is produced by a single flat
+ * iterator, however many fields the profile has.
+ *
+ * When generating FULL_SEQUENTIAL data, a field that can't be given any value causes the walker to jump straight back
+ * to the field responsible (see ContradictionAnalyser) rather than trying every value of the fields fixed since.
+ * Optionally, the walker also remembers each tree it has found to have no rows, so it can abandon an equal tree the
+ * moment it is reached again.
+ */
+public class IterativeReductiveDecisionTreeWalker implements DecisionTreeWalker {
+    private static final int MAX_NOGOODS = 10_000;
+
+    private final ReductiveTreePruner treePruner;
+    private final IterationVisualiser iterationVisualiser;
+    private final ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private final ReductiveDataGeneratorMonitor monitor;
+    private final FieldSpecValueGenerator fieldSpecValueGenerator;
+    private final FixFieldStrategyFactory fixFieldStrategyFactory;
+    private final ContradictionAnalyser contradictionAnalyser;
+    private final boolean backjump;
+    private final boolean learnNogoods;
+
+    @Inject
+    public IterativeReductiveDecisionTreeWalker(
+        IterationVisualiser iterationVisualiser,
+        ReductiveFieldSpecBuilder reductiveFieldSpecBuilder,
+        ReductiveDataGeneratorMonitor monitor,
+        ReductiveTreePruner treePruner,
+        FieldSpecValueGenerator fieldSpecValueGenerator,
+        FixFieldStrategyFactory fixFieldStrategyFactory,
+        ContradictionAnalyser contradictionAnalyser,
+        DataGenerationType dataGenerationType,
+        @Named("config:learnNogoods") boolean learnNogoods) {
+        this(
+            iterationVisualiser,
+            reductiveFieldSpecBuilder,
+            monitor,
+            treePruner,
+            fieldSpecValueGenerator,
+            fixFieldStrategyFactory,
+            contradictionAnalyser,
+            dataGenerationType == DataGenerationType.FULL_SEQUENTIAL,
+            dataGenerationType == DataGenerationType.FULL_SEQUENTIAL && learnNogoods);
+    }
+
+    private IterativeReductiveDecisionTreeWalker(
+        IterationVisualiser iterationVisualiser,
+        ReductiveFieldSpecBuilder reductiveFieldSpecBuilder,
+        ReductiveDataGeneratorMonitor monitor,
+        ReductiveTreePruner treePruner,
+        FieldSpecValueGenerator fieldSpecValueGenerator,
+        FixFieldStrategyFactory fixFieldStrategyFactory,
+        ContradictionAnalyser contradictionAnalyser,
+        boolean backjump,
+        boolean learnNogoods) {
+        this.iterationVisualiser = iterationVisualiser;
+        this.reductiveFieldSpecBuilder = reductiveFieldSpecBuilder;
+        this.monitor = monitor;
+        this.treePruner = treePruner;
+        this.fieldSpecValueGenerator = fieldSpecValueGenerator;
+        this.fixFieldStrategyFactory = fixFieldStrategyFactory;
+        this.contradictionAnalyser = contradictionAnalyser;
+        this.backjump = backjump;
+        this.learnNogoods = learnNogoods;
+    }
+
+    @Override
+    public IterativeReductiveDecisionTreeWalker withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator) {
+        return new IterativeReductiveDecisionTreeWalker(
+            iterationVisualiser,
+            reductiveFieldSpecBuilder,
+            monitor,
+            treePruner,
+            fieldSpecValueGenerator.withRandomNumberGenerator(randomNumberGenerator),
+            fixFieldStrategyFactory,
+            contradictionAnalyser,
+            backjump,
+            learnNogoods);
+    }
+
+    @Override
+    public Stream<DataBag> walk(DecisionTree tree) {
+        ReductiveState initialState = new ReductiveState(tree.fields);
+        visualise(tree.getRootNode(), initialState);
+        FixFieldStrategy fixFieldStrategy = fixFieldStrategyFactory.create(tree.getRootNode());
+
+        return walk(tree.getRootNode(), initialState, fixFieldStrategy);
+    }
+
+    /**
+     * Start a walk of the tree that is split by fixing one field at a time, in the same order as walk() fixes them.
+     * Each part is walked with its own stack, so it only backjumps and learns nogoods within that part.
+     */
+    @Override
+    public PartialWalk partialWalk(DecisionTree tree) {
+        ReductiveState initialState = new ReductiveState(tree.fields);
+        visualise(tree.getRootNode(), initialState);
+        FixFieldStrategy fixFieldStrategy = fixFieldStrategyFactory.create(tree.getRootNode());
+
+        return new IterativePartialWalk(tree.getRootNode(), initialState, fixFieldStrategy);
+    }
+
+    private Stream<DataBag> walk(ConstraintNode tree, ReductiveState reductiveState, FixFieldStrategy fixFieldStrategy) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new BacktrackingIterator(tree, reductiveState, fixFieldStrategy),
+                Spliterator.ORDERED | Spliterator.NONNULL),
+            false);
+    }
+
+    private void visualise(ConstraintNode rootNode, ReductiveState reductiveState){
+        try {
+            iterationVisualiser.visualise(rootNode, reductiveState);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private class IterativePartialWalk implements PartialWalk {
+        private final ConstraintNode tree;
+        private final ReductiveState reductiveState;
+        private final FixFieldStrategy fixFieldStrategy;
+
+        IterativePartialWalk(ConstraintNode tree, ReductiveState reductiveState, FixFieldStrategy fixFieldStrategy) {
+            this.tree = tree;
+            this.reductiveState = reductiveState;
+            this.fixFieldStrategy = fixFieldStrategy;
+        }
+
+        @Override
+        public Optional<DataBag> getRow() {
+            return reductiveState.allFieldsAreFixed()
+                ? Optional.of(reductiveState.asDataBag())
+                : Optional.empty();
+        }
+
+        @Override
+        public Stream<PartialWalk> split() {
+            if (reductiveState.allFieldsAreFixed()) {
+                return Stream.empty();
+            }
+
+            Field fieldToFix = fixFieldStrategy.getNextFieldToFix(reductiveState, tree);
+            Set<FieldSpec> nextFieldSpecs = reductiveFieldSpecBuilder.getDecisionFieldSpecs(tree, fieldToFix);
+
+            if (nextFieldSpecs.isEmpty()) {
+                monitor.noValuesForField(reductiveState, fieldToFix);
+                return Stream.empty();
+            }
+
+            return FlatMappingSpliterator.flatMap(
+                fieldSpecValueGenerator.generate(nextFieldSpecs),
+                fieldValue -> {
+                    Merged<ConstraintNode> reducedTree = treePruner.pruneConstraintNode(tree, fieldToFix, fieldValue);
+
+                    if (reducedTree.isContradictory()) {
+                        monitor.unableToStepFurther(reductiveState);
+                        return Stream.empty();
+                    }
+
+                    monitor.fieldFixedToValue(fieldToFix, fieldValue.getFormattedValue());
+                    ReductiveState newReductiveState = reductiveState.withFixedFieldValue(fieldToFix, fieldValue);
+                    visualise(reducedTree.get(), newReductiveState);
+
+                    return Stream.of(new IterativePartialWalk(reducedTree.get(), newReductiveState, fixFieldStrategy));
+                });
+        }
+
+        @Override
+        public Stream<DataBag> walk() {
+            return reductiveState.allFieldsAreFixed()
+                ? Stream.of(reductiveState.asDataBag())
+                : IterativeReductiveDecisionTreeWalker.this.walk(tree, reductiveState, fixFieldStrategy);
+        }
+    }
+
+    /**
+     * The field being fixed at one depth of the walk, along with the values still to try for it
+     */
+    private static class FieldFixingFrame {
+        private final ConstraintNode tree;
+        private final ReductiveState reductiveState;
+        private final Field field;
+        private final Iterator<DataBagValue> values;
+        private boolean anyValueFixed;
+
+        FieldFixingFrame(ConstraintNode tree, ReductiveState reductiveState, Field field, Iterator<DataBagValue> values) {
+            this.tree = tree;
+            this.reductiveState = reductiveState;
+            this.field = field;
+            this.values = values;
+        }
+    }
+
+    /**
+     * A tree reached with a given set of fields fixed, from which no rows can be produced
+     */
+    private static class Nogood {
+        private final Set<Field> fixedFields;
+        private final ConstraintNode tree;
+
+        Nogood(ReductiveState reductiveState, ConstraintNode tree) {
+            this.fixedFields = reductiveState.getFieldValues().keySet();
+            this.tree = tree;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Nogood nogood = (Nogood) o;
+            return fixedFields.equals(nogood.fixedFields) &&
+                tree.equals(nogood.tree);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fixedFields, tree);
+        }
+    }
+
+    private class BacktrackingIterator implements Iterator<DataBag> {
+        private final List<FieldFixingFrame> stack = new ArrayList<>();
+        private final Set<Nogood> nogoods = Collections.newSetFromMap(new LinkedHashMap<Nogood, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Nogood, Boolean> eldest) {
+                return size() > MAX_NOGOODS;
+            }
+        });
+        private final FixFieldStrategy fixFieldStrategy;
+        private DataBag next;
+
+        BacktrackingIterator(ConstraintNode rootNode, ReductiveState initialState, FixFieldStrategy fixFieldStrategy) {
+            this.fixFieldStrategy = fixFieldStrategy;
+            pushNextField(rootNode, initialState);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = findNextDataBag();
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public DataBag next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            DataBag dataBag = next;
+            next = null;
+            return dataBag;
+        }
+
+        private DataBag findNextDataBag() {
+            while (!stack.isEmpty()) {
+                FieldFixingFrame frame = stack.get(stack.size() - 1);
+                if (!frame.values.hasNext()) {
+                    // every value for this field has been tried, back-track to the previous field
+                    backtrackFrom(frame);
+                    continue;
+                }
+
+                DataBagValue fieldValue = frame.values.next();
+                Merged<ConstraintNode> reducedTree = treePruner.pruneConstraintNode(frame.tree, frame.field, fieldValue);
+
+                if (reducedTree.isContradictory()) {
+                    monitor.unableToStepFurther(frame.reductiveState);
+                    continue;
+                }
+
+                ReductiveState newReductiveState = frame.reductiveState.withFixedFieldValue(frame.field, fieldValue);
+                if (learnNogoods && nogoods.contains(new Nogood(newReductiveState, reducedTree.get()))) {
+                    monitor.unableToStepFurther(frame.reductiveState);
+                    continue;
+                }
+
+                frame.anyValueFixed = true;
+                monitor.fieldFixedToValue(frame.field, fieldValue.getFormattedValue());
+                visualise(reducedTree.get(), newReductiveState);
+
+                if (newReductiveState.allFieldsAreFixed()) {
+                    return newReductiveState.asDataBag();
+                }
+
+                pushNextField(reducedTree.get(), newReductiveState);
+            }
+
+            return null;
+        }
+
+        private void pushNextField(ConstraintNode tree, ReductiveState reductiveState) {
+            Field fieldToFix = fixFieldStrategy.getNextFieldToFix(reductiveState, tree);
+            Set<FieldSpec> nextFieldSpecs = reductiveFieldSpecBuilder.getDecisionFieldSpecs(tree, fieldToFix);
+
+            if (nextFieldSpecs.isEmpty()) {
+                monitor.noValuesForField(reductiveState, fieldToFix);
+            }
+
+            stack.add(new FieldFixingFrame(
+                tree,
+                reductiveState,
+                fieldToFix,
+                nextFieldSpecs.isEmpty()
+                    ? Collections.emptyIterator()
+                    : fieldSpecValueGenerator.generate(nextFieldSpecs).iterator()));
+        }
+
+        /**
+         * Remove the exhausted frame from the top of the stack. If no value could be fixed for its field, and the
+         * field already had no valid value in the tree at some earlier depth, remove every frame back to that depth
+         * as well: whatever values were fixed since can't produce a row.
+         */
+        private void backtrackFrom(FieldFixingFrame frame) {
+            int depth = stack.size() - 1;
+            int culpritDepth = backjump && !frame.anyValueFixed
+                ? contradictionAnalyser.findFirstContradictoryTree(treesUpToDepth(depth), frame.field)
+                : depth;
+
+            if (learnNogoods && !frame.anyValueFixed) {
+                FieldFixingFrame culpritFrame = stack.get(culpritDepth);
+                nogoods.add(new Nogood(culpritFrame.reductiveState, culpritFrame.tree));
+            }
+
+            if (culpritDepth < depth) {
+                monitor.backjumped(frame.field, stack.get(culpritDepth).reductiveState);
+            }
+
+            stack.subList(culpritDepth, stack.size()).clear();
+        }
+
+        private List<ConstraintNode> treesUpToDepth(int depth) {
+            List<ConstraintNode> trees = new ArrayList<>();
+            for (int index = 0; index <= depth; index++) {
+                trees.add(stack.get(index).tree);
+            }
+
+            return trees;
+        }
+    }
+}
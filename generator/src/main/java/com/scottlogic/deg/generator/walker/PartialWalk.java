@@ -0,0 +1,70 @@
+package com.scottlogic.deg.generator.walker;
+
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The part of the walk of a tree that starts with some of its fields fixed. It can be walked in full, or split into
+ * smaller parts by fixing the next field, so that different parts can be walked by different processes.
+ */
+public interface PartialWalk {
+    /**
+     * @return the row, if every field has been fixed
+     */
+    Optional<DataBag> getRow();
+
+    /**
+     * @return the parts that follow from fixing the next field to each of its values, in the order they are walked;
+     * empty once every field has been fixed
+     */
+    Stream<PartialWalk> split();
+
+    /**
+     * @return every row of this part of the walk, in the order they are walked
+     */
+    Stream<DataBag> walk();
+
+    /**
+     * A walk that can only be split into its rows
+     */
+    static PartialWalk ofRows(Supplier<Stream<DataBag>> rows) {
+        return new PartialWalk() {
+            @Override
+            public Optional<DataBag> getRow() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<PartialWalk> split() {
+                return rows.get().map(PartialWalk::ofRow);
+            }
+
+            @Override
+            public Stream<DataBag> walk() {
+                return rows.get();
+            }
+        };
+    }
+
+    static PartialWalk ofRow(DataBag row) {
+        return new PartialWalk() {
+            @Override
+            public Optional<DataBag> getRow() {
+                return Optional.of(row);
+            }
+
+            @Override
+            public Stream<PartialWalk> split() {
+                return Stream.empty();
+            }
+
+            @Override
+            public Stream<DataBag> walk() {
+                return Stream.of(row);
+            }
+        };
+    }
+}
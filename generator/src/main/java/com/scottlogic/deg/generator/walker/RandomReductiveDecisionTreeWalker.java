@@ -1,24 +1,56 @@
 package com.scottlogic.deg.generator.walker;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.deg.common.util.DaemonThreadFactory;
 import com.scottlogic.deg.generator.decisiontree.DecisionTree;
 import com.scottlogic.deg.generator.fieldspecs.RowSpec;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveWalkPlan;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class RandomReductiveDecisionTreeWalker implements DecisionTreeWalker {
+    private static final int BUFFER_SIZE = 1000;
+
     private final ReductiveDecisionTreeWalker underlyingWalker;
+    private final RandomNumberGenerator randomNumberGenerator;
+    private final int randomThreads;
 
     @Inject
-    RandomReductiveDecisionTreeWalker(ReductiveDecisionTreeWalker underlyingWalker) {
+    RandomReductiveDecisionTreeWalker(
+        ReductiveDecisionTreeWalker underlyingWalker,
+        RandomNumberGenerator randomNumberGenerator,
+        @Named("config:randomThreads") int randomThreads) {
         this.underlyingWalker = underlyingWalker;
+        this.randomNumberGenerator = randomNumberGenerator;
+        this.randomThreads = randomThreads;
+    }
+
+    @Override
+    public RandomReductiveDecisionTreeWalker withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator) {
+        return new RandomReductiveDecisionTreeWalker(
+            underlyingWalker.withRandomNumberGenerator(randomNumberGenerator),
+            randomNumberGenerator,
+            randomThreads);
     }
 
     @Override
     public Stream<DataBag> walk(DecisionTree tree) {
-        Optional<DataBag> firstRowSpecOpt = getFirstRowSpecFromRandomisingIteration(tree);
+        ReductiveWalkPlan plan = underlyingWalker.compile(tree);
+        Optional<DataBag> firstRowSpecOpt = getFirstRowSpecFromRandomisingIteration(underlyingWalker, plan);
         //noinspection OptionalIsPresent
         if (!firstRowSpecOpt.isPresent()) {
             return Stream.empty();
@@ -26,14 +58,104 @@ public class RandomReductiveDecisionTreeWalker implements DecisionTreeWalker {
 
         return Stream.concat(
             Stream.of(firstRowSpecOpt.get()),
-            Stream.generate(() ->
-                getFirstRowSpecFromRandomisingIteration(tree))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get));
+            randomThreads > 1
+                ? generateOnWorkers(tree)
+                : Stream.generate(() ->
+                    getFirstRowSpecFromRandomisingIteration(underlyingWalker, plan))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get));
     }
 
-    private Optional<DataBag> getFirstRowSpecFromRandomisingIteration(DecisionTree tree) {
-        return underlyingWalker.walk(tree)
+    /**
+     * Generate rows on randomThreads workers, each with its own random number generator split from the injected one.
+     * Rows are taken from the workers in turn, so the same seed and number of workers always gives the same output.
+     *
+     * The workers run until the stream of rows is closed, which ParallelPartitionWalker does for each partition when
+     * the generated rows are closed; a stream that is only read up to a limit and never closed leaves them blocked.
+     */
+    private Stream<DataBag> generateOnWorkers(DecisionTree tree) {
+        ExecutorService executor = Executors.newFixedThreadPool(randomThreads, new DaemonThreadFactory("random-walker"));
+        List<BlockingQueue<Object>> buffers = new ArrayList<>();
+
+        for (int index = 0; index < randomThreads; index++) {
+            ReductiveDecisionTreeWalker workerWalker =
+                underlyingWalker.withRandomNumberGenerator(randomNumberGenerator.split());
+            BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+
+            buffers.add(buffer);
+            executor.execute(() -> generateRows(workerWalker, tree, buffer));
+        }
+        executor.shutdown();
+
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(new RoundRobinIterator(buffers), Spliterator.ORDERED),
+            false)
+            .onClose(executor::shutdownNow);
+    }
+
+    private void generateRows(ReductiveDecisionTreeWalker workerWalker, DecisionTree tree, BlockingQueue<Object> buffer) {
+        try {
+            try {
+                ReductiveWalkPlan plan = workerWalker.compile(tree);
+                while (!Thread.currentThread().isInterrupted()) {
+                    Optional<DataBag> row = getFirstRowSpecFromRandomisingIteration(workerWalker, plan);
+                    if (row.isPresent()) {
+                        buffer.put(row.get());
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                buffer.put(new WorkerFailure(e));
+            }
+        } catch (InterruptedException e) {
+            // the consumer has gone away, nothing more to do
+        }
+    }
+
+    private static Optional<DataBag> getFirstRowSpecFromRandomisingIteration(ReductiveDecisionTreeWalker walker, ReductiveWalkPlan plan) {
+        return walker.walk(plan)
             .findFirst();
     }
+
+    private static class RoundRobinIterator implements Iterator<DataBag> {
+        private final List<BlockingQueue<Object>> buffers;
+        private int nextBuffer = 0;
+
+        RoundRobinIterator(List<BlockingQueue<Object>> buffers) {
+            this.buffers = buffers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public DataBag next() {
+            Object row = take(buffers.get(nextBuffer));
+            nextBuffer = (nextBuffer + 1) % buffers.size();
+
+            if (row instanceof WorkerFailure) {
+                throw new IllegalStateException("Unable to generate random data", ((WorkerFailure) row).cause);
+            }
+
+            return (DataBag) row;
+        }
+
+        private static Object take(BlockingQueue<Object> buffer) {
+            try {
+                return buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for random data", e);
+            }
+        }
+    }
+
+    private static class WorkerFailure {
+        private final Throwable cause;
+
+        WorkerFailure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
 }
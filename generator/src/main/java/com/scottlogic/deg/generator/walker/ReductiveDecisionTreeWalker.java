@@ -10,11 +10,13 @@ import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
 import com.scottlogic.deg.generator.generation.ReductiveDataGeneratorMonitor;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
 import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 import com.scottlogic.deg.generator.walker.reductive.*;
-import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategy;
 import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategyFactory;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -42,35 +44,90 @@ public class ReductiveDecisionTreeWalker implements DecisionTreeWalker {
         this.fixFieldStrategyFactory = fixFieldStrategyFactory;
     }
 
+    @Override
+    public ReductiveDecisionTreeWalker withRandomNumberGenerator(RandomNumberGenerator randomNumberGenerator) {
+        return new ReductiveDecisionTreeWalker(
+            iterationVisualiser,
+            reductiveFieldSpecBuilder,
+            monitor,
+            treePruner,
+            fieldSpecValueGenerator.withRandomNumberGenerator(randomNumberGenerator),
+            fixFieldStrategyFactory);
+    }
+
     /* initialise the walker with a set (ReductiveState) of unfixed fields */
     @Override
     public Stream<DataBag> walk(DecisionTree tree) {
+        return walk(compile(tree));
+    }
+
+    /**
+     * Work out everything about walking the tree that doesn't depend on the values fixed, so that the tree can be
+     * walked repeatedly with walk(ReductiveWalkPlan) without repeating that work
+     */
+    public ReductiveWalkPlan compile(DecisionTree tree) {
+        return new ReductiveWalkPlan(
+            tree,
+            fixFieldStrategyFactory.create(tree.getRootNode()),
+            reductiveFieldSpecBuilder,
+            fieldSpecValueGenerator);
+    }
+
+    public Stream<DataBag> walk(ReductiveWalkPlan plan) {
+        DecisionTree tree = plan.getTree();
         ReductiveState initialState = new ReductiveState(tree.fields);
         visualise(tree.getRootNode(), initialState);
-        FixFieldStrategy fixFieldStrategy = fixFieldStrategyFactory.create(tree.getRootNode());
-        return fixNextField(tree.getRootNode(), initialState, fixFieldStrategy);
+        return fixNextField(tree.getRootNode(), initialState, plan);
     }
 
-    private Stream<DataBag> fixNextField(ConstraintNode tree, ReductiveState reductiveState, FixFieldStrategy fixFieldStrategy) {
-        Field fieldToFix = fixFieldStrategy.getNextFieldToFix(reductiveState);
-        Set<FieldSpec> nextFieldSpecs = reductiveFieldSpecBuilder.getDecisionFieldSpecs(tree, fieldToFix);
+    /**
+     * Start a walk of the tree that is split by fixing one field at a time, in the same order as walk() fixes them
+     */
+    @Override
+    public PartialWalk partialWalk(DecisionTree tree) {
+        ReductiveState initialState = new ReductiveState(tree.fields);
+        visualise(tree.getRootNode(), initialState);
+        return new ReductivePartialWalk(tree.getRootNode(), initialState, compile(tree));
+    }
+
+    private Stream<DataBag> fixNextField(ConstraintNode tree, ReductiveState reductiveState, ReductiveWalkPlan plan) {
+        return FlatMappingSpliterator.flatMap(
+            splitOnNextField(tree, reductiveState, plan),
+            ReductivePartialWalk::walk);
+    }
+
+    private Stream<ReductivePartialWalk> splitOnNextField(
+        ConstraintNode tree,
+        ReductiveState reductiveState,
+        ReductiveWalkPlan plan) {
+
+        Field fieldToFix = plan.getFixFieldStrategy().getNextFieldToFix(reductiveState, tree);
+        Set<FieldSpec> nextFieldSpecs = plan.getFieldSpecs(tree, fieldToFix);
 
         if (nextFieldSpecs.isEmpty()){
             monitor.noValuesForField(reductiveState, fieldToFix);
             return Stream.empty();
         }
 
-        Stream<DataBagValue> values = fieldSpecValueGenerator.generate(nextFieldSpecs);
+        Stream<DataBagValue> values = generateValues(plan, fieldToFix, nextFieldSpecs);
 
         return FlatMappingSpliterator.flatMap(
             values,
-            dataBagValue -> pruneTreeForNextValue(tree, reductiveState, fixFieldStrategy, fieldToFix, dataBagValue));
+            dataBagValue -> pruneTreeForNextValue(tree, reductiveState, plan, fieldToFix, dataBagValue));
+    }
+
+    private Stream<DataBagValue> generateValues(ReductiveWalkPlan plan, Field field, Set<FieldSpec> fieldSpecs) {
+        FieldValueSource fieldValueSource = plan.getFieldValueSource(field, fieldSpecs);
+
+        return fieldValueSource == null
+            ? fieldSpecValueGenerator.generate(fieldSpecs)
+            : fieldSpecValueGenerator.generate(fieldSpecs, fieldValueSource);
     }
 
-    private Stream<DataBag> pruneTreeForNextValue(
+    private Stream<ReductivePartialWalk> pruneTreeForNextValue(
         ConstraintNode tree,
         ReductiveState reductiveState,
-        FixFieldStrategy fixFieldStrategy,
+        ReductiveWalkPlan plan,
         Field field,
         DataBagValue fieldValue){
 
@@ -88,11 +145,7 @@ public class ReductiveDecisionTreeWalker implements DecisionTreeWalker {
             reductiveState.withFixedFieldValue(field, fieldValue);
         visualise(reducedTree.get(), newReductiveState);
 
-        if (newReductiveState.allFieldsAreFixed()) {
-            return Stream.of(newReductiveState.asDataBag());
-        }
-
-        return fixNextField(reducedTree.get(), newReductiveState, fixFieldStrategy);
+        return Stream.of(new ReductivePartialWalk(reducedTree.get(), newReductiveState, plan));
     }
 
     private void visualise(ConstraintNode rootNode, ReductiveState reductiveState){
@@ -102,4 +155,37 @@ public class ReductiveDecisionTreeWalker implements DecisionTreeWalker {
             throw new RuntimeException(e);
         }
     }
+
+    private class ReductivePartialWalk implements PartialWalk {
+        private final ConstraintNode tree;
+        private final ReductiveState reductiveState;
+        private final ReductiveWalkPlan plan;
+
+        ReductivePartialWalk(ConstraintNode tree, ReductiveState reductiveState, ReductiveWalkPlan plan) {
+            this.tree = tree;
+            this.reductiveState = reductiveState;
+            this.plan = plan;
+        }
+
+        @Override
+        public Optional<DataBag> getRow() {
+            return reductiveState.allFieldsAreFixed()
+                ? Optional.of(reductiveState.asDataBag())
+                : Optional.empty();
+        }
+
+        @Override
+        public Stream<PartialWalk> split() {
+            return reductiveState.allFieldsAreFixed()
+                ? Stream.empty()
+                : splitOnNextField(tree, reductiveState, plan).map(PartialWalk.class::cast);
+        }
+
+        @Override
+        public Stream<DataBag> walk() {
+            return reductiveState.allFieldsAreFixed()
+                ? Stream.of(reductiveState.asDataBag())
+                : fixNextField(tree, reductiveState, plan);
+        }
+    }
 }
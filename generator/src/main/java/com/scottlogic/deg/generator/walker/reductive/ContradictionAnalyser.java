@@ -0,0 +1,73 @@
+package com.scottlogic.deg.generator.walker.reductive;
+
+import com.google.inject.Inject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Works out which earlier fixed field is to blame when a field can't be given any value.
+ *
+ * Pruning only ever removes options from a tree, so if a field has no valid value in a tree it has no valid value in
+ * any tree pruned from it. Given the trees a walker has passed through, one per fixed field, the first tree in which
+ * the field has no valid value identifies the culprit: the field fixed to produce that tree. Nothing fixed after it
+ * can make a difference, so the walker can jump straight back to it.
+ *
+ * This only holds when every value of a field spec is generated, i.e. for FULL_SEQUENTIAL generation.
+ */
+public class ContradictionAnalyser {
+    private final ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private final FieldSpecValueGenerator fieldSpecValueGenerator;
+    private final ReductiveTreePruner treePruner;
+
+    @Inject
+    public ContradictionAnalyser(
+        ReductiveFieldSpecBuilder reductiveFieldSpecBuilder,
+        FieldSpecValueGenerator fieldSpecValueGenerator,
+        ReductiveTreePruner treePruner) {
+        this.reductiveFieldSpecBuilder = reductiveFieldSpecBuilder;
+        this.fieldSpecValueGenerator = fieldSpecValueGenerator;
+        this.treePruner = treePruner;
+    }
+
+    /**
+     * Find the first tree in which the field has no valid value
+     *
+     * Each probe of the binary search generates the field's values from that tree's own field specs and stops at the
+     * first valid one, so the values are never all generated up front, however many the field has at the root.
+     *
+     * @param trees the trees the walker has passed through, starting with the root; the field must have no valid value
+     *              in the last of them
+     * @param field the field that could not be fixed
+     * @return the index of the first tree in which field has no valid value
+     */
+    public int findFirstContradictoryTree(List<ConstraintNode> trees, Field field) {
+        int first = 0;
+        int last = trees.size() - 1;
+
+        while (first < last) {
+            int middle = (first + last) / 2;
+            if (hasValidValue(trees.get(middle), field)) {
+                first = middle + 1;
+            } else {
+                last = middle;
+            }
+        }
+
+        return last;
+    }
+
+    private boolean hasValidValue(ConstraintNode tree, Field field) {
+        Set<FieldSpec> fieldSpecs = reductiveFieldSpecBuilder.getDecisionFieldSpecs(tree, field);
+        if (fieldSpecs.isEmpty()) {
+            return false;
+        }
+
+        return fieldSpecValueGenerator.generate(fieldSpecs)
+            .anyMatch(value -> !treePruner.pruneConstraintNode(tree, field, value).isContradictory());
+    }
+}
@@ -8,13 +8,13 @@ import com.scottlogic.deg.generator.decisiontree.visualisation.BaseVisitor;
 import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.reducer.ConstraintReducer;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
 public class FieldSpecExtractionVisitor extends BaseVisitor {
 
-    public final HashSet<FieldSpec> fieldSpecs = new HashSet<>();
+    public final LinkedHashSet<FieldSpec> fieldSpecs = new LinkedHashSet<>();
     private final Field field;
     private final ConstraintReducer constraintReducer;
 
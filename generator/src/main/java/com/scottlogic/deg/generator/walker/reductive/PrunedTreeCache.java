@@ -0,0 +1,137 @@
+package com.scottlogic.deg.generator.walker.reductive;
+
+import com.google.inject.Inject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionNode;
+import com.scottlogic.deg.generator.generation.ReductiveDataGeneratorMonitor;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of pruning a tree for a given field value, so the same tree doesn't have to be pruned again
+ * when the same value is fixed for the same field, e.g. for low-cardinality fields fixed early in every random row.
+ *
+ * Trees are keyed by identity; the walkers only ever prune the root node or a tree returned by an earlier prune, so
+ * identity is enough to find a repeat and avoids hashing the whole tree. The cache is bounded by the total number of
+ * nodes in the pruned trees it holds, discarding the least recently used results first.
+ */
+public class PrunedTreeCache {
+    private static final int DEFAULT_MAXIMUM_WEIGHT = 100_000;
+
+    private final ReductiveDataGeneratorMonitor monitor;
+    private final int maximumWeight;
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int weight;
+
+    @Inject
+    public PrunedTreeCache(ReductiveDataGeneratorMonitor monitor) {
+        this(monitor, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    PrunedTreeCache(ReductiveDataGeneratorMonitor monitor, int maximumWeight) {
+        this.monitor = monitor;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Get the result of pruning the given tree for the field value, pruning it with prune if it isn't cached
+     */
+    public Merged<ConstraintNode> getOrPrune(
+        ConstraintNode constraintNode,
+        Field field,
+        DataBagValue value,
+        Supplier<Merged<ConstraintNode>> prune) {
+
+        CacheKey key = new CacheKey(constraintNode, field, value);
+        CacheEntry cached = get(key);
+        if (cached != null) {
+            monitor.prunedTreeCacheHit();
+            return cached.result;
+        }
+
+        monitor.prunedTreeCacheMiss();
+        Merged<ConstraintNode> result = prune.get();
+        put(key, new CacheEntry(result, weigh(result)));
+        return result;
+    }
+
+    private synchronized CacheEntry get(CacheKey key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(CacheKey key, CacheEntry entry) {
+        if (entry.weight > maximumWeight) {
+            return;
+        }
+
+        CacheEntry replaced = entries.put(key, entry);
+        weight += entry.weight - (replaced == null ? 0 : replaced.weight);
+
+        Iterator<CacheEntry> leastRecentlyUsed = entries.values().iterator();
+        while (weight > maximumWeight) {
+            weight -= leastRecentlyUsed.next().weight;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static int weigh(Merged<ConstraintNode> result) {
+        return result.isContradictory()
+            ? 1
+            : countNodes(result.get());
+    }
+
+    private static int countNodes(ConstraintNode constraintNode) {
+        int nodes = 1;
+        for (DecisionNode decision : constraintNode.getDecisions()) {
+            nodes++;
+            for (ConstraintNode option : decision.getOptions()) {
+                nodes += countNodes(option);
+            }
+        }
+
+        return nodes;
+    }
+
+    private static class CacheKey {
+        private final ConstraintNode constraintNode;
+        private final Field field;
+        private final DataBagValue value;
+
+        CacheKey(ConstraintNode constraintNode, Field field, DataBagValue value) {
+            this.constraintNode = constraintNode;
+            this.field = field;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return constraintNode == cacheKey.constraintNode &&
+                field.equals(cacheKey.field) &&
+                value.equals(cacheKey.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(constraintNode), field, value);
+        }
+    }
+
+    private static class CacheEntry {
+        private final Merged<ConstraintNode> result;
+        private final int weight;
+
+        CacheEntry(Merged<ConstraintNode> result, int weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+}
@@ -73,7 +73,7 @@ public class ReductiveFieldSpecBuilder {
             .map(decisionSpec -> fieldSpecMerger.merge(rootFieldSpec, decisionSpec))
             .filter(Optional::isPresent)
             .map(Optional::get)
-            .collect(Collectors.toSet());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
 }
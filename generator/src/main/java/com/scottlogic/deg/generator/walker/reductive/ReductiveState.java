@@ -65,6 +65,6 @@ public class ReductiveState {
     }
 
     public DataBag asDataBag() {
-        return new DataBag(fieldValues);
+        return new DataBag(fields, fieldValues);
     }
 }
@@ -17,12 +17,18 @@ public class ReductiveTreePruner {
     private final FieldSpecMerger merger;
     private final ConstraintReducer constraintReducer;
     private final FieldSpecHelper fieldSpecHelper;
+    private final PrunedTreeCache prunedTreeCache;
 
     @Inject
-    public ReductiveTreePruner(FieldSpecMerger merger, ConstraintReducer constraintReducer, FieldSpecHelper fieldSpecHelper) {
+    public ReductiveTreePruner(
+        FieldSpecMerger merger,
+        ConstraintReducer constraintReducer,
+        FieldSpecHelper fieldSpecHelper,
+        PrunedTreeCache prunedTreeCache) {
         this.merger = merger;
         this.constraintReducer = constraintReducer;
         this.fieldSpecHelper = fieldSpecHelper;
+        this.prunedTreeCache = prunedTreeCache;
     }
 
     /**
@@ -32,9 +38,11 @@ public class ReductiveTreePruner {
      * @return A pruned tree if the new tree is valid, Merged.contradictory otherwise
      */
     public Merged<ConstraintNode> pruneConstraintNode(ConstraintNode constraintNode, Field field, DataBagValue value) {
-        Map<Field, FieldSpec> fieldToSpec = new HashMap<>();
-        fieldToSpec.put(field, fieldSpecHelper.getFieldSpecForValue(value));
-        return pruneConstraintNode(constraintNode, fieldToSpec);
+        return prunedTreeCache.getOrPrune(constraintNode, field, value, () -> {
+            Map<Field, FieldSpec> fieldToSpec = new HashMap<>();
+            fieldToSpec.put(field, fieldSpecHelper.getFieldSpecForValue(value));
+            return pruneConstraintNode(constraintNode, fieldToSpec);
+        });
     }
 
     private Merged<ConstraintNode> pruneConstraintNode(ConstraintNode constraintNode, Map<Field, FieldSpec> fieldSpecs) {
@@ -0,0 +1,89 @@
+package com.scottlogic.deg.generator.walker.reductive;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Everything about walking a tree that doesn't depend on the values fixed along the way: the strategy that orders the
+ * fields, the FieldSpecs of each field at the root of the tree and the FieldValueSources built from them.
+ *
+ * Walking the same tree many times, as the random walker does for every row, can then skip straight to pruning the
+ * tree for each value. The specs and sources of every field at the root are worked out when the plan is compiled, and
+ * the plan doesn't change after. The specs of a field in a tree pruned from the root are kept by the pruned tree
+ * itself, so a pruned tree reached again, from the PrunedTreeCache, doesn't have them worked out again.
+ */
+public class ReductiveWalkPlan {
+    private final DecisionTree tree;
+    private final FixFieldStrategy fixFieldStrategy;
+    private final ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private final Map<Field, RootField> rootFields;
+
+    public ReductiveWalkPlan(
+        DecisionTree tree,
+        FixFieldStrategy fixFieldStrategy,
+        ReductiveFieldSpecBuilder reductiveFieldSpecBuilder,
+        FieldSpecValueGenerator fieldSpecValueGenerator) {
+        this.tree = tree;
+        this.fixFieldStrategy = fixFieldStrategy;
+        this.reductiveFieldSpecBuilder = reductiveFieldSpecBuilder;
+
+        Map<Field, RootField> rootFields = new HashMap<>();
+        for (Field field : tree.getFields()) {
+            Set<FieldSpec> fieldSpecs = getFieldSpecs(tree.getRootNode(), field);
+            rootFields.put(field, new RootField(
+                fieldSpecs,
+                fieldSpecs.isEmpty() ? null : fieldSpecValueGenerator.getFieldValueSource(fieldSpecs)));
+        }
+        this.rootFields = Collections.unmodifiableMap(rootFields);
+    }
+
+    public DecisionTree getTree() {
+        return tree;
+    }
+
+    public FixFieldStrategy getFixFieldStrategy() {
+        return fixFieldStrategy;
+    }
+
+    /**
+     * Get the FieldSpecs for the field in the given tree, which may be the root of the planned tree or a tree pruned
+     * from it
+     */
+    public Set<FieldSpec> getFieldSpecs(ConstraintNode constraintNode, Field field) {
+        return constraintNode.getOrCreateFieldSpecs(
+            field,
+            fieldToBuild -> reductiveFieldSpecBuilder.getDecisionFieldSpecs(constraintNode, fieldToBuild));
+    }
+
+    /**
+     * Get the source already built for the field, if the field has the given specs at the root of the tree
+     * @return the source, or null if the specs differ from those at the root
+     */
+    public FieldValueSource getFieldValueSource(Field field, Set<FieldSpec> fieldSpecs) {
+        RootField rootField = rootFields.get(field);
+
+        return rootField != null && rootField.fieldSpecs.equals(fieldSpecs)
+            ? rootField.fieldValueSource
+            : null;
+    }
+
+    private static class RootField {
+        private final Set<FieldSpec> fieldSpecs;
+        private final FieldValueSource fieldValueSource;
+
+        RootField(Set<FieldSpec> fieldSpecs, FieldValueSource fieldValueSource) {
+            this.fieldSpecs = fieldSpecs;
+            this.fieldValueSource = fieldValueSource;
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy;
 
 import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
 import com.scottlogic.deg.generator.walker.reductive.ReductiveState;
 
 public interface FixFieldStrategy {
-    Field getNextFieldToFix(ReductiveState reductiveState);
+    /**
+     * @param reductiveState the fields fixed so far
+     * @param tree the tree as reduced by the fields fixed so far
+     * @return the field to fix next, or null if every field is fixed
+     */
+    Field getNextFieldToFix(ReductiveState reductiveState, ConstraintNode tree);
 }
@@ -1,9 +1,34 @@
 package com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy;
 
+import com.google.inject.Inject;
+import com.scottlogic.deg.generator.config.detail.FixFieldStrategyType;
 import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.generation.FieldValueSourceEvaluator;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveFieldSpecBuilder;
 
 public class FixFieldStrategyFactory {
+    private final FixFieldStrategyType fixFieldStrategyType;
+    private final ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private final FieldValueSourceEvaluator sourceEvaluator;
+
+    @Inject
+    public FixFieldStrategyFactory(
+        FixFieldStrategyType fixFieldStrategyType,
+        ReductiveFieldSpecBuilder reductiveFieldSpecBuilder,
+        FieldValueSourceEvaluator sourceEvaluator) {
+        this.fixFieldStrategyType = fixFieldStrategyType;
+        this.reductiveFieldSpecBuilder = reductiveFieldSpecBuilder;
+        this.sourceEvaluator = sourceEvaluator;
+    }
+
     public FixFieldStrategy create(ConstraintNode rootNode){
-        return new FieldAppearanceFixingStrategy(rootNode);
+        switch (fixFieldStrategyType) {
+            case MINIMUM_REMAINING_VALUES:
+                return new MinimumRemainingValuesFixingStrategy(reductiveFieldSpecBuilder, sourceEvaluator);
+
+            case FIELD_APPEARANCE:
+            default:
+                return new FieldAppearanceFixingStrategy(rootNode);
+        }
     }
-}
\ No newline at end of file
+}
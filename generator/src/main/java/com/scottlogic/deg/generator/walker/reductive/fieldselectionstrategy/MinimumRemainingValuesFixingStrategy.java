@@ -0,0 +1,92 @@
+package com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldValueSourceEvaluator;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveFieldSpecBuilder;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveState;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fixes the field with the fewest values left in the current tree first, so that the most constrained fields are fixed
+ * while there is least to back-track over. Where fields have the same number of values, the field that appears in the
+ * most constraints is fixed first, then the field that comes first in the profile.
+ *
+ * A field with no values left is always picked, so the walker finds out as soon as possible that it must back-track.
+ */
+public class MinimumRemainingValuesFixingStrategy implements FixFieldStrategy {
+    private final ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private final FieldValueSourceEvaluator sourceEvaluator;
+
+    public MinimumRemainingValuesFixingStrategy(
+        ReductiveFieldSpecBuilder reductiveFieldSpecBuilder,
+        FieldValueSourceEvaluator sourceEvaluator) {
+        this.reductiveFieldSpecBuilder = reductiveFieldSpecBuilder;
+        this.sourceEvaluator = sourceEvaluator;
+    }
+
+    @Override
+    public Field getNextFieldToFix(ReductiveState reductiveState, ConstraintNode tree) {
+        FieldAppearanceAnalyser fieldAppearanceAnalyser = new FieldAppearanceAnalyser();
+        tree.accept(fieldAppearanceAnalyser);
+        Map<Field, Integer> constraintDegrees = fieldAppearanceAnalyser.fieldAppearances;
+
+        Field nextField = null;
+        long nextFieldValueCount = Long.MAX_VALUE;
+        int nextFieldDegree = -1;
+
+        for (Field field : reductiveState.getFields()) {
+            if (reductiveState.isFieldFixed(field)) {
+                continue;
+            }
+
+            long valueCount = getRemainingValueCount(tree, field);
+            int degree = constraintDegrees.getOrDefault(field, 0);
+
+            if (nextField == null
+                || valueCount < nextFieldValueCount
+                || (valueCount == nextFieldValueCount && degree > nextFieldDegree)) {
+                nextField = field;
+                nextFieldValueCount = valueCount;
+                nextFieldDegree = degree;
+            }
+
+            if (valueCount == 0) {
+                break;
+            }
+        }
+
+        return nextField;
+    }
+
+    private long getRemainingValueCount(ConstraintNode tree, Field field) {
+        Set<FieldSpec> fieldSpecs = reductiveFieldSpecBuilder.getDecisionFieldSpecs(tree, field);
+
+        List<FieldValueSource> sources = fieldSpecs.stream()
+            .map(sourceEvaluator::getFieldValueSources)
+            .flatMap(Collection::stream)
+            .distinct()
+            .collect(Collectors.toList());
+
+        long valueCount = 0;
+        for (FieldValueSource source : sources) {
+            if (!source.isFinite()) {
+                return Long.MAX_VALUE;
+            }
+
+            valueCount += source.getValueCount();
+            if (valueCount < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        return valueCount;
+    }
+}
@@ -0,0 +1,37 @@
+package com.scottlogic.deg.generator.config.detail;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+class ShardTests {
+    @Test
+    void parse_withIndexAndCount_shouldCreateShard() {
+        Assert.assertThat(Shard.parse("2/5"), equalTo(new Shard(2, 5)));
+    }
+
+    @Test
+    void parse_withoutCount_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Shard.parse("2"));
+    }
+
+    @Test
+    void parse_withIndexNotLessThanCount_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Shard.parse("5/5"));
+    }
+
+    @Test
+    void select_shouldKeepEveryCountthItemStartingAtIndex() {
+        List<Integer> result = new Shard(1, 3).select(Stream.of(0, 1, 2, 3, 4, 5, 6))
+            .collect(Collectors.toList());
+
+        Assert.assertThat(result, contains(1, 4));
+    }
+}
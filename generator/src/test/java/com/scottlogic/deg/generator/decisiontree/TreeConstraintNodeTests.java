@@ -0,0 +1,43 @@
+package com.scottlogic.deg.generator.decisiontree;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.constraints.atomic.AtomicConstraint;
+import com.scottlogic.deg.common.profile.constraints.atomic.IsInSetConstraint;
+import com.scottlogic.deg.common.profile.constraints.atomic.IsNullConstraint;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.Matchers.equalTo;
+
+class TreeConstraintNodeTests {
+    @Test
+    void hashCode_ofNodesBuiltSeparatelyWithSameContents_shouldBeEqual() {
+        Assert.assertThat(node().hashCode(), equalTo(node().hashCode()));
+    }
+
+    @Test
+    void hashCode_ofNodeWithConstraintsInAnotherOrder_shouldBeEqual() {
+        AtomicConstraint notNull = new IsNullConstraint(new Field("a"), null).negate();
+        AtomicConstraint inSet = inSet();
+
+        Assert.assertThat(
+            new TreeConstraintNode(Arrays.asList(notNull, inSet), Collections.emptyList()).hashCode(),
+            equalTo(new TreeConstraintNode(Arrays.asList(inSet, notNull), Collections.emptyList()).hashCode()));
+    }
+
+    private static ConstraintNode node() {
+        return new TreeConstraintNode(
+            Collections.singletonList(new IsNullConstraint(new Field("a"), null).negate()),
+            Collections.singletonList(new TreeDecisionNode(
+                new TreeConstraintNode(inSet()),
+                new TreeConstraintNode(new IsNullConstraint(new Field("b"), null)))));
+    }
+
+    private static AtomicConstraint inSet() {
+        return new IsInSetConstraint(new Field("b"), new HashSet<>(Arrays.asList("x", "y")), null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.scottlogic.deg.generator.decisiontree.serialisation;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.common.profile.RuleInformation;
+import com.scottlogic.deg.common.profile.constraints.atomic.IsOfTypeConstraint;
+import com.scottlogic.deg.common.profile.constraints.atomic.MatchesRegexConstraint;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.scottlogic.deg.generator.builders.ConstraintNodeBuilder.constraintNode;
+import static org.hamcrest.Matchers.*;
+
+class DecisionTreeCacheTests {
+    private final Field field1 = new Field("field1");
+    private final Field field2 = new Field("field2");
+    private final ProfileFields fields = new ProfileFields(Arrays.asList(field1, field2));
+    private Path directory;
+    private File profileFile;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        directory = Files.createTempDirectory("tree-cache");
+        profileFile = Files.write(directory.resolve("profile.json"), "{}".getBytes()).toFile();
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    void get_whenNothingHasBeenPut_shouldReturnEmpty() {
+        DecisionTreeCache cache = new DecisionTreeCache(directory.resolve("cache"), profileFile, "options");
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void get_afterPut_shouldReturnTreesThatWerePut() {
+        ConstraintNode rootNode = constraintNode()
+            .where(field1).isInSet("a", "b")
+            .withDecision(
+                constraintNode().where(field2).isInSet("c"),
+                constraintNode().where(field2).isInSet("d", "e"))
+            .build()
+            .addAtomicConstraints(Collections.singletonList(ofType(field2, IsOfTypeConstraint.Types.STRING)));
+        DecisionTree tree = new DecisionTree(rootNode, fields, "tree");
+
+        new DecisionTreeCache(directory, profileFile, "options").put(Collections.singletonList(tree));
+        List<DecisionTree> cachedTrees = new DecisionTreeCache(directory, profileFile, "options").get().get();
+
+        Assert.assertThat(cachedTrees, hasSize(1));
+        DecisionTree cachedTree = cachedTrees.get(0);
+        Assert.assertThat(cachedTree.getDescription(), equalTo("tree"));
+        Assert.assertThat(cachedTree.getFields(), equalTo(fields));
+        Assert.assertThat(cachedTree.getRootNode().getAtomicConstraints(), contains(rootNode.getAtomicConstraints().toArray()));
+        Assert.assertThat(cachedTree.getRootNode().getDecisions(), hasSize(1));
+        Assert.assertThat(cachedTree.getRootNode().getDecisions().iterator().next().getOptions(), hasSize(2));
+    }
+
+    @Test
+    void get_withDifferentOptions_shouldReturnEmpty() {
+        new DecisionTreeCache(directory, profileFile, "options").put(Collections.singletonList(stringTree()));
+
+        DecisionTreeCache cache = new DecisionTreeCache(directory, profileFile, "other options");
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void get_afterProfileHasChanged_shouldReturnEmpty() throws IOException {
+        new DecisionTreeCache(directory, profileFile, "options").put(Collections.singletonList(stringTree()));
+
+        Files.write(profileFile.toPath(), "{ \"rules\": [] }".getBytes());
+        DecisionTreeCache cache = new DecisionTreeCache(directory, profileFile, "options");
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void put_withConstraintThatCannotBeSerialised_shouldNotCacheTrees() {
+        ConstraintNode rootNode = new TreeConstraintNode(
+            new MatchesRegexConstraint(field1, Pattern.compile("[a-z]"), rules()));
+        DecisionTreeCache cache = new DecisionTreeCache(directory, profileFile, "options");
+
+        cache.put(Collections.singletonList(new DecisionTree(rootNode, fields, "tree")));
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void put_withValuesThatWouldBeReadBackAsDifferentTypes_shouldNotCacheTrees() {
+        ConstraintNode rootNode = constraintNode().where(field1).isInSet(new BigDecimal("1.50")).build();
+        DecisionTreeCache cache = new DecisionTreeCache(directory, profileFile, "options");
+
+        cache.put(Collections.singletonList(new DecisionTree(rootNode, fields, "tree")));
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void put_whenProfileReadsValuesFromFile_shouldNotCacheTrees() throws IOException {
+        Files.write(
+            profileFile.toPath(),
+            "{ \"rules\": [ { \"constraints\": [ { \"field\": \"field1\", \"is\": \"fromFile\", \"value\": \"names.csv\" } ] } ] }"
+                .getBytes());
+        DecisionTreeCache cache = new DecisionTreeCache(directory, profileFile, "options");
+
+        cache.put(Collections.singletonList(stringTree()));
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+        try (Stream<Path> entries = Files.list(directory)) {
+            Assert.assertThat(entries.filter(path -> !path.equals(profileFile.toPath())).count(), equalTo(0L));
+        }
+    }
+
+    @Test
+    void get_withCorruptEntry_shouldReturnEmpty() throws IOException {
+        DecisionTreeCache cache = new DecisionTreeCache(directory, profileFile, "options");
+        cache.put(Collections.singletonList(stringTree()));
+
+        try (Stream<Path> entries = Files.list(directory)) {
+            Path entry = entries.filter(path -> !path.equals(profileFile.toPath())).findFirst().get();
+            Files.write(entry, "not json".getBytes());
+        }
+
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void disabled_shouldNotCacheTrees() {
+        DecisionTreeCache cache = DecisionTreeCache.disabled();
+
+        cache.put(Collections.singletonList(stringTree()));
+
+        Assert.assertThat(cache.isEnabled(), is(false));
+        Assert.assertThat(cache.get(), equalTo(Optional.empty()));
+    }
+
+    private DecisionTree stringTree() {
+        return new DecisionTree(constraintNode().where(field1).isInSet("a").build(), fields, "tree");
+    }
+
+    private static IsOfTypeConstraint ofType(Field field, IsOfTypeConstraint.Types type) {
+        return new IsOfTypeConstraint(field, type, rules());
+    }
+
+    private static Set<RuleInformation> rules() {
+        return Collections.singleton(new RuleInformation());
+    }
+}
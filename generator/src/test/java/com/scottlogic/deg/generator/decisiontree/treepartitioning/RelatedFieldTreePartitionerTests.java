@@ -16,6 +16,9 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
 class RelatedFieldTreePartitionerTests {
     private static final TreeConstraintNode emptyConstraint
         = new TreeConstraintNode(Collections.emptySet(), Collections.emptySet());
@@ -202,6 +205,23 @@ class RelatedFieldTreePartitionerTests {
             tree(fields("C"), emptyConstraint));
     }
 
+    @Test
+    void shouldKeepOrdinalsOfTreeFieldsInEveryPartition() {
+        ProfileFields treeFields = fields("A", "B", "C");
+        givenTree(
+            tree(treeFields,
+                constraint("B")));
+
+        partitionTrees();
+
+        Assert.assertThat(partitionedTrees, hasSize(3));
+        for (DecisionTree partition : partitionedTrees) {
+            Assert.assertTrue(partition.getFields().hasSameOrdinals(treeFields));
+            Field field = partition.getFields().iterator().next();
+            Assert.assertThat(partition.getFields().getOrdinal(field), equalTo(treeFields.getOrdinal(field)));
+        }
+    }
+
     private ConstraintNode constraint(String... fieldNames) {
         return constraint(fieldNames, new DecisionNode[0]);
     }
@@ -0,0 +1,154 @@
+package com.scottlogic.deg.generator.generation;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.generator.builders.DataBagBuilder;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
+import com.scottlogic.deg.generator.generation.combinationstrategies.ReductiveCombinationStrategy;
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class ParallelPartitionWalkerTests {
+    private final Function<DecisionTree, Stream<DataBag>> walkPartition = tree -> {
+        Field field = tree.getFields().iterator().next();
+        return IntStream.range(0, 10).mapToObj(i -> new DataBagBuilder().set(field, i).build());
+    };
+
+    @Test
+    void walk_withSingleThread_shouldWalkPartitionsInOrder() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(1, 2);
+
+        List<List<DataBag>> result = walker.walk(walks(walkPartition, "a", "b"))
+            .map(partition -> partition.collect(Collectors.toList()))
+            .collect(Collectors.toList());
+
+        Assert.assertThat(result.get(0), equalTo(expectedBags("a")));
+        Assert.assertThat(result.get(1), equalTo(expectedBags("b")));
+    }
+
+    @Test
+    void walk_withMultipleThreads_shouldPreserveOrderWithinEachPartition() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(4, 2);
+
+        List<List<DataBag>> result = walker.walk(walks(walkPartition, "a", "b", "c"))
+            .map(partition -> partition.collect(Collectors.toList()))
+            .collect(Collectors.toList());
+
+        Assert.assertThat(
+            result,
+            contains(expectedBags("a"), expectedBags("b"), expectedBags("c")));
+    }
+
+    @Test
+    void walk_withFewerThreadsThanPartitions_shouldCombineAllRows() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(2, 1);
+
+        long rows = new ReductiveCombinationStrategy()
+            .permute(walker.walk(walks(walkPartition, "a", "b", "c", "d")))
+            .count();
+
+        Assert.assertThat(rows, equalTo(10_000L));
+    }
+
+    @Test
+    void walk_withFewerThreadsThanPartitions_shouldUseNoMoreWorkersThanThreads() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(2, 1);
+        Set<String> walkingThreads = ConcurrentHashMap.newKeySet();
+        Function<DecisionTree, Stream<DataBag>> recordingWalk = tree -> {
+            walkingThreads.add(Thread.currentThread().getName());
+            return walkPartition.apply(tree);
+        };
+
+        long rows = new ReductiveCombinationStrategy()
+            .permute(walker.walk(walks(recordingWalk, "a", "b", "c", "d", "e", "f")))
+            .count();
+
+        Assert.assertThat(rows, equalTo(1_000_000L));
+        Assert.assertThat(
+            walkingThreads.stream().filter(name -> name.startsWith("partition-walker-")).count(),
+            lessThanOrEqualTo(2L));
+    }
+
+    @Test
+    void walk_whenPartitionFails_shouldRethrowOnConsumingThread() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(2, 2);
+        Function<DecisionTree, Stream<DataBag>> failingWalk = tree -> {
+            throw new UnsupportedOperationException("walk failed");
+        };
+
+        List<Stream<DataBag>> result = walker.walk(walks(failingWalk, "a", "b"))
+            .collect(Collectors.toList());
+
+        IllegalStateException exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> result.get(0).count());
+        Assert.assertThat(exception.getCause().getMessage(), equalTo("walk failed"));
+    }
+
+    @Test
+    void close_withSingleThread_shouldCloseEveryPartitionWalked() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(1, 2);
+        Set<String> closedPartitions = ConcurrentHashMap.newKeySet();
+
+        try (Stream<Stream<DataBag>> partitions = walker.walk(walks(closing(closedPartitions), "a", "b"))) {
+            partitions.forEach(partition -> partition.limit(1).count());
+        }
+
+        Assert.assertThat(closedPartitions, containsInAnyOrder("a", "b"));
+    }
+
+    @Test
+    void close_withMultipleThreads_shouldCloseEveryPartitionWalked() {
+        ParallelPartitionWalker walker = new ParallelPartitionWalker(4, 2);
+        Set<String> closedPartitions = ConcurrentHashMap.newKeySet();
+
+        try (Stream<Stream<DataBag>> partitions = walker.walk(walks(closing(closedPartitions), "a", "b", "c"))) {
+            partitions.forEach(partition -> partition.limit(1).count());
+        }
+
+        Assert.assertThat(closedPartitions, containsInAnyOrder("a", "b", "c"));
+    }
+
+    private Function<DecisionTree, Stream<DataBag>> closing(Set<String> closedPartitions) {
+        return tree -> walkPartition.apply(tree)
+            .onClose(() -> closedPartitions.add(tree.getFields().iterator().next().name));
+    }
+
+    private static Stream<Supplier<Stream<DataBag>>> walks(
+        Function<DecisionTree, Stream<DataBag>> walkPartition,
+        String... fieldNames) {
+
+        return Arrays.stream(fieldNames)
+            .map(name -> new DecisionTree(
+                new TreeConstraintNode(),
+                new ProfileFields(Collections.singletonList(new Field(name))),
+                name))
+            .map(partition -> () -> walkPartition.apply(partition));
+    }
+
+    private static List<DataBag> expectedBags(String fieldName) {
+        Field field = new Field(fieldName);
+        return IntStream.range(0, 10)
+            .mapToObj(i -> new DataBagBuilder().set(field, i).build())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,174 @@
+package com.scottlogic.deg.generator.generation;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.config.detail.Shard;
+import com.scottlogic.deg.generator.generation.combinationstrategies.ReductiveCombinationStrategy;
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.walker.PartialWalk;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+class ShardedPartitionWalkTests {
+    @Test
+    void walk_withSinglePartition_shouldSplitRowsEvenlyBetweenShards() {
+        List<PartialWalk> partitions = Arrays.asList(new FieldByFieldWalk(10, "a1", "a2"));
+
+        List<List<DataBag>> shards = walkEachShard(partitions, 4);
+
+        assertShardsMakeUpUnshardedRows(shards, partitions);
+        for (List<DataBag> shard : shards) {
+            Assert.assertThat(shard.size(), equalTo(25));
+        }
+    }
+
+    @Test
+    void walk_withFirstPartitionSmallerThanShardCount_shouldSplitRowsEvenlyBetweenShards() {
+        List<PartialWalk> partitions = Arrays.asList(
+            new FieldByFieldWalk(2, "a"),
+            new FieldByFieldWalk(3, "b1", "b2"),
+            new FieldByFieldWalk(2, "c"));
+
+        List<List<DataBag>> shards = walkEachShard(partitions, 3);
+
+        assertShardsMakeUpUnshardedRows(shards, partitions);
+        for (List<DataBag> shard : shards) {
+            Assert.assertThat(shard.size(), equalTo(12));
+        }
+    }
+
+    @Test
+    void walk_withMoreRowsThanCanBeSplitUp_shouldProduceEveryRowOnce() {
+        List<PartialWalk> partitions = Arrays.asList(
+            new FieldByFieldWalk(3, "a1", "a2", "a3"),
+            new FieldByFieldWalk(4, "b"));
+
+        assertShardsMakeUpUnshardedRows(walkEachShard(partitions, 5), partitions);
+    }
+
+    @Test
+    void close_shouldCloseEveryWalkOpened() {
+        AtomicInteger openWalks = new AtomicInteger();
+        List<PartialWalk> partitions = Arrays.asList(
+            new FieldByFieldWalk(2, openWalks, "a"),
+            new FieldByFieldWalk(2, openWalks, "b"));
+
+        try (Stream<DataBag> rows = new ShardedPartitionWalk(partitions, new Shard(0, 2)).walk()) {
+            rows.forEach(row -> {});
+        }
+
+        Assert.assertThat(openWalks.get(), equalTo(0));
+    }
+
+    private static List<List<DataBag>> walkEachShard(List<PartialWalk> partitions, int shardCount) {
+        return IntStream.range(0, shardCount)
+            .mapToObj(index -> new ShardedPartitionWalk(partitions, new Shard(index, shardCount)).walk()
+                .collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Every unsharded row should be produced by exactly one shard, and each shard should produce its rows in the
+     * order they are produced without sharding
+     */
+    private static void assertShardsMakeUpUnshardedRows(List<List<DataBag>> shards, List<PartialWalk> partitions) {
+        List<DataBag> unsharded = new ReductiveCombinationStrategy()
+            .permute(partitions.stream().map(PartialWalk::walk))
+            .collect(Collectors.toList());
+
+        List<DataBag> allShards = shards.stream().flatMap(List::stream).collect(Collectors.toList());
+        Assert.assertThat(allShards, containsInAnyOrder(unsharded.toArray()));
+
+        for (List<DataBag> shard : shards) {
+            List<DataBag> unshardedRowsOfShard = unsharded.stream()
+                .filter(shard::contains)
+                .collect(Collectors.toList());
+            Assert.assertThat(shard, equalTo(unshardedRowsOfShard));
+        }
+    }
+
+    /**
+     * A walk that fixes each field in turn to each of the values 0 to valuesPerField - 1
+     */
+    private static class FieldByFieldWalk implements PartialWalk {
+        private final List<Field> fields;
+        private final int valuesPerField;
+        private final Map<Field, DataBagValue> fixedValues;
+        private final AtomicInteger openWalks;
+
+        FieldByFieldWalk(int valuesPerField, String... fieldNames) {
+            this(valuesPerField, new AtomicInteger(), fieldNames);
+        }
+
+        FieldByFieldWalk(int valuesPerField, AtomicInteger openWalks, String... fieldNames) {
+            this(
+                Arrays.stream(fieldNames).map(Field::new).collect(Collectors.toList()),
+                valuesPerField,
+                new LinkedHashMap<>(),
+                openWalks);
+        }
+
+        private FieldByFieldWalk(
+            List<Field> fields,
+            int valuesPerField,
+            Map<Field, DataBagValue> fixedValues,
+            AtomicInteger openWalks) {
+            this.fields = fields;
+            this.valuesPerField = valuesPerField;
+            this.fixedValues = fixedValues;
+            this.openWalks = openWalks;
+        }
+
+        @Override
+        public Optional<DataBag> getRow() {
+            return fixedValues.size() == fields.size()
+                ? Optional.of(new DataBag(fixedValues))
+                : Optional.empty();
+        }
+
+        @Override
+        public Stream<PartialWalk> split() {
+            if (fixedValues.size() == fields.size()) {
+                return Stream.empty();
+            }
+
+            Field nextField = fields.get(fixedValues.size());
+            return IntStream.range(0, valuesPerField).mapToObj(value -> {
+                Map<Field, DataBagValue> newFixedValues = new LinkedHashMap<>(fixedValues);
+                newFixedValues.put(nextField, new DataBagValue(value));
+                return new FieldByFieldWalk(fields, valuesPerField, newFixedValues, openWalks);
+            });
+        }
+
+        @Override
+        public Stream<DataBag> walk() {
+            List<DataBag> rows = new ArrayList<>();
+            addRows(this, rows);
+            openWalks.incrementAndGet();
+            return rows.stream().onClose(openWalks::decrementAndGet);
+        }
+
+        private static void addRows(PartialWalk walk, List<DataBag> rows) {
+            Optional<DataBag> row = walk.getRow();
+            if (row.isPresent()) {
+                rows.add(row.get());
+            } else {
+                walk.split().forEach(part -> addRows(part, rows));
+            }
+        }
+    }
+}
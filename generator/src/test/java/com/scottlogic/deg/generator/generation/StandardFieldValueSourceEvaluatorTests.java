@@ -1,11 +1,14 @@
 package com.scottlogic.deg.generator.generation;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.scottlogic.deg.common.profile.constraints.atomic.IsOfTypeConstraint;
 import com.scottlogic.deg.common.profile.constraintdetail.Nullness;
 import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.CannedValuesFieldValueSource;
 import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.IntegerFieldValueSource;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.RealNumberFieldValueSource;
 import com.scottlogic.deg.generator.restrictions.*;
 import com.scottlogic.deg.generator.restrictions.SetRestrictions;
 import org.junit.Assert;
@@ -337,6 +340,50 @@ public class StandardFieldValueSourceEvaluatorTests {
         Assert.assertEquals(expectedValues, valuesFromResult);
     }
 
+    @Test
+    void getFieldValueSources_fieldSpecContainsIntegerRestrictionsWithinRangeOfLong_usesIntegerSource() {
+        FieldSpec fieldSpec = FieldSpec.Empty.withNumericRestrictions(
+            new NumericRestrictions(0) {{
+                min = new NumericLimit<>(new BigDecimal(0), false);
+                max = new NumericLimit<>(new BigDecimal("1E+18"), false);
+            }}
+        ).withTypeRestrictions(
+            new DataTypeRestrictions(
+                Collections.singletonList(IsOfTypeConstraint.Types.NUMERIC)
+            )
+        ).withNotNull();
+        StandardFieldValueSourceEvaluator evaluator = new StandardFieldValueSourceEvaluator();
+
+        final List<FieldValueSource> result = evaluator.getFieldValueSources(fieldSpec);
+
+        Assert.assertEquals(1, result.size());
+        Assert.assertTrue(result.get(0) instanceof IntegerFieldValueSource);
+        Assert.assertEquals(
+            Arrays.asList(
+                new BigDecimal(1),
+                new BigDecimal(2),
+                new BigDecimal("999999999999999998"),
+                new BigDecimal("999999999999999999")),
+            Lists.newArrayList(result.get(0).generateInterestingValues()));
+    }
+
+    @Test
+    void getFieldValueSources_fieldSpecContainsIntegerRestrictionsBeyondRangeOfLong_usesRealNumberSource() {
+        FieldSpec fieldSpec = FieldSpec.Empty.withNumericRestrictions(
+            new NumericRestrictions(0)
+        ).withTypeRestrictions(
+            new DataTypeRestrictions(
+                Collections.singletonList(IsOfTypeConstraint.Types.NUMERIC)
+            )
+        ).withNotNull();
+        StandardFieldValueSourceEvaluator evaluator = new StandardFieldValueSourceEvaluator();
+
+        final List<FieldValueSource> result = evaluator.getFieldValueSources(fieldSpec);
+
+        Assert.assertEquals(1, result.size());
+        Assert.assertTrue(result.get(0) instanceof RealNumberFieldValueSource);
+    }
+
     private void AssertLastSourceIsNullOnlySource(List<FieldValueSource> sources) {
         int lastSourceIndex = sources.size() - 1;
         Assert.assertTrue(sources.get(lastSourceIndex) instanceof CannedValuesFieldValueSource);
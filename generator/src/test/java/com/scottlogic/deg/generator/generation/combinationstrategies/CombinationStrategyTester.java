@@ -2,6 +2,7 @@ package com.scottlogic.deg.generator.generation.combinationstrategies;
 
 import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.generator.builders.DataBagBuilder;
+import com.scottlogic.deg.generator.config.detail.Shard;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
 import org.hamcrest.collection.IsArrayContainingInAnyOrder;
 import org.junit.Assert;
@@ -28,6 +29,13 @@ class CombinationStrategyTester {
         Assert.assertThat(results, IsArrayContainingInAnyOrder.arrayContainingInAnyOrder(bagArray));
     }
 
+    void expectForShard(Shard shard, Stream<DataBag> bagSequence) {
+        DataBag[] results = strategy.permute(dataBags, shard).toArray(DataBag[]::new);
+        DataBag[] bagArray = bagSequence.toArray(DataBag[]::new);
+
+        Assert.assertThat(results, IsArrayContainingInAnyOrder.arrayContainingInAnyOrder(bagArray));
+    }
+
     void expectEmpty() {
         Stream<DataBag> results = strategy.permute(dataBags);
 
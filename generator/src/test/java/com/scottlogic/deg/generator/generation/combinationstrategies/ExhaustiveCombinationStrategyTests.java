@@ -1,5 +1,6 @@
 package com.scottlogic.deg.generator.generation.combinationstrategies;
 
+import com.scottlogic.deg.generator.config.detail.Shard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +76,18 @@ class ExhaustiveCombinationStrategyTests {
 
         tester.expectEmpty();
     }
+
+    @Test
+    void shouldCombineThenKeepTheRowsInTheShard() {
+        tester.given(
+            Stream.of(bag("A"), bag("B"), bag("C")),
+            Stream.of(bag("1"), bag("2")));
+
+        tester.expectForShard(
+            new Shard(0, 2),
+            Stream.of(
+                bag("A", "1"),
+                bag("B", "1"),
+                bag("C", "1")));
+    }
 }
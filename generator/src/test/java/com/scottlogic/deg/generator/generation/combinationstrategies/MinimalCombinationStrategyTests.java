@@ -1,5 +1,6 @@
 package com.scottlogic.deg.generator.generation.combinationstrategies;
 
+import com.scottlogic.deg.generator.config.detail.Shard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -56,4 +57,15 @@ class MinimalCombinationStrategyTests {
 
         tester.expectEmpty();
     }
+
+    @Test
+    void shouldCombineMinimallyThenKeepTheRowsInTheShard() {
+        tester.given(
+            Stream.of(bag("A"), bag("B"), bag("C")),
+            Stream.of(bag("1"), bag("2"), bag("3")));
+
+        tester.expectForShard(
+            new Shard(1, 2),
+            Stream.of(bag("B", "2")));
+    }
 }
@@ -4,6 +4,7 @@ import com.scottlogic.deg.generator.builders.DataBagBuilder;
 import com.scottlogic.deg.generator.generation.databags.DataBagValue;
 import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.config.detail.Shard;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
 
 class ReductiveCombinationStrategyTests {
     @Test
@@ -92,4 +96,27 @@ class ReductiveCombinationStrategyTests {
         }};
         Assert.assertEquals(expectedDataBags, result);
     }
+
+    @Test
+    void permute_withEachShard_returnsEveryCombinationExactlyOnce() {
+        ReductiveCombinationStrategy combinationStrategy = new ReductiveCombinationStrategy();
+        List<DataBag> unsharded = combinationStrategy.permute(threeByTwoDataBagSequences())
+            .collect(Collectors.toList());
+
+        List<DataBag> sharded = new ArrayList<>();
+        for (int index = 0; index < 2; index++) {
+            combinationStrategy.permute(threeByTwoDataBagSequences(), new Shard(index, 2))
+                .forEach(sharded::add);
+        }
+
+        Assert.assertThat(sharded, containsInAnyOrder(unsharded.toArray()));
+    }
+
+    private static Stream<Stream<DataBag>> threeByTwoDataBagSequences() {
+        Field first = new Field("First Field");
+        Field second = new Field("Second Field");
+        return Stream.of(
+            Stream.of(10, 20, 30).map(value -> new DataBagBuilder().set(first, new DataBagValue(value)).build()),
+            Stream.of("A", "B").map(value -> new DataBagBuilder().set(second, new DataBagValue(value)).build()));
+    }
 }
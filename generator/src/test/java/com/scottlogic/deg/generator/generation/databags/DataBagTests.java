@@ -1,12 +1,17 @@
 package com.scottlogic.deg.generator.generation.databags;
 
 import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.generator.builders.DataBagBuilder;
 import org.junit.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 class DataBagTests {
     @Test
@@ -92,4 +97,53 @@ class DataBagTests {
             IllegalArgumentException.class,
             () -> DataBag.merge(dataBag1, dataBag2));
     }
+
+    @Test
+    void mergedDataBagsForSameProfileFieldsShouldContainTheSameValuesAsInputs() {
+        // ARRANGE
+        Field idField = new Field("id");
+        Field priceField = new Field("price");
+        ProfileFields fields = new ProfileFields(Arrays.asList(idField, priceField));
+
+        DataBag dataBag1 = new DataBag(fields, Collections.singletonMap(idField, new DataBagValue(3)));
+        DataBag dataBag2 = new DataBag(fields, Collections.singletonMap(priceField, new DataBagValue(4)));
+
+        // ACT
+        DataBag mergedDataBag = DataBag.merge(dataBag1, DataBag.empty, dataBag2);
+
+        // ASSERT
+        Assert.assertThat(mergedDataBag.getFormattedValue(idField), equalTo(3));
+        Assert.assertThat(mergedDataBag.getFormattedValue(priceField), equalTo(4));
+    }
+
+    @Test
+    void mergeForSameProfileFieldsShouldThrowIfDataBagsOverlap() {
+        // ARRANGE
+        Field idField = new Field("id");
+        ProfileFields fields = new ProfileFields(Collections.singletonList(idField));
+
+        DataBag dataBag1 = new DataBag(fields, Collections.singletonMap(idField, new DataBagValue("foo")));
+        DataBag dataBag2 = new DataBag(fields, Collections.singletonMap(idField, new DataBagValue("bar")));
+
+        // ACT / ASSERT
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> DataBag.merge(dataBag1, dataBag2));
+    }
+
+    @Test
+    void dataBagsWithSameValuesShouldBeEqualWhateverTheirProfileFields() {
+        // ARRANGE
+        Field idField = new Field("id");
+        Field priceField = new Field("price");
+        ProfileFields fields = new ProfileFields(Arrays.asList(priceField, idField));
+
+        DataBag dataBag1 = new DataBagBuilder().set(idField, 3).build();
+        DataBag dataBag2 = new DataBag(fields, Collections.singletonMap(idField, new DataBagValue(3)));
+
+        // ASSERT
+        Assert.assertThat(dataBag1, equalTo(dataBag2));
+        Assert.assertThat(dataBag1.hashCode(), equalTo(dataBag2.hashCode()));
+        Assert.assertThat(dataBag1, not(equalTo(DataBag.merge(dataBag2, new DataBagBuilder().set(priceField, 4).build()))));
+    }
 }
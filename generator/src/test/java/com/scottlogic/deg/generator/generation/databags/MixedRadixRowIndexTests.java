@@ -0,0 +1,102 @@
+package com.scottlogic.deg.generator.generation.databags;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.builders.DataBagBuilder;
+import com.scottlogic.deg.generator.generation.combinationstrategies.ExhaustiveCombinationStrategy;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.CannedValuesFieldValueSource;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MixedRadixRowIndexTests {
+    private final Field first = new Field("first");
+    private final Field second = new Field("second");
+    private final Field third = new Field("third");
+
+    private final List<MixedRadixRowIndex.IndexedField> fields = Arrays.asList(
+        new MixedRadixRowIndex.IndexedField(first, CannedValuesFieldValueSource.of("a", "b", "c"), null),
+        new MixedRadixRowIndex.IndexedField(second, CannedValuesFieldValueSource.of(1, 2), null),
+        new MixedRadixRowIndex.IndexedField(third, CannedValuesFieldValueSource.of("x", "y"), "%s!"));
+
+    @Test
+    void getRows_fromStart_shouldMatchExhaustiveCombination() {
+        MixedRadixRowIndex rowIndex = MixedRadixRowIndex.create(fields).get();
+
+        List<DataBag> exhaustive = new ExhaustiveCombinationStrategy()
+            .permute(Stream.of(
+                dataBags(first, CannedValuesFieldValueSource.of("a", "b", "c"), null),
+                dataBags(second, CannedValuesFieldValueSource.of(1, 2), null),
+                dataBags(third, CannedValuesFieldValueSource.of("x", "y"), "%s!")))
+            .collect(Collectors.toList());
+
+        Assert.assertThat(rowIndex.getRowCount(), equalTo(12L));
+        Assert.assertThat(rowIndex.getRows(0).collect(Collectors.toList()), equalTo(exhaustive));
+    }
+
+    @Test
+    void getRow_atAnyRow_shouldMatchExhaustiveCombinationAtThatRow() {
+        MixedRadixRowIndex rowIndex = MixedRadixRowIndex.create(fields).get();
+
+        List<DataBag> exhaustive = new ExhaustiveCombinationStrategy()
+            .permute(Stream.of(
+                dataBags(first, CannedValuesFieldValueSource.of("a", "b", "c"), null),
+                dataBags(second, CannedValuesFieldValueSource.of(1, 2), null),
+                dataBags(third, CannedValuesFieldValueSource.of("x", "y"), "%s!")))
+            .collect(Collectors.toList());
+
+        for (int row : new int[] { 7, 3, 11, 5, 1, 8 }) {
+            Assert.assertThat(rowIndex.getRow(row), equalTo(exhaustive.get(row)));
+        }
+        Assert.assertThat(rowIndex.getRow(5).getFormattedValue(first), equalTo("b"));
+        Assert.assertThat(rowIndex.getRow(5).getFormattedValue(second), equalTo(1));
+        Assert.assertThat(rowIndex.getRow(5).getFormattedValue(third), equalTo("y!"));
+    }
+
+    @Test
+    void getRows_fromLaterRow_shouldSkipEarlierRows() {
+        MixedRadixRowIndex rowIndex = MixedRadixRowIndex.create(fields).get();
+
+        List<DataBag> rows = rowIndex.getRows(10).collect(Collectors.toList());
+
+        Assert.assertThat(rows, equalTo(Arrays.asList(rowIndex.getRow(10), rowIndex.getRow(11))));
+        Assert.assertThat(rows.get(0).getFormattedValue(first), equalTo("c"));
+        Assert.assertThat(rows.get(0).getFormattedValue(second), equalTo(2));
+        Assert.assertThat(rows.get(0).getFormattedValue(third), equalTo("x!"));
+    }
+
+    @Test
+    void create_whenFieldIsNotIndexable_shouldBeEmpty() {
+        FieldValueSource source = mock(FieldValueSource.class);
+        when(source.isIndexable()).thenReturn(false);
+
+        Assert.assertFalse(MixedRadixRowIndex.create(
+            Collections.singletonList(new MixedRadixRowIndex.IndexedField(first, source, null))).isPresent());
+    }
+
+    @Test
+    void create_whenRowCountExceedsLong_shouldBeEmpty() {
+        FieldValueSource source = mock(FieldValueSource.class);
+        when(source.isIndexable()).thenReturn(true);
+        when(source.getValueCount()).thenReturn(Long.MAX_VALUE / 2);
+
+        Assert.assertFalse(MixedRadixRowIndex.create(Arrays.asList(
+            new MixedRadixRowIndex.IndexedField(first, source, null),
+            new MixedRadixRowIndex.IndexedField(second, source, null))).isPresent());
+    }
+
+    private static Stream<DataBag> dataBags(Field field, FieldValueSource source, String format) {
+        return StreamSupport.stream(source.generateAllValues().spliterator(), false)
+            .map(value -> new DataBagBuilder().set(field, new DataBagValue(value, format)).build());
+    }
+}
@@ -8,6 +8,7 @@ import com.scottlogic.deg.generator.fieldspecs.RowSpec;
 import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
 import com.scottlogic.deg.generator.generation.combinationstrategies.CombinationStrategy;
 import com.scottlogic.deg.generator.generation.combinationstrategies.ExhaustiveCombinationStrategy;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.CannedValuesFieldValueSource;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -87,4 +88,48 @@ class RowSpecDataBagGeneratorTests {
 
         verify(mockCombinationStrategy, times(1)).permute(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotCreateRowsByIndexWhenCombinationStrategyIsNotExhaustive() {
+        RowSpecDataBagGenerator factory =
+            new RowSpecDataBagGenerator(mockGeneratorFactory, mockCombinationStrategy);
+        Map<Field, FieldSpec> map = new HashMap<Field, FieldSpec>() {{ put(field, fieldSpec); }};
+        RowSpec rowSpec = new RowSpec(fields, map);
+
+        when(mockCombinationStrategy.isExhaustive()).thenReturn(false);
+        when(mockGeneratorFactory.canGenerateByIndex()).thenReturn(true);
+        when(mockGeneratorFactory.getFieldValueSource(fieldSpec)).thenReturn(CannedValuesFieldValueSource.of("a", "b"));
+
+        factory.createDataBags(rowSpec);
+
+        verify(mockGeneratorFactory, never()).getFieldValueSource(any(FieldSpec.class));
+        verify(mockCombinationStrategy, times(1)).permute(any());
+    }
+
+    @Test
+    void shouldCreateRowsByIndexWhenExhaustiveAndFieldValuesAreIndexable() {
+        RowSpecDataBagGenerator factory =
+            new RowSpecDataBagGenerator(mockGeneratorFactory, exhaustiveCombinationStrategy);
+        Map<Field, FieldSpec> map = new HashMap<Field, FieldSpec>() {{
+            put(field, fieldSpec);
+            put(field2, fieldSpec2); }};
+        RowSpec rowSpec = new RowSpec(new ProfileFields(Arrays.asList(field, field2)), map);
+
+        when(mockGeneratorFactory.canGenerateByIndex()).thenReturn(true);
+        when(mockGeneratorFactory.getFieldValueSource(fieldSpec)).thenReturn(CannedValuesFieldValueSource.of("a", "b"));
+        when(mockGeneratorFactory.getFieldValueSource(fieldSpec2)).thenReturn(CannedValuesFieldValueSource.of(1, 2));
+
+        List<DataBag> actual = factory.createDataBags(rowSpec)
+            .collect(Collectors.toList());
+
+        verify(mockGeneratorFactory, never()).generate(any(FieldSpec.class));
+
+        List<DataBag> expected = Arrays.asList(
+            new DataBagBuilder().set(field, new DataBagValue("a", null)).set(field2, new DataBagValue(1, null)).build(),
+            new DataBagBuilder().set(field, new DataBagValue("a", null)).set(field2, new DataBagValue(2, null)).build(),
+            new DataBagBuilder().set(field, new DataBagValue("b", null)).set(field2, new DataBagValue(1, null)).build(),
+            new DataBagBuilder().set(field, new DataBagValue("b", null)).set(field2, new DataBagValue(2, null)).build());
+
+        assertThat(actual, sameBeanAs(expected));
+    }
+}
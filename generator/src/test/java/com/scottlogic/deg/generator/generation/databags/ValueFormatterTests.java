@@ -0,0 +1,71 @@
+package com.scottlogic.deg.generator.generation.databags;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ValueFormatterTests {
+    private static final List<Object> values = Arrays.asList(
+        "a string",
+        0,
+        -12,
+        Long.MAX_VALUE,
+        new BigInteger("-123456789012345678901234567890"),
+        BigDecimal.ZERO,
+        new BigDecimal("-0.001"),
+        new BigDecimal("-0.005"),
+        new BigDecimal("1.005"),
+        new BigDecimal("99.995"),
+        new BigDecimal("1E+3"),
+        new BigDecimal("1E-10"),
+        new BigDecimal("-0E-5"),
+        1.5,
+        OffsetDateTime.parse("2018-10-10T23:59:59.999Z"),
+        OffsetDateTime.parse("0005-01-02T00:00Z"),
+        OffsetDateTime.parse("+10000-12-31T00:00Z"));
+
+    @Test
+    void format_withFastPathFormats_shouldFormatAsStringFormatWould() {
+        for (String format : Arrays.asList("%s", "%d", "%.0f", "%.2f", "%.10f", "%tF")) {
+            ValueFormatter formatter = ValueFormatter.compile(format);
+
+            for (Object value : values) {
+                String expected;
+                try {
+                    expected = String.format(format, value);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+
+                Assert.assertThat(format + " of " + value, formatter.format(value), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    void format_withOtherFormat_shouldFormatAsStringFormatWould() {
+        ValueFormatter formatter = ValueFormatter.compile("%,10d");
+
+        Assert.assertThat(formatter.format(1234567), equalTo(String.format("%,10d", 1234567)));
+    }
+
+    @Test
+    void format_withNoFormat_shouldReturnValue() {
+        BigDecimal value = new BigDecimal("1.5");
+
+        Assert.assertThat(ValueFormatter.compile(null).format(value), sameInstance(value));
+    }
+
+    @Test
+    void format_withNullValue_shouldReturnNull() {
+        Assert.assertThat(ValueFormatter.compile("%s").format(null), equalTo(null));
+    }
+}
@@ -0,0 +1,52 @@
+package com.scottlogic.deg.generator.generation.fieldvaluesources;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.equalTo;
+
+class BlacklistedPositionsTests {
+    @Test
+    void getPosition_withNoBlacklistedPositions_isTheIndex() {
+        BlacklistedPositions positions = new BlacklistedPositions(LongStream.empty());
+
+        Assert.assertThat(positions.getPosition(0), equalTo(0L));
+        Assert.assertThat(positions.getPosition(7), equalTo(7L));
+    }
+
+    @Test
+    void getPosition_skipsEveryBlacklistedPositionUpToThePositionOfTheIndex() {
+        BlacklistedPositions positions = new BlacklistedPositions(LongStream.of(5, 1, 3, 4, 1));
+
+        Assert.assertThat(positions.size(), equalTo(4));
+        Assert.assertThat(positions.getPosition(0), equalTo(0L));
+        Assert.assertThat(positions.getPosition(1), equalTo(2L));
+        Assert.assertThat(positions.getPosition(2), equalTo(6L));
+        Assert.assertThat(positions.getPosition(3), equalTo(7L));
+    }
+
+    @Test
+    void getPosition_withBlacklistedPositionsAtTheStart_skipsThemAll() {
+        BlacklistedPositions positions = new BlacklistedPositions(LongStream.range(0, 1000));
+
+        Assert.assertThat(positions.getPosition(0), equalTo(1000L));
+        Assert.assertThat(positions.getPosition(1), equalTo(1001L));
+    }
+
+    @Test
+    void getPosition_matchesSteppingPastEachBlacklistedPosition() {
+        long[] blacklisted = LongStream.range(0, 100).filter(position -> position % 10 != 3).toArray();
+        BlacklistedPositions positions = new BlacklistedPositions(LongStream.of(blacklisted));
+
+        long index = 0;
+        for (long position = 0; position < 200; position++) {
+            if (position < 100 && position % 10 != 3) {
+                continue;
+            }
+
+            Assert.assertThat(positions.getPosition(index++), equalTo(position));
+        }
+    }
+}
@@ -66,6 +66,16 @@ class CombiningFieldValueSourceEqualityTests {
             throw new UnsupportedOperationException("Not supported");
         }
 
+        @Override
+        public boolean isIndexable() {
+            throw new UnsupportedOperationException("Not supported");
+        }
+
+        @Override
+        public Object getValueAtIndex(long index) {
+            throw new UnsupportedOperationException("Not supported");
+        }
+
         @Override
         public Iterable<Object> generateInterestingValues() {
             throw new UnsupportedOperationException("Not supported");
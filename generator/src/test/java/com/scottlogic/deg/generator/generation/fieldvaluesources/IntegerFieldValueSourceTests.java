@@ -0,0 +1,155 @@
+package com.scottlogic.deg.generator.generation.fieldvaluesources;
+
+import com.scottlogic.deg.generator.restrictions.NumericLimit;
+import com.scottlogic.deg.generator.restrictions.NumericRestrictions;
+import com.scottlogic.deg.generator.utils.JavaUtilRandomNumberGenerator;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.*;
+
+class IntegerFieldValueSourceTests {
+    @ParameterizedTest
+    @CsvSource({
+        "-4,   true,  5,   true,  ''",
+        "-4,   false, 5,   false, ''",
+        "0.1,  true,  5.9, true,  ''",
+        "0.9,  false, 2.1, false, ''",
+        "1,    true,  10,  true,  3;4;10",
+        "1,    true,  10,  true,  1;2;5.4;11;x",
+        "5,    true,  5,   true,  ''",
+        "5,    true,  5,   true,  5",
+        "5,    true,  4,   true,  ''",
+        "3,    true,  7,   true,  3;4;5;6;7",
+        "-100, true,  -90, true,  -95;-96"
+    })
+    void generatesTheSameValuesAsRealNumberFieldValueSource(
+        BigDecimal lowerLimit, boolean lowerInclusive,
+        BigDecimal upperLimit, boolean upperInclusive,
+        String blacklist) {
+        NumericRestrictions restrictions = restrictions(lowerLimit, lowerInclusive, upperLimit, upperInclusive);
+        Set<Object> blacklistValues = blacklist(blacklist);
+
+        FieldValueSource expected = new RealNumberFieldValueSource(restrictions, blacklistValues);
+        FieldValueSource actual = new IntegerFieldValueSource(restrictions, blacklistValues);
+
+        Assert.assertThat(actual.getValueCount(), equalTo(expected.getValueCount()));
+        Assert.assertThat(values(actual.generateAllValues()), equalTo(values(expected.generateAllValues())));
+        Assert.assertThat(
+            values(actual.generateInterestingValues()),
+            equalTo(values(expected.generateInterestingValues())));
+        for (long index = 0; index < expected.getValueCount(); index++) {
+            Assert.assertThat(actual.getValueAtIndex(index), equalTo(expected.getValueAtIndex(index)));
+        }
+    }
+
+    @Test
+    void generateAllValues_withLimitsOfTheRangeOfALong_stopsAtTheUpperLimit() {
+        FieldValueSource source = new IntegerFieldValueSource(
+            restrictions(
+                BigDecimal.valueOf(Long.MAX_VALUE - 2), true,
+                BigDecimal.valueOf(Long.MAX_VALUE), true),
+            Collections.singleton(Long.MAX_VALUE - 1));
+
+        Assert.assertThat(
+            values(source.generateAllValues()),
+            contains(BigDecimal.valueOf(Long.MAX_VALUE - 2), BigDecimal.valueOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void getValueCount_withWholeRangeOfALong_isNotIndexable() {
+        FieldValueSource source = new IntegerFieldValueSource(
+            restrictions(
+                BigDecimal.valueOf(Long.MIN_VALUE), true,
+                BigDecimal.valueOf(Long.MAX_VALUE), true),
+            Collections.emptySet());
+
+        Assert.assertThat(source.getValueCount(), equalTo(Long.MAX_VALUE));
+        Assert.assertFalse(source.isIndexable());
+    }
+
+    @Test
+    void getValueAtIndex_beyondTheLastValue_throws() {
+        FieldValueSource source = new IntegerFieldValueSource(
+            restrictions(BigDecimal.ONE, true, BigDecimal.TEN, true),
+            Collections.singleton(5));
+
+        try {
+            source.getValueAtIndex(9);
+            Assert.fail("Expected an IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    void generateRandomValues_returnsWholeNumbersWithinTheLimitsThatAreNotBlacklisted() {
+        FieldValueSource source = new IntegerFieldValueSource(
+            restrictions(BigDecimal.ONE, true, BigDecimal.TEN, false),
+            new HashSet<>(Arrays.asList(2, 3, 4)));
+
+        Iterator<Object> values = source.generateRandomValues(new JavaUtilRandomNumberGenerator(0)).iterator();
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal value = (BigDecimal) values.next();
+
+            Assert.assertThat(value.scale(), equalTo(0));
+            Assert.assertThat(value, oneOf(
+                BigDecimal.valueOf(1), BigDecimal.valueOf(5), BigDecimal.valueOf(6),
+                BigDecimal.valueOf(7), BigDecimal.valueOf(8), BigDecimal.valueOf(9)));
+        }
+    }
+
+    @Test
+    void generateRandomValues_withNoValues_isEmpty() {
+        FieldValueSource source = new IntegerFieldValueSource(
+            restrictions(BigDecimal.ONE, true, BigDecimal.ONE, true),
+            Collections.singleton(1));
+
+        Assert.assertFalse(source.generateRandomValues(new JavaUtilRandomNumberGenerator(0)).iterator().hasNext());
+    }
+
+    @Test
+    void canGenerate_withScaleOtherThanZeroOrLimitsBeyondALong_isFalse() {
+        Assert.assertFalse(IntegerFieldValueSource.canGenerate(new NumericRestrictions(1)));
+        Assert.assertFalse(IntegerFieldValueSource.canGenerate(new NumericRestrictions(0)));
+        Assert.assertFalse(IntegerFieldValueSource.canGenerate(
+            restrictions(BigDecimal.ZERO, true, BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE), true)));
+        Assert.assertTrue(IntegerFieldValueSource.canGenerate(
+            restrictions(BigDecimal.ZERO, true, BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE), false)));
+    }
+
+    private static NumericRestrictions restrictions(
+        BigDecimal lowerLimit, boolean lowerInclusive,
+        BigDecimal upperLimit, boolean upperInclusive) {
+        NumericRestrictions restrictions = new NumericRestrictions(0);
+        restrictions.min = new NumericLimit<>(lowerLimit, lowerInclusive);
+        restrictions.max = new NumericLimit<>(upperLimit, upperInclusive);
+        return restrictions;
+    }
+
+    private static Set<Object> blacklist(String values) {
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return Arrays.stream(values.split(";"))
+            .map(value -> value.matches("-?[0-9.]+") ? (Object) new BigDecimal(value) : value)
+            .collect(Collectors.toSet());
+    }
+
+    private static List<Object> values(Iterable<Object> values) {
+        return StreamSupport.stream(values.spliterator(), false).collect(Collectors.toList());
+    }
+}
@@ -17,6 +17,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -224,6 +225,27 @@ class RealNumberFieldValueSourceTests {
         expectCorrectRandomValues();
     }
 
+    @Test
+    void shouldGenerateEveryNonBlacklistedValueWhenMostValuesAreBlacklisted() {
+        givenLowerBound(0, true);
+        givenUpperBound(100, false);
+        givenScale(1);
+
+        givenBlacklist(IntStream.range(0, 1000)
+            .filter(i -> i % 100 != 37)
+            .mapToObj(i -> BigDecimal.valueOf(i, 1))
+            .toArray());
+
+        expectCorrectRandomValues();
+        Assert.assertThat(
+            StreamSupport.stream(getObjectUnderTest().generateRandomValues(new JavaUtilRandomNumberGenerator(0)).spliterator(), false)
+                .limit(1000)
+                .collect(Collectors.toSet()),
+            containsInAnyOrder(IntStream.range(0, 10)
+                .mapToObj(i -> BigDecimal.valueOf(i * 100 + 37, 1))
+                .toArray()));
+    }
+
     @Test
     void shouldSupplyToUpperBoundary() {
         givenLowerBound(4, true);
@@ -522,11 +544,22 @@ class RealNumberFieldValueSourceTests {
         if (assertCount) {
             expectValueCount(expectedValuesArray.length);
             expectFinite();
+            expectSameValuesByIndex(actualValues);
         }
 
         Assert.assertThat(actualValues, arrayContainingInAnyOrder(expectedValuesMatchers));
     }
 
+    private void expectSameValuesByIndex(BigDecimal[] allValues) {
+        Assert.assertTrue(getObjectUnderTest().isIndexable());
+
+        for (int index = 0; index < allValues.length; index++) {
+            Assert.assertThat(
+                (BigDecimal) getObjectUnderTest().getValueAtIndex(index),
+                comparesEqualTo(allValues[index]));
+        }
+    }
+
     private void expectNoValues() {
         expectAllValues();
     }
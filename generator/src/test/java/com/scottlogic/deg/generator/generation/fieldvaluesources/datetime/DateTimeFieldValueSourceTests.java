@@ -1,6 +1,7 @@
 package com.scottlogic.deg.generator.generation.fieldvaluesources.datetime;
 
 import com.scottlogic.deg.generator.restrictions.DateTimeRestrictions;
+import com.scottlogic.deg.generator.utils.JavaUtilRandomNumberGenerator;
 import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,34 @@ public class DateTimeFieldValueSourceTests {
                 createDate(2100, 1, 1));
     }
 
+    @Test
+    public void getRandomValues_withMostDatesBlacklisted_shouldGenerateOnlyTheOtherDates() {
+        givenLowerBound(createDate(2018, 1, 1), true);
+        givenUpperBound(createDate(2018, 1, 1).plusNanos(100_000_000), false);
+        OffsetDateTime allowed = createDate(2018, 1, 1).plusNanos(37_000_000);
+        givenBlacklist(createDate(2017, 12, 31), createDate(2018, 1, 1).plusNanos(500));
+        for (int millis = 0; millis < 100; millis++) {
+            if (millis != 37 && millis != 98) {
+                blackList.add(createDate(2018, 1, 1).plusNanos(millis * 1_000_000L));
+            }
+        }
+
+        DateTimeRestrictions restrictions = new DateTimeRestrictions();
+        restrictions.min = lowerLimit;
+        restrictions.max = upperLimit;
+        fieldSource = new DateTimeFieldValueSource(restrictions, blackList);
+
+        Set<Object> values = new HashSet<>();
+        Iterator<Object> iterator = fieldSource.generateRandomValues(new JavaUtilRandomNumberGenerator(0)).iterator();
+        for (int i = 0; i < 100; i++) {
+            values.add(iterator.next());
+        }
+
+        Assert.assertThat(values, equalTo(new HashSet<>(Arrays.asList(
+            allowed,
+            createDate(2018, 1, 1).plusNanos(98_000_000)))));
+    }
+
     @Test
     public void whenGivenMultiHourRange() {
         LocalDate date = LocalDate.of(2018, 1, 10);
@@ -402,6 +431,13 @@ public class DateTimeFieldValueSourceTests {
         fieldSource.generateAllValues().forEach(actualValues::add);
 
         Assert.assertThat(actualValues, equalTo(expectedValues));
+
+        if (fieldSource.isIndexable()) {
+            Assert.assertThat(fieldSource.getValueCount(), equalTo((long) expectedValues.size()));
+            for (int index = 0; index < expectedValues.size(); index++) {
+                Assert.assertThat(fieldSource.getValueAtIndex(index), equalTo(expectedValues.get(index)));
+            }
+        }
     }
 
     private void expectInterestingValues(Object... expectedValuesArray) {
@@ -446,6 +482,11 @@ public class DateTimeFieldValueSourceTests {
             return 0;
         }
 
+        @Override
+        public long nextLong(long lowerInclusive, long upperInclusive) {
+            return lowerInclusive + (long) (nextDoubleValue * (upperInclusive - lowerInclusive));
+        }
+
         @Override
         public double nextDouble(double lower, double upper) {
             return nextDoubleValue * (upper - lower) + lower;
@@ -455,5 +496,10 @@ public class DateTimeFieldValueSourceTests {
         public BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperExclusive, int scale) {
             return new BigDecimal(nextDouble(lowerInclusive.doubleValue(), upperExclusive.doubleValue()));
         }
+
+        @Override
+        public RandomNumberGenerator split() {
+            return this;
+        }
     }
 }
@@ -0,0 +1,200 @@
+package com.scottlogic.deg.generator.generation.fieldvaluesources.datetime;
+
+import com.scottlogic.deg.common.profile.constraintdetail.Timescale;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+
+public class GranularDateRangeTests {
+
+    private OffsetDateTime inclusiveMinDate;
+    private OffsetDateTime exclusiveMaxDate;
+    private OffsetDateTime referenceDate;
+
+    @BeforeEach
+    public void setup() {
+        // set some default values
+        this.inclusiveMinDate = OffsetDateTime.of(2001, 1, 1, 1, 1, 1, 1, ZoneOffset.UTC);
+        this.exclusiveMaxDate= OffsetDateTime.of(2010, 1, 1, 1, 1, 1, 1, ZoneOffset.UTC);
+    }
+
+    @Test
+    void hasNext_WhenCurrentIsEqualToMax_IsCorrect() {
+        // arrange
+        this.exclusiveMaxDate = inclusiveMinDate.plusYears(1);
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.YEARS).iterator();
+        // act
+        OffsetDateTime firstDate = sequentialDateIterator.next();
+        boolean hasNextDate = sequentialDateIterator.hasNext();
+        // assert
+        Assert.assertFalse(hasNextDate);
+    }
+
+    @Test
+    void hasNext_WhenCurrentIsLessThanMax_IsCorrect() {
+        // arrange
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.YEARS).iterator();
+        // act
+        OffsetDateTime firstDate = sequentialDateIterator.next();
+        boolean hasNextDate = sequentialDateIterator.hasNext();
+        // assert
+        Assert.assertTrue(hasNextDate);
+    }
+
+    @Test
+    void next_WhenGranularityIsYear_IsCorrect() {
+        // arrange
+        referenceDate = Timescale.YEARS.getGranularityFunction().apply(inclusiveMinDate.plusYears(1));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.YEARS).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertEquals(nextDate,referenceDate);
+    }
+
+    @Test
+    void next_WhenGranularityIsMonth_IsCorrect() {
+        // arrange
+        referenceDate = Timescale.MONTHS.getGranularityFunction().apply(inclusiveMinDate.plusMonths(1));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MONTHS).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertEquals(nextDate, referenceDate);
+
+    }
+
+    @Test
+    void next_WhenGranularityIsDay_IsCorrect() {
+        // arrange
+        referenceDate = Timescale.DAYS.getGranularityFunction().apply(inclusiveMinDate.plusDays(1));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.DAYS).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertEquals(nextDate, referenceDate);
+    }
+
+    @Test
+    void next_WhenGranularityIsHour_IsCorrect() {
+        // arrange
+        referenceDate = Timescale.HOURS.getGranularityFunction().apply(inclusiveMinDate.plusHours(1));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.HOURS).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertEquals(nextDate, referenceDate);
+    }
+
+    @Test
+    void next_WhenGranularityIsMinute_IsCorrect() {
+        // arrange
+        referenceDate = Timescale.MINUTES.getGranularityFunction().apply(inclusiveMinDate.plusMinutes(1));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MINUTES).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertEquals(nextDate, referenceDate);
+    }
+
+    @Test
+    void next_WhenGranularityIsMillis_IsCorrect() {
+        // arrange
+        referenceDate = Timescale.MILLIS.getGranularityFunction().apply(inclusiveMinDate.plusNanos(1_000_000));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MILLIS).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertEquals(nextDate, referenceDate);
+    }
+
+    @Test
+    void next_WhenGranularityIsNotMillis_IsIncorrect() {
+        // arrange
+        referenceDate = Timescale.MILLIS.getGranularityFunction().apply(inclusiveMinDate.plusNanos(1_000));
+        // act
+        Iterator<OffsetDateTime> sequentialDateIterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MILLIS).iterator();
+        OffsetDateTime nextDate = sequentialDateIterator.next();
+        // assert
+        Assert.assertNotEquals(nextDate, referenceDate);
+    }
+
+    @Test
+    void getDateAtIndex_WhenGranularityIsMonth_MatchesIteration() {
+        // arrange
+        Iterator<OffsetDateTime> iterator = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MONTHS).iterator();
+        GranularDateRange indexedDates = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MONTHS);
+        // act
+        long index = 0;
+        while (iterator.hasNext()) {
+            // assert
+            Assert.assertEquals(iterator.next(), indexedDates.getDateAtIndex(index++));
+        }
+        Assert.assertEquals(index, indexedDates.getDateCount());
+    }
+
+    @Test
+    void getDateCount_WhenMaxIsOnGranularityBoundary_ExcludesMax() {
+        // arrange
+        OffsetDateTime min = OffsetDateTime.of(2001, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        GranularDateRange dates = new GranularDateRange(min, min.plusDays(3), Timescale.DAYS);
+        // act
+        long count = dates.getDateCount();
+        // assert
+        Assert.assertEquals(3, count);
+    }
+
+    @Test
+    void getDateCount_WhenMaxIsBeforeMin_IsZero() {
+        // arrange
+        GranularDateRange dates = new GranularDateRange(exclusiveMaxDate, inclusiveMinDate, Timescale.DAYS);
+        // act
+        long count = dates.getDateCount();
+        // assert
+        Assert.assertEquals(0, count);
+    }
+
+    @Test
+    void getDateCount_WhenGranularityIsMillis_CountsEveryMillisecond() {
+        // arrange
+        GranularDateRange dates = new GranularDateRange(
+            DateTimeFieldValueSource.ISO_MIN_DATE, DateTimeFieldValueSource.ISO_MAX_DATE, Timescale.MILLIS);
+        // act
+        long count = dates.getDateCount();
+        // assert
+        Assert.assertEquals(
+            DateTimeFieldValueSource.ISO_MAX_DATE.toInstant().toEpochMilli()
+                - DateTimeFieldValueSource.ISO_MIN_DATE.toInstant().toEpochMilli() + 1,
+            count);
+        Assert.assertEquals(
+            OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 999_000_000, ZoneOffset.UTC),
+            dates.getDateAtIndex(count - 1));
+    }
+
+    @Test
+    void getIndexOfDate_WhenDateIsInRange_IsTheIndexOfTheDate() {
+        // arrange
+        GranularDateRange dates = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MONTHS);
+        OffsetDateTime date = OffsetDateTime.of(2003, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        // act
+        long index = dates.getIndexOfDate(date);
+        // assert
+        Assert.assertEquals(26, index);
+        Assert.assertEquals(date, dates.getDateAtIndex(index));
+    }
+
+    @Test
+    void getIndexOfDate_WhenDateIsNotAtTheGranularityOrIsOutOfRange_IsMinusOne() {
+        // arrange
+        GranularDateRange dates = new GranularDateRange(inclusiveMinDate, exclusiveMaxDate, Timescale.MONTHS);
+        // act, assert
+        Assert.assertEquals(-1, dates.getIndexOfDate(OffsetDateTime.of(2003, 4, 2, 0, 0, 0, 0, ZoneOffset.UTC)));
+        Assert.assertEquals(-1, dates.getIndexOfDate(OffsetDateTime.of(2001, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+        Assert.assertEquals(-1, dates.getIndexOfDate(OffsetDateTime.of(2010, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+    }
+}
@@ -5,6 +5,9 @@ import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TimescaleTests {
@@ -35,4 +38,24 @@ class TimescaleTests {
         Assert.assertThat(exception.getMessage(), CoreMatchers.containsString("Must be one of the supported datetime units"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void toEpochUnits_beforeTheEpoch_roundsDown() {
+        OffsetDateTime date = OffsetDateTime.of(1969, 12, 31, 23, 59, 59, 999_500_000, ZoneOffset.UTC);
+
+        Assert.assertEquals(-1, Timescale.MILLIS.toEpochUnits(date));
+        Assert.assertEquals(-1, Timescale.DAYS.toEpochUnits(date));
+        Assert.assertEquals(-1, Timescale.MONTHS.toEpochUnits(date));
+        Assert.assertEquals(-1, Timescale.YEARS.toEpochUnits(date));
+    }
+
+    @Test
+    public void fromEpochUnits_isTheDateWithGranularityApplied() {
+        OffsetDateTime date = OffsetDateTime.of(1066, 10, 14, 9, 30, 15, 123_456_789, ZoneOffset.UTC);
+
+        for (Timescale timescale : Timescale.values()) {
+            Assert.assertEquals(
+                timescale.getGranularityFunction().apply(date),
+                timescale.fromEpochUnits(timescale.toEpochUnits(date)));
+        }
+    }
+}
@@ -191,6 +191,26 @@ public class RegexStringGeneratorTests {
         assertThat(actualResults.size(), Is.is(2046));
     }
 
+    @Test
+    void getValueAtIndex_shouldMatchOrderOfAllValues() {
+        StringGenerator generator = new RegexStringGenerator("(a|b){1,4}c?", true);
+
+        List<String> allValues = new ArrayList<>();
+        generator.generateAllValues().iterator().forEachRemaining(allValues::add);
+
+        assertThat(generator.isIndexable(), Is.is(true));
+        for (int index = 0; index < allValues.size(); index++) {
+            assertThat(generator.getValueAtIndex(index), equalTo(allValues.get(index)));
+        }
+    }
+
+    @Test
+    void shouldNotBeIndexableWhenSurrogateCharactersCanBeProduced() {
+        StringGenerator generator = new RegexStringGenerator("[😁-😘]{1}", true);
+
+        assertThat(generator.isIndexable(), Is.is(false));
+    }
+
     @Test
     void shouldProduceComplement() {
         StringGenerator limitedRangeGenerator = new RegexStringGenerator("[a-m]", true);
@@ -0,0 +1,72 @@
+package com.scottlogic.deg.generator.utils;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+class JavaUtilRandomNumberGeneratorTests {
+    @Test
+    void split_fromGeneratorsWithSameSeed_shouldProduceSameSequence() {
+        RandomNumberGenerator first = new JavaUtilRandomNumberGenerator(42).split();
+        RandomNumberGenerator second = new JavaUtilRandomNumberGenerator(42).split();
+
+        Assert.assertThat(sequence(first), equalTo(sequence(second)));
+    }
+
+    @Test
+    void split_calledTwice_shouldProduceDifferentSequences() {
+        RandomNumberGenerator master = new JavaUtilRandomNumberGenerator(42);
+
+        Assert.assertThat(sequence(master.split()), not(equalTo(sequence(master.split()))));
+    }
+
+    @Test
+    void nextLong_withSmallRange_shouldReturnEveryValueInclusiveOfBounds() {
+        RandomNumberGenerator generator = new JavaUtilRandomNumberGenerator(42);
+
+        Set<Long> values = LongStream.range(0, 1000)
+            .map(i -> generator.nextLong(-2, 2))
+            .boxed()
+            .collect(Collectors.toSet());
+
+        Assert.assertThat(values, containsInAnyOrder(-2L, -1L, 0L, 1L, 2L));
+    }
+
+    @Test
+    void nextLong_withRangeWiderThanALong_shouldReturnValuesWithinBounds() {
+        RandomNumberGenerator generator = new JavaUtilRandomNumberGenerator(42);
+
+        for (int i = 0; i < 1000; i++) {
+            long value = generator.nextLong(-10, Long.MAX_VALUE);
+            Assert.assertThat(value, greaterThanOrEqualTo(-10L));
+        }
+    }
+
+    @Test
+    void nextLong_withUpperBoundBelowLowerBound_shouldThrow() {
+        RandomNumberGenerator generator = new JavaUtilRandomNumberGenerator(42);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.nextLong(5, 4));
+    }
+
+    @Test
+    void nextInt_withUpperBoundNotAboveLowerBound_shouldThrow() {
+        RandomNumberGenerator generator = new JavaUtilRandomNumberGenerator(42);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.nextInt(3, 3));
+    }
+
+    private static int[] sequence(RandomNumberGenerator generator) {
+        return IntStream.range(0, 10).map(i -> generator.nextInt()).toArray();
+    }
+}
@@ -0,0 +1,63 @@
+package com.scottlogic.deg.generator.utils;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.*;
+
+class SplittableRandomNumberGeneratorTests {
+    @Test
+    void generatorsWithSameSeed_shouldProduceSameSequence() {
+        Assert.assertThat(
+            sequence(new SplittableRandomNumberGenerator(42)),
+            equalTo(sequence(new SplittableRandomNumberGenerator(42))));
+    }
+
+    @Test
+    void split_fromGeneratorsWithSameSeed_shouldProduceSameSequence() {
+        RandomNumberGenerator first = new SplittableRandomNumberGenerator(42).split();
+        RandomNumberGenerator second = new SplittableRandomNumberGenerator(42).split();
+
+        Assert.assertThat(sequence(first), equalTo(sequence(second)));
+    }
+
+    @Test
+    void split_calledTwice_shouldProduceDifferentSequences() {
+        RandomNumberGenerator master = new SplittableRandomNumberGenerator(42);
+
+        Assert.assertThat(sequence(master.split()), not(equalTo(sequence(master.split()))));
+    }
+
+    @Test
+    void nextInt_withLowerAndUpperBounds_shouldReturnValuesWithinBounds() {
+        RandomNumberGenerator generator = new SplittableRandomNumberGenerator(42);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertThat(generator.nextInt(-3, 3), allOf(greaterThanOrEqualTo(-3), lessThan(3)));
+        }
+    }
+
+    @Test
+    void nextInt_withUpperBoundNotAboveLowerBound_shouldThrow() {
+        RandomNumberGenerator generator = new SplittableRandomNumberGenerator(42);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.nextInt(3, 3));
+    }
+
+    @Test
+    void nextBigDecimal_withSingleValueOfScale_shouldReturnThatValue() {
+        RandomNumberGenerator generator = new SplittableRandomNumberGenerator(42);
+
+        BigDecimal value = generator.nextBigDecimal(new BigDecimal("1.01"), new BigDecimal("1.19"), 1);
+
+        Assert.assertThat(value, equalTo(new BigDecimal("1.1")));
+    }
+
+    private static int[] sequence(RandomNumberGenerator generator) {
+        return IntStream.range(0, 10).map(i -> generator.nextInt()).toArray();
+    }
+}
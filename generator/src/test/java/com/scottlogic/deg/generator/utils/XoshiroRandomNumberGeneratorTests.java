@@ -0,0 +1,123 @@
+package com.scottlogic.deg.generator.utils;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.*;
+
+class XoshiroRandomNumberGeneratorTests {
+    @Test
+    void generatorsWithSameSeed_shouldProduceSameSequence() {
+        Assert.assertThat(
+            sequence(new XoshiroRandomNumberGenerator(42)),
+            equalTo(sequence(new XoshiroRandomNumberGenerator(42))));
+    }
+
+    @Test
+    void generatorsWithAdjacentSeeds_shouldProduceDifferentSequences() {
+        Assert.assertThat(
+            sequence(new XoshiroRandomNumberGenerator(42)),
+            not(equalTo(sequence(new XoshiroRandomNumberGenerator(43)))));
+    }
+
+    @Test
+    void split_fromGeneratorsWithSameSeed_shouldProduceSameSequence() {
+        RandomNumberGenerator first = new XoshiroRandomNumberGenerator(42).split();
+        RandomNumberGenerator second = new XoshiroRandomNumberGenerator(42).split();
+
+        Assert.assertThat(sequence(first), equalTo(sequence(second)));
+    }
+
+    @Test
+    void split_shouldProduceDifferentSequenceToGeneratorItWasSplitFrom() {
+        RandomNumberGenerator master = new XoshiroRandomNumberGenerator(42);
+        RandomNumberGenerator split = master.split();
+
+        Assert.assertThat(sequence(split), not(equalTo(sequence(master))));
+    }
+
+    @Test
+    void nextInt_withBound_shouldReturnEveryValueBelowBound() {
+        RandomNumberGenerator generator = new XoshiroRandomNumberGenerator(42);
+
+        Set<Integer> values = IntStream.range(0, 1000)
+            .map(i -> generator.nextInt(5))
+            .boxed()
+            .collect(Collectors.toSet());
+
+        Assert.assertThat(values, containsInAnyOrder(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    void nextDouble_shouldReturnValuesWithinBounds() {
+        RandomNumberGenerator generator = new XoshiroRandomNumberGenerator(42);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertThat(generator.nextDouble(-1, 1), allOf(greaterThanOrEqualTo(-1d), lessThan(1d)));
+        }
+    }
+
+    @Test
+    void nextLong_withWholeRangeOfALong_shouldReturnDifferentValues() {
+        RandomNumberGenerator generator = new XoshiroRandomNumberGenerator(42);
+
+        Set<Long> values = LongStream.range(0, 100)
+            .map(i -> generator.nextLong(Long.MIN_VALUE, Long.MAX_VALUE))
+            .boxed()
+            .collect(Collectors.toSet());
+
+        Assert.assertThat(values, hasSize(100));
+    }
+
+    @Test
+    void nextBigDecimal_shouldReturnEveryValueOfScaleInclusiveOfBounds() {
+        RandomNumberGenerator generator = new XoshiroRandomNumberGenerator(42);
+
+        Set<BigDecimal> values = IntStream.range(0, 1000)
+            .mapToObj(i -> generator.nextBigDecimal(new BigDecimal("0.95"), new BigDecimal("1.3"), 1))
+            .collect(Collectors.toSet());
+
+        Assert.assertThat(values, containsInAnyOrder(
+            new BigDecimal("1.0"), new BigDecimal("1.1"), new BigDecimal("1.2"), new BigDecimal("1.3")));
+    }
+
+    @Test
+    void nextBigDecimal_withRangeBeyondPrecisionOfADouble_shouldReturnExactValuesWithinBounds() {
+        RandomNumberGenerator generator = new XoshiroRandomNumberGenerator(42);
+        BigDecimal lower = new BigDecimal("-1E+20");
+        BigDecimal upper = new BigDecimal("-99999999999999999990");
+
+        Set<BigDecimal> values = IntStream.range(0, 1000)
+            .mapToObj(i -> generator.nextBigDecimal(lower, upper, 0))
+            .collect(Collectors.toSet());
+
+        Assert.assertThat(values, hasSize(11));
+        for (BigDecimal value : values) {
+            Assert.assertThat(value, allOf(greaterThanOrEqualTo(lower), lessThanOrEqualTo(upper)));
+        }
+    }
+
+    @Test
+    void nextBigDecimal_withHighScale_shouldReturnValuesOfThatScaleWithinBounds() {
+        RandomNumberGenerator generator = new XoshiroRandomNumberGenerator(42);
+        BigDecimal lower = new BigDecimal("-1E+20");
+        BigDecimal upper = new BigDecimal("1E+20");
+
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal value = generator.nextBigDecimal(lower, upper, 20);
+
+            Assert.assertThat(value.scale(), equalTo(20));
+            Assert.assertThat(value, allOf(greaterThanOrEqualTo(lower), lessThanOrEqualTo(upper)));
+        }
+    }
+
+    private static int[] sequence(RandomNumberGenerator generator) {
+        return IntStream.range(0, 10).map(i -> generator.nextInt()).toArray();
+    }
+}
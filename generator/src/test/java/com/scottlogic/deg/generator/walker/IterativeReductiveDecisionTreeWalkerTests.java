@@ -0,0 +1,262 @@
+package com.scottlogic.deg.generator.walker;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.generator.config.detail.DataGenerationType;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
+import com.scottlogic.deg.generator.generation.NoopDataGeneratorMonitor;
+import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.restrictions.SetRestrictions;
+import com.scottlogic.deg.generator.walker.reductive.*;
+import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategy;
+import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategyFactory;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+class IterativeReductiveDecisionTreeWalkerTests {
+    private TreeConstraintNode rootNode;
+    private DecisionTree tree;
+    private ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private IterativeReductiveDecisionTreeWalker walker;
+    private FixFieldStrategy fixFieldStrategy;
+    private FixFieldStrategyFactory fixFieldStrategyFactory;
+    private FieldSpecValueGenerator fieldSpecValueGenerator;
+    private ReductiveTreePruner treePruner;
+    private ContradictionAnalyser contradictionAnalyser;
+    private Field field1 = new Field("field1");
+    private Field field2 = new Field("field2");
+    private Field field3 = new Field("field3");
+
+    @BeforeEach
+    public void beforeEach(){
+        ProfileFields fields = new ProfileFields(Arrays.asList(field1, field2));
+        rootNode = new TreeConstraintNode();
+        tree = new DecisionTree(rootNode, fields, "");
+        treePruner = mock(ReductiveTreePruner.class);
+        when(treePruner.pruneConstraintNode(eq(rootNode), any(), any())).thenReturn(Merged.of(rootNode));
+
+        reductiveFieldSpecBuilder = mock(ReductiveFieldSpecBuilder.class);
+        fieldSpecValueGenerator = mock(FieldSpecValueGenerator.class);
+        fixFieldStrategy = mock(FixFieldStrategy.class);
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenReturn(field1, field2);
+        fixFieldStrategyFactory = mock(FixFieldStrategyFactory.class);
+        when(fixFieldStrategyFactory.create(any())).thenReturn(fixFieldStrategy);
+        contradictionAnalyser = mock(ContradictionAnalyser.class);
+
+        walker = createWalker(DataGenerationType.INTERESTING, false);
+    }
+
+    private IterativeReductiveDecisionTreeWalker createWalker(DataGenerationType generationType, boolean learnNogoods) {
+        return new IterativeReductiveDecisionTreeWalker(
+            new NoOpIterationVisualiser(),
+            reductiveFieldSpecBuilder,
+            new NoopDataGeneratorMonitor(),
+            treePruner,
+            fieldSpecValueGenerator,
+            fixFieldStrategyFactory,
+            contradictionAnalyser,
+            generationType,
+            learnNogoods
+        );
+    }
+
+    /**
+     * If no field can be fixed initially, the walker should exit early, with an empty stream of RowSpecs
+     */
+    @Test
+    public void shouldReturnEmptyCollectionOfRowsWhenFirstFieldCannotBeFixed() {
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(eq(rootNode), any())).thenReturn(Collections.EMPTY_SET);
+
+        List<DataBag> result = walker.walk(tree).collect(Collectors.toList());
+
+        verify(reductiveFieldSpecBuilder).getDecisionFieldSpecs(eq(rootNode), any());
+        Assert.assertThat(result, empty());
+    }
+
+    /**
+     * If a field can be fixed initially, but subsequently another one cannot be fixed then exit as early as possible
+     * with an empty stream of RowSpecs
+     */
+    @Test
+    public void shouldReturnEmptyCollectionOfRowsWhenSecondFieldCannotBeFixed() {
+        DataBagValue dataBag = new DataBagValue(field1, "yes");
+        FieldSpec firstFieldSpec = FieldSpec.Empty.withSetRestrictions(SetRestrictions
+                .fromWhitelist(Collections.singleton("yes")))
+            .withNotNull();
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenReturn(Stream.of(dataBag));
+
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), any())).thenReturn(Collections.singleton(firstFieldSpec), Collections.emptySet());
+
+        List<DataBag> result = walker.walk(tree).collect(Collectors.toList());
+
+        verify(reductiveFieldSpecBuilder, times(2)).getDecisionFieldSpecs(eq(rootNode), any());
+        Assert.assertThat(result, empty());
+    }
+
+    /**
+     * Values should be produced in the same order as the recursive walker: the first field fixed changes slowest
+     */
+    @Test
+    public void shouldBackTrackToProduceEveryCombinationOfValues() {
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenAnswer(invocation ->
+            ((ReductiveState) invocation.getArguments()[0]).isFieldFixed(field1) ? field2 : field1);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), any())).thenReturn(Collections.singleton(FieldSpec.Empty));
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenAnswer(invocation ->
+            Stream.of(new DataBagValue("a"), new DataBagValue("b")));
+
+        List<String> result = walker.walk(tree)
+            .map(dataBag -> dataBag.getFormattedValue(field1) + "" + dataBag.getFormattedValue(field2))
+            .collect(Collectors.toList());
+
+        Assert.assertThat(result, contains("aa", "ab", "ba", "bb"));
+    }
+
+    /**
+     * Each field is fixed without recursing, so a profile with many fields shouldn't exhaust the stack
+     */
+    @Test
+    public void shouldFixManyFieldsWithoutOverflowingTheStack() {
+        List<Field> manyFields = IntStream.range(0, 2_000)
+            .mapToObj(index -> new Field("field" + index))
+            .collect(Collectors.toList());
+        tree = new DecisionTree(rootNode, new ProfileFields(manyFields), "");
+        Iterator<Field> fieldsToFix = manyFields.iterator();
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenAnswer(invocation -> fieldsToFix.next());
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), any())).thenReturn(Collections.singleton(FieldSpec.Empty));
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenAnswer(invocation -> Stream.of(new DataBagValue("a")));
+
+        List<DataBag> result = walker.walk(tree).collect(Collectors.toList());
+
+        Assert.assertThat(result.size(), equalTo(1));
+        Assert.assertThat(result.get(0).getFormattedValue(manyFields.get(1_999)), equalTo("a"));
+    }
+
+    /**
+     * If the third field has no value once field1 = a, whatever value field2 has, the walker should move straight on to
+     * the next value of field1 when generating FULL_SEQUENTIAL data
+     */
+    @Test
+    public void shouldJumpBackToCulpritFieldWhenFieldCannotBeFixed() {
+        ConstraintNode treeWithoutField3 = givenThreeFieldsWhereField1ValueARemovesAllValuesForField3("a", "b");
+        when(contradictionAnalyser.findFirstContradictoryTree(any(), eq(field3))).thenReturn(1);
+
+        List<String> result = walkThreeFields(createWalker(DataGenerationType.FULL_SEQUENTIAL, false));
+
+        Assert.assertThat(result, contains("bxz", "byz"));
+        verify(treePruner, never()).pruneConstraintNode(eq(treeWithoutField3), eq(field2), eq(new DataBagValue("y")));
+    }
+
+    @Test
+    public void shouldOnlyStepBackOneFieldWhenFieldCannotBeFixedForInterestingData() {
+        ConstraintNode treeWithoutField3 = givenThreeFieldsWhereField1ValueARemovesAllValuesForField3("a", "b");
+
+        List<String> result = walkThreeFields(walker);
+
+        Assert.assertThat(result, contains("bxz", "byz"));
+        verify(treePruner).pruneConstraintNode(eq(treeWithoutField3), eq(field2), eq(new DataBagValue("y")));
+        verify(contradictionAnalyser, never()).findFirstContradictoryTree(any(), any());
+    }
+
+    /**
+     * When learning nogoods, a tree already known to produce no rows should be abandoned as soon as it is reached again
+     */
+    @Test
+    public void shouldNotWalkTreeAgainOnceKnownToProduceNoRows() {
+        ConstraintNode treeWithoutField3 = givenThreeFieldsWhereField1ValueARemovesAllValuesForField3("a", "c", "b");
+        when(treePruner.pruneConstraintNode(eq(rootNode), eq(field1), eq(new DataBagValue("c"))))
+            .thenReturn(Merged.of(treeWithoutField3));
+        when(contradictionAnalyser.findFirstContradictoryTree(any(), eq(field3))).thenReturn(1);
+
+        List<String> result = walkThreeFields(createWalker(DataGenerationType.FULL_SEQUENTIAL, true));
+
+        Assert.assertThat(result, contains("bxz", "byz"));
+        verify(reductiveFieldSpecBuilder, times(1)).getDecisionFieldSpecs(eq(treeWithoutField3), eq(field2));
+    }
+
+    private ConstraintNode givenThreeFieldsWhereField1ValueARemovesAllValuesForField3(String... field1Values) {
+        tree = new DecisionTree(rootNode, new ProfileFields(Arrays.asList(field1, field2, field3)), "");
+        ConstraintNode treeWithoutField3 = mock(ConstraintNode.class);
+        ConstraintNode treeWithField3 = mock(ConstraintNode.class);
+
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenAnswer(invocation -> {
+            ReductiveState state = (ReductiveState) invocation.getArguments()[0];
+            return state.isFieldFixed(field2) ? field3 : state.isFieldFixed(field1) ? field2 : field1;
+        });
+
+        FieldSpec field1Spec = FieldSpec.Empty;
+        FieldSpec field2Spec = FieldSpec.Empty.withNotNull();
+        FieldSpec field3Spec = FieldSpec.mustBeNull();
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field1))).thenReturn(Collections.singleton(field1Spec));
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field2))).thenReturn(Collections.singleton(field2Spec));
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field3))).thenReturn(Collections.singleton(field3Spec));
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(eq(treeWithoutField3), eq(field3))).thenReturn(Collections.emptySet());
+
+        when(fieldSpecValueGenerator.generate(eq(Collections.singleton(field1Spec)))).thenAnswer(invocation ->
+            Arrays.stream(field1Values).map(DataBagValue::new));
+        when(fieldSpecValueGenerator.generate(eq(Collections.singleton(field2Spec)))).thenAnswer(invocation ->
+            Stream.of(new DataBagValue("x"), new DataBagValue("y")));
+        when(fieldSpecValueGenerator.generate(eq(Collections.singleton(field3Spec)))).thenAnswer(invocation ->
+            Stream.of(new DataBagValue("z")));
+
+        when(treePruner.pruneConstraintNode(eq(rootNode), eq(field1), eq(new DataBagValue("a"))))
+            .thenReturn(Merged.of(treeWithoutField3));
+        when(treePruner.pruneConstraintNode(eq(rootNode), eq(field1), eq(new DataBagValue("b"))))
+            .thenReturn(Merged.of(treeWithField3));
+        when(treePruner.pruneConstraintNode(eq(treeWithoutField3), any(), any()))
+            .thenReturn(Merged.of(treeWithoutField3));
+        when(treePruner.pruneConstraintNode(eq(treeWithField3), any(), any()))
+            .thenReturn(Merged.of(treeWithField3));
+
+        return treeWithoutField3;
+    }
+
+    private List<String> walkThreeFields(IterativeReductiveDecisionTreeWalker walker) {
+        return walker.walk(tree)
+            .map(dataBag -> "" + dataBag.getFormattedValue(field1) + dataBag.getFormattedValue(field2) + dataBag.getFormattedValue(field3))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Each part of a split walk should walk the rows that follow from the value fixed for it, in the order of the
+     * whole walk
+     */
+    @Test
+    public void partialWalk_shouldSplitIntoPartsThatWalkTheRowsInOrder() {
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenAnswer(invocation ->
+            ((ReductiveState) invocation.getArguments()[0]).isFieldFixed(field1) ? field2 : field1);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), any())).thenReturn(Collections.singleton(FieldSpec.Empty));
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenAnswer(invocation ->
+            Stream.of(new DataBagValue("a"), new DataBagValue("b")));
+
+        List<PartialWalk> parts = walker.partialWalk(tree).split().collect(Collectors.toList());
+        List<PartialWalk> firstPartRows = parts.get(0).split().collect(Collectors.toList());
+
+        Assert.assertThat(parts.size(), equalTo(2));
+        Assert.assertThat(parts.get(0).walk().map(this::format).collect(Collectors.toList()), contains("aa", "ab"));
+        Assert.assertThat(parts.get(1).walk().map(this::format).collect(Collectors.toList()), contains("ba", "bb"));
+        Assert.assertThat(
+            firstPartRows.stream().map(part -> format(part.getRow().get())).collect(Collectors.toList()),
+            contains("aa", "ab"));
+    }
+
+    private String format(DataBag dataBag) {
+        return dataBag.getFormattedValue(field1) + "" + dataBag.getFormattedValue(field2);
+    }
+}
@@ -6,17 +6,24 @@ import com.scottlogic.deg.generator.decisiontree.DecisionTree;
 import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
 import com.scottlogic.deg.generator.fieldspecs.RowSpec;
 import com.scottlogic.deg.generator.generation.databags.DataBag;
+import com.scottlogic.deg.generator.utils.JavaUtilRandomNumberGenerator;
+import com.scottlogic.deg.generator.utils.RandomNumberGenerator;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveWalkPlan;
 import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategy;
 import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.*;
 
@@ -24,6 +31,7 @@ class RandomReductiveDecisionTreeWalkerTests {
     private DecisionTree tree;
     private RandomReductiveDecisionTreeWalker walker;
     private ReductiveDecisionTreeWalker underlyingWalker;
+    private ReductiveWalkPlan plan;
 
     @BeforeEach
     public void beforeEach(){
@@ -33,7 +41,9 @@ class RandomReductiveDecisionTreeWalkerTests {
             "test-tree");
 
         underlyingWalker = mock(ReductiveDecisionTreeWalker.class);
-        walker = new RandomReductiveDecisionTreeWalker(underlyingWalker);
+        plan = mock(ReductiveWalkPlan.class);
+        when(underlyingWalker.compile(tree)).thenReturn(plan);
+        walker = new RandomReductiveDecisionTreeWalker(underlyingWalker, new JavaUtilRandomNumberGenerator(0), 1);
     }
 
     /**
@@ -42,22 +52,33 @@ class RandomReductiveDecisionTreeWalkerTests {
      */
     @Test
     public void shouldProduceTwoRowsOfRandomDataOneRowSpecFromEachIteration() {
-        when(underlyingWalker.walk(tree)).thenReturn(
+        when(underlyingWalker.walk(plan)).thenReturn(
             Stream.of(rowSpec("first-iteration-first-random-row"), rowSpec("first-iteration-second-random-row")),
             Stream.of(rowSpec("second-iteration-first-random-row"), rowSpec("second-iteration-second-random-row"))
         );
 
         List<DataBag> result = walker.walk(tree).limit(2).collect(Collectors.toList());
 
-        verify(underlyingWalker, times(2)).walk(tree);
+        verify(underlyingWalker, times(2)).walk(plan);
         Assert.assertThat(
             result.stream().map(DataBag::toString).collect(Collectors.toList()),
             hasItems("first-iteration-first-random-row", "second-iteration-first-random-row"));
     }
 
+    @Test
+    public void shouldOnlyCompileTreeOnce() {
+        when(underlyingWalker.walk(plan)).thenAnswer(invocation -> Stream.of(rowSpec("random-row")));
+
+        List<DataBag> result = walker.walk(tree).limit(3).collect(Collectors.toList());
+
+        verify(underlyingWalker, times(1)).compile(tree);
+        verify(underlyingWalker, times(3)).walk(plan);
+        Assert.assertThat(result.size(), is(3));
+    }
+
     @Test
     public void shouldProduceNoData() {
-        when(underlyingWalker.walk(tree)).thenReturn(
+        when(underlyingWalker.walk(plan)).thenReturn(
             Stream.of(rowSpec("first-iteration-first-random-row"), rowSpec("first-iteration-second-random-row")),
             Stream.empty(),
             Stream.of(rowSpec("third-iteration-first-random-row"), rowSpec("third-iteration-second-random-row"))
@@ -65,7 +86,7 @@ class RandomReductiveDecisionTreeWalkerTests {
 
         List<DataBag> result = walker.walk(tree).limit(2).collect(Collectors.toList());
 
-        verify(underlyingWalker, times(3)).walk(tree);
+        verify(underlyingWalker, times(3)).walk(plan);
         Assert.assertThat(
             result.stream().map(DataBag::toString).collect(Collectors.toList()),
             hasItems("first-iteration-first-random-row", "third-iteration-first-random-row"));
@@ -73,18 +94,101 @@ class RandomReductiveDecisionTreeWalkerTests {
 
     @Test
     public void shouldAccommodateNoDataInSubsequentIteration() {
-        when(underlyingWalker.walk(tree)).thenReturn(
+        when(underlyingWalker.walk(plan)).thenReturn(
             Stream.empty()
         );
 
         List<DataBag> result = walker.walk(tree).limit(2).collect(Collectors.toList());
 
-        verify(underlyingWalker, times(1)).walk(tree);
+        verify(underlyingWalker, times(1)).walk(plan);
         Assert.assertThat(
             result.stream().iterator().hasNext(),
             is(false));
     }
 
+    @Test
+    public void shouldTakeRowsFromEachRandomThreadInTurn() {
+        ReductiveDecisionTreeWalker firstWorker = mock(ReductiveDecisionTreeWalker.class);
+        ReductiveDecisionTreeWalker secondWorker = mock(ReductiveDecisionTreeWalker.class);
+        DataBag firstWorkerRow = rowSpec("first-worker-row");
+        DataBag secondWorkerRow = rowSpec("second-worker-row");
+        when(underlyingWalker.walk(plan)).thenReturn(Stream.of(rowSpec("first-row")));
+        when(underlyingWalker.withRandomNumberGenerator(any(RandomNumberGenerator.class)))
+            .thenReturn(firstWorker, secondWorker);
+        when(firstWorker.compile(tree)).thenReturn(plan);
+        when(secondWorker.compile(tree)).thenReturn(plan);
+        when(firstWorker.walk(plan)).thenAnswer(invocation -> Stream.of(firstWorkerRow));
+        when(secondWorker.walk(plan)).thenAnswer(invocation -> Stream.of(secondWorkerRow));
+        walker = new RandomReductiveDecisionTreeWalker(underlyingWalker, new JavaUtilRandomNumberGenerator(0), 2);
+
+        List<DataBag> result;
+        try (Stream<DataBag> rows = walker.walk(tree)) {
+            result = rows.limit(5).collect(Collectors.toList());
+        }
+
+        Assert.assertThat(
+            result.stream().map(DataBag::toString).collect(Collectors.toList()),
+            contains("first-row", "first-worker-row", "second-worker-row", "first-worker-row", "second-worker-row"));
+    }
+
+    @Test
+    public void shouldRethrowFailureFromRandomThread() {
+        ReductiveDecisionTreeWalker worker = mock(ReductiveDecisionTreeWalker.class);
+        when(underlyingWalker.walk(plan)).thenReturn(Stream.of(rowSpec("first-row")));
+        when(underlyingWalker.withRandomNumberGenerator(any(RandomNumberGenerator.class))).thenReturn(worker);
+        when(worker.compile(tree)).thenReturn(plan);
+        when(worker.walk(plan)).thenThrow(new UnsupportedOperationException("walk failed"));
+        walker = new RandomReductiveDecisionTreeWalker(underlyingWalker, new JavaUtilRandomNumberGenerator(0), 2);
+
+        IllegalStateException exception;
+        try (Stream<DataBag> rows = walker.walk(tree)) {
+            exception = Assertions.assertThrows(IllegalStateException.class, () -> rows.limit(2).count());
+        }
+        Assert.assertThat(exception.getCause().getMessage(), is("walk failed"));
+    }
+
+    @Test
+    public void shouldStopRandomThreadsWhenRowsAreClosed() throws InterruptedException {
+        ReductiveDecisionTreeWalker worker = mock(ReductiveDecisionTreeWalker.class);
+        Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
+        when(underlyingWalker.walk(plan)).thenReturn(Stream.of(rowSpec("first-row")));
+        when(underlyingWalker.withRandomNumberGenerator(any(RandomNumberGenerator.class))).thenReturn(worker);
+        when(worker.compile(tree)).thenReturn(plan);
+        when(worker.walk(plan)).thenAnswer(invocation -> {
+            workerThreads.add(Thread.currentThread());
+            return Stream.of(rowSpec("worker-row"));
+        });
+        walker = new RandomReductiveDecisionTreeWalker(underlyingWalker, new JavaUtilRandomNumberGenerator(0), 2);
+
+        try (Stream<DataBag> rows = walker.walk(tree)) {
+            rows.limit(3).count();
+        }
+
+        for (Thread workerThread : workerThreads) {
+            workerThread.join(10_000);
+            Assert.assertThat(workerThread.isAlive(), is(false));
+        }
+    }
+
+    @Test
+    public void shouldWalkWithGivenRandomNumberGenerator() {
+        ReductiveDecisionTreeWalker partitionWalker = mock(ReductiveDecisionTreeWalker.class);
+        RandomNumberGenerator randomNumberGenerator = new JavaUtilRandomNumberGenerator(1);
+        when(underlyingWalker.withRandomNumberGenerator(randomNumberGenerator)).thenReturn(partitionWalker);
+        when(partitionWalker.compile(tree)).thenReturn(plan);
+        when(partitionWalker.walk(plan)).thenAnswer(invocation -> Stream.of(rowSpec("partition-row")));
+
+        List<DataBag> result = walker.withRandomNumberGenerator(randomNumberGenerator)
+            .walk(tree)
+            .limit(2)
+            .collect(Collectors.toList());
+
+        Assert.assertThat(
+            result.stream().map(DataBag::toString).collect(Collectors.toList()),
+            contains("partition-row", "partition-row"));
+        verify(underlyingWalker, never()).walk(plan);
+    }
+
     private static DataBag rowSpec(String detail) {
         return mock(DataBag.class, detail);
     }
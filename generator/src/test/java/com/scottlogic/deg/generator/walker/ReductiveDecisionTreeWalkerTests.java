@@ -21,6 +21,8 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
@@ -47,7 +49,7 @@ class ReductiveDecisionTreeWalkerTests {
         reductiveFieldSpecBuilder = mock(ReductiveFieldSpecBuilder.class);
         fieldSpecValueGenerator = mock(FieldSpecValueGenerator.class);
         fixFieldStrategy = mock(FixFieldStrategy.class);
-        when(fixFieldStrategy.getNextFieldToFix(any())).thenReturn(field1, field2);
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenReturn(field1, field2);
         fixFieldStrategyFactory = mock(FixFieldStrategyFactory.class);
         when(fixFieldStrategyFactory.create(any())).thenReturn(fixFieldStrategy);
 
@@ -70,7 +72,8 @@ class ReductiveDecisionTreeWalkerTests {
 
         List<DataBag> result = walker.walk(tree).collect(Collectors.toList());
 
-        verify(reductiveFieldSpecBuilder).getDecisionFieldSpecs(eq(rootNode), any());
+        verify(reductiveFieldSpecBuilder, times(1)).getDecisionFieldSpecs(rootNode, field1);
+        verify(reductiveFieldSpecBuilder, times(1)).getDecisionFieldSpecs(rootNode, field2);
         Assert.assertThat(result, empty());
     }
 
@@ -93,4 +96,31 @@ class ReductiveDecisionTreeWalkerTests {
         verify(reductiveFieldSpecBuilder, times(2)).getDecisionFieldSpecs(eq(rootNode), any());
         Assert.assertThat(result, empty());
     }
-}
\ No newline at end of file
+
+    /**
+     * Each part of a split walk should walk the rows that follow from the value fixed for it, in the order of the
+     * whole walk
+     */
+    @Test
+    public void partialWalk_shouldSplitIntoPartsThatWalkTheRowsInOrder() {
+        when(fixFieldStrategy.getNextFieldToFix(any(), any())).thenAnswer(invocation ->
+            ((ReductiveState) invocation.getArguments()[0]).isFieldFixed(field1) ? field2 : field1);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), any())).thenReturn(Collections.singleton(FieldSpec.Empty));
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenAnswer(invocation ->
+            Stream.of(new DataBagValue("a"), new DataBagValue("b")));
+
+        List<PartialWalk> parts = walker.partialWalk(tree).split().collect(Collectors.toList());
+        List<PartialWalk> firstPartRows = parts.get(0).split().collect(Collectors.toList());
+
+        Assert.assertThat(parts.size(), equalTo(2));
+        Assert.assertThat(parts.get(0).walk().map(this::format).collect(Collectors.toList()), contains("aa", "ab"));
+        Assert.assertThat(parts.get(1).walk().map(this::format).collect(Collectors.toList()), contains("ba", "bb"));
+        Assert.assertThat(
+            firstPartRows.stream().map(part -> format(part.getRow().get())).collect(Collectors.toList()),
+            contains("aa", "ab"));
+    }
+
+    private String format(DataBag dataBag) {
+        return dataBag.getFormattedValue(field1) + "" + dataBag.getFormattedValue(field2);
+    }
+}
@@ -0,0 +1,104 @@
+package com.scottlogic.deg.generator.walker.reductive;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+class ContradictionAnalyserTests {
+    private final Field field = new Field("field");
+    private ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private ReductiveTreePruner treePruner;
+    private FieldSpecValueGenerator fieldSpecValueGenerator;
+    private ContradictionAnalyser analyser;
+
+    @BeforeEach
+    void beforeEach() {
+        reductiveFieldSpecBuilder = mock(ReductiveFieldSpecBuilder.class);
+        treePruner = mock(ReductiveTreePruner.class);
+        fieldSpecValueGenerator = mock(FieldSpecValueGenerator.class);
+
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field))).thenReturn(Collections.singleton(FieldSpec.Empty));
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenAnswer(invocation ->
+            Stream.of(new DataBagValue("a"), new DataBagValue("b")));
+
+        analyser = new ContradictionAnalyser(reductiveFieldSpecBuilder, fieldSpecValueGenerator, treePruner);
+    }
+
+    @Test
+    void findFirstContradictoryTree_returnsFirstTreeWithNoValidValues() {
+        for (int firstContradictoryTree = 0; firstContradictoryTree < 6; firstContradictoryTree++) {
+            List<ConstraintNode> trees = new ArrayList<>();
+            for (int index = 0; index < 6; index++) {
+                trees.add(index < firstContradictoryTree ? validTree() : contradictoryTree());
+            }
+
+            Assert.assertThat(analyser.findFirstContradictoryTree(trees, field), equalTo(firstContradictoryTree));
+        }
+    }
+
+    @Test
+    void findFirstContradictoryTree_whenFieldHasNoFieldSpecsInTree_treatsTreeAsContradictory() {
+        ConstraintNode treeWithoutSpecs = mock(ConstraintNode.class);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(treeWithoutSpecs, field)).thenReturn(Collections.emptySet());
+        List<ConstraintNode> trees = new ArrayList<>();
+        trees.add(validTree());
+        trees.add(treeWithoutSpecs);
+        trees.add(contradictoryTree());
+
+        Assert.assertThat(analyser.findFirstContradictoryTree(trees, field), equalTo(1));
+    }
+
+    /**
+     * The values of a field may be too many to hold at once, so each tree should only be probed until a valid value
+     * is found
+     */
+    @Test
+    void findFirstContradictoryTree_stopsGeneratingValuesOnceOneIsValid() {
+        when(fieldSpecValueGenerator.generate(any(Set.class))).thenAnswer(invocation ->
+            Stream.iterate(0, value -> value + 1).map(DataBagValue::new));
+        ConstraintNode validTree = validTree();
+        List<ConstraintNode> trees = new ArrayList<>();
+        trees.add(validTree());
+        trees.add(validTree);
+        trees.add(contradictoryTree());
+
+        Assert.assertThat(analyser.findFirstContradictoryTree(trees, field), equalTo(2));
+        verify(treePruner, times(1)).pruneConstraintNode(eq(validTree), eq(field), any());
+    }
+
+    @Test
+    void findFirstContradictoryTree_withOnlyOneTree_returnsIt() {
+        ConstraintNode tree = mock(ConstraintNode.class);
+
+        Assert.assertThat(analyser.findFirstContradictoryTree(Collections.singletonList(tree), field), equalTo(0));
+        verifyZeroInteractions(treePruner);
+    }
+
+    private ConstraintNode validTree() {
+        ConstraintNode tree = mock(ConstraintNode.class);
+        when(treePruner.pruneConstraintNode(eq(tree), eq(field), any())).thenReturn(Merged.of(tree));
+        return tree;
+    }
+
+    private ConstraintNode contradictoryTree() {
+        ConstraintNode tree = mock(ConstraintNode.class);
+        when(treePruner.pruneConstraintNode(eq(tree), eq(field), any())).thenReturn(Merged.contradictory());
+        return tree;
+    }
+}
@@ -0,0 +1,101 @@
+package com.scottlogic.deg.generator.walker.reductive;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.TreeDecisionNode;
+import com.scottlogic.deg.generator.generation.ReductiveDataGeneratorMonitor;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.*;
+
+class PrunedTreeCacheTests {
+    private final ReductiveDataGeneratorMonitor monitor = mock(ReductiveDataGeneratorMonitor.class);
+    private final Field field = new Field("field");
+    private final AtomicInteger prunes = new AtomicInteger();
+
+    @Test
+    void getOrPrune_withSameTreeFieldAndValue_shouldOnlyPruneOnce() {
+        PrunedTreeCache cache = new PrunedTreeCache(monitor, 100);
+        ConstraintNode tree = new TreeConstraintNode();
+        Merged<ConstraintNode> pruned = Merged.of(new TreeConstraintNode());
+
+        Merged<ConstraintNode> first = cache.getOrPrune(tree, field, new DataBagValue("a"), prune(pruned));
+        Merged<ConstraintNode> second = cache.getOrPrune(tree, field, new DataBagValue("a"), prune(pruned));
+
+        Assert.assertThat(first, sameInstance(pruned));
+        Assert.assertThat(second, sameInstance(pruned));
+        Assert.assertThat(prunes.get(), equalTo(1));
+        verify(monitor, times(1)).prunedTreeCacheMiss();
+        verify(monitor, times(1)).prunedTreeCacheHit();
+    }
+
+    @Test
+    void getOrPrune_withDifferentValue_shouldPruneAgain() {
+        PrunedTreeCache cache = new PrunedTreeCache(monitor, 100);
+        ConstraintNode tree = new TreeConstraintNode();
+
+        cache.getOrPrune(tree, field, new DataBagValue("a"), prune(Merged.contradictory()));
+        cache.getOrPrune(tree, field, new DataBagValue("b"), prune(Merged.contradictory()));
+
+        Assert.assertThat(prunes.get(), equalTo(2));
+        verify(monitor, times(2)).prunedTreeCacheMiss();
+    }
+
+    @Test
+    void getOrPrune_withEqualButDifferentTree_shouldPruneAgain() {
+        PrunedTreeCache cache = new PrunedTreeCache(monitor, 100);
+
+        cache.getOrPrune(new TreeConstraintNode(), field, new DataBagValue("a"), prune(Merged.contradictory()));
+        cache.getOrPrune(new TreeConstraintNode(), field, new DataBagValue("a"), prune(Merged.contradictory()));
+
+        Assert.assertThat(prunes.get(), equalTo(2));
+    }
+
+    @Test
+    void getOrPrune_whenFull_shouldDiscardLeastRecentlyUsedResult() {
+        PrunedTreeCache cache = new PrunedTreeCache(monitor, 2);
+        ConstraintNode tree = new TreeConstraintNode();
+
+        cache.getOrPrune(tree, field, new DataBagValue("a"), prune(Merged.contradictory()));
+        cache.getOrPrune(tree, field, new DataBagValue("b"), prune(Merged.contradictory()));
+        cache.getOrPrune(tree, field, new DataBagValue("a"), prune(Merged.contradictory()));
+        cache.getOrPrune(tree, field, new DataBagValue("c"), prune(Merged.contradictory()));
+        cache.getOrPrune(tree, field, new DataBagValue("a"), prune(Merged.contradictory()));
+        cache.getOrPrune(tree, field, new DataBagValue("b"), prune(Merged.contradictory()));
+
+        Assert.assertThat(prunes.get(), equalTo(4));
+    }
+
+    @Test
+    void getOrPrune_withTreeLargerThanCache_shouldNotCacheResult() {
+        PrunedTreeCache cache = new PrunedTreeCache(monitor, 3);
+        ConstraintNode tree = new TreeConstraintNode();
+        Merged<ConstraintNode> pruned = Merged.of(new TreeConstraintNode(
+            Collections.emptyList(),
+            Collections.singletonList(new TreeDecisionNode(Arrays.asList(
+                new TreeConstraintNode(),
+                new TreeConstraintNode())))));
+
+        cache.getOrPrune(tree, field, new DataBagValue("a"), prune(pruned));
+        cache.getOrPrune(tree, field, new DataBagValue("a"), prune(pruned));
+
+        Assert.assertThat(prunes.get(), equalTo(2));
+    }
+
+    private Supplier<Merged<ConstraintNode>> prune(Merged<ConstraintNode> result) {
+        return () -> {
+            prunes.incrementAndGet();
+            return result;
+        };
+    }
+}
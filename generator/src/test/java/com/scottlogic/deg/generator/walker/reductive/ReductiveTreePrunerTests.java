@@ -5,6 +5,7 @@ import com.scottlogic.deg.common.profile.constraints.atomic.IsLessThanConstantCo
 import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
 import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
 import com.scottlogic.deg.generator.fieldspecs.*;
+import com.scottlogic.deg.generator.generation.NoopDataGeneratorMonitor;
 import com.scottlogic.deg.generator.generation.databags.DataBagValue;
 import com.scottlogic.deg.generator.reducer.ConstraintReducer;
 import com.scottlogic.deg.generator.restrictions.SetRestrictions;
@@ -32,7 +33,8 @@ class ReductiveTreePrunerTests {
         new ConstraintReducer(
             new FieldSpecFactory(new StringRestrictionsFactory()),
             new FieldSpecMerger()),
-        fieldSpecHelper);
+        fieldSpecHelper,
+        new PrunedTreeCache(new NoopDataGeneratorMonitor()));
 
 
     // SINGLE LAYER
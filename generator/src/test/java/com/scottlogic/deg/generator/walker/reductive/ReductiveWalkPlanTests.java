@@ -0,0 +1,91 @@
+package com.scottlogic.deg.generator.walker.reductive;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.decisiontree.DecisionTree;
+import com.scottlogic.deg.generator.decisiontree.TreeConstraintNode;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldSpecValueGenerator;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.CannedValuesFieldValueSource;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy.FixFieldStrategy;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+class ReductiveWalkPlanTests {
+    private final Field field = new Field("field");
+    private final ConstraintNode rootNode = new TreeConstraintNode();
+    private final Set<FieldSpec> rootSpecs = Collections.singleton(FieldSpec.Empty);
+    private final FieldValueSource rootSource = CannedValuesFieldValueSource.of("a", "b");
+    private ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private FieldSpecValueGenerator fieldSpecValueGenerator;
+    private ReductiveWalkPlan plan;
+
+    @BeforeEach
+    void beforeEach() {
+        reductiveFieldSpecBuilder = mock(ReductiveFieldSpecBuilder.class);
+        fieldSpecValueGenerator = mock(FieldSpecValueGenerator.class);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(rootNode, field)).thenReturn(rootSpecs);
+        when(fieldSpecValueGenerator.getFieldValueSource(rootSpecs)).thenReturn(rootSource);
+
+        plan = new ReductiveWalkPlan(
+            new DecisionTree(rootNode, new ProfileFields(Collections.singletonList(field)), ""),
+            mock(FixFieldStrategy.class),
+            reductiveFieldSpecBuilder,
+            fieldSpecValueGenerator);
+    }
+
+    @Test
+    void constructor_shouldBuildSpecsAndSourceForEveryFieldAtRoot() {
+        verify(reductiveFieldSpecBuilder, times(1)).getDecisionFieldSpecs(rootNode, field);
+        verify(fieldSpecValueGenerator, times(1)).getFieldValueSource(rootSpecs);
+    }
+
+    @Test
+    void getFieldSpecs_forRootNode_shouldOnlyBuildSpecsOnce() {
+        plan.getFieldSpecs(rootNode, field);
+        Set<FieldSpec> specs = plan.getFieldSpecs(rootNode, field);
+
+        Assert.assertThat(specs, sameInstance(rootSpecs));
+        verify(reductiveFieldSpecBuilder, times(1)).getDecisionFieldSpecs(any(), any());
+    }
+
+    @Test
+    void getFieldSpecs_forPrunedTree_shouldBuildSpecsFromPrunedTreeOnce() {
+        ConstraintNode prunedTree = new TreeConstraintNode();
+        Set<FieldSpec> prunedSpecs = Collections.singleton(FieldSpec.Empty.withNotNull());
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(prunedTree, field)).thenReturn(prunedSpecs);
+
+        plan.getFieldSpecs(prunedTree, field);
+        Set<FieldSpec> specs = plan.getFieldSpecs(prunedTree, field);
+
+        Assert.assertThat(specs, sameInstance(prunedSpecs));
+        verify(reductiveFieldSpecBuilder, times(1)).getDecisionFieldSpecs(prunedTree, field);
+    }
+
+    @Test
+    void getFieldValueSource_withRootSpecs_shouldReuseSourceBuiltForRoot() {
+        FieldValueSource first = plan.getFieldValueSource(field, Collections.singleton(FieldSpec.Empty));
+        FieldValueSource second = plan.getFieldValueSource(field, Collections.singleton(FieldSpec.Empty));
+
+        Assert.assertThat(first, sameInstance(rootSource));
+        Assert.assertThat(second, sameInstance(rootSource));
+        verify(fieldSpecValueGenerator, times(1)).getFieldValueSource(any(Set.class));
+    }
+
+    @Test
+    void getFieldValueSource_withDifferentSpecs_shouldReturnNull() {
+        FieldValueSource source = plan.getFieldValueSource(field, Collections.singleton(FieldSpec.Empty.withNotNull()));
+
+        Assert.assertThat(source, nullValue());
+    }
+}
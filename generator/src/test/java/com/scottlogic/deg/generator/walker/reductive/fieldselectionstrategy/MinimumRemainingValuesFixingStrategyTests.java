@@ -0,0 +1,132 @@
+package com.scottlogic.deg.generator.walker.reductive.fieldselectionstrategy;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.generator.decisiontree.ConstraintNode;
+import com.scottlogic.deg.generator.fieldspecs.FieldSpec;
+import com.scottlogic.deg.generator.generation.FieldValueSourceEvaluator;
+import com.scottlogic.deg.generator.generation.databags.DataBagValue;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.CannedValuesFieldValueSource;
+import com.scottlogic.deg.generator.generation.fieldvaluesources.FieldValueSource;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveFieldSpecBuilder;
+import com.scottlogic.deg.generator.walker.reductive.ReductiveState;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.scottlogic.deg.generator.builders.ConstraintNodeBuilder.constraintNode;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MinimumRemainingValuesFixingStrategyTests {
+    private final Field field1 = new Field("field1");
+    private final Field field2 = new Field("field2");
+    private final Field field3 = new Field("field3");
+    private final ReductiveState reductiveState = new ReductiveState(
+        new ProfileFields(Arrays.asList(field1, field2, field3)));
+    private final ConstraintNode emptyTree = constraintNode().build();
+
+    private ReductiveFieldSpecBuilder reductiveFieldSpecBuilder;
+    private FieldValueSourceEvaluator sourceEvaluator;
+    private MinimumRemainingValuesFixingStrategy strategy;
+
+    @BeforeEach
+    void beforeEach() {
+        reductiveFieldSpecBuilder = mock(ReductiveFieldSpecBuilder.class);
+        sourceEvaluator = mock(FieldValueSourceEvaluator.class);
+        strategy = new MinimumRemainingValuesFixingStrategy(reductiveFieldSpecBuilder, sourceEvaluator);
+    }
+
+    @Test
+    void getNextFieldToFix_shouldPickFieldWithFewestValues() {
+        givenValueCounts(3, 2, 5);
+
+        Assert.assertThat(strategy.getNextFieldToFix(reductiveState, emptyTree), equalTo(field2));
+    }
+
+    @Test
+    void getNextFieldToFix_shouldIgnoreFixedFields() {
+        givenValueCounts(3, 2, 5);
+
+        ReductiveState state = reductiveState.withFixedFieldValue(field2, new DataBagValue("a"));
+
+        Assert.assertThat(strategy.getNextFieldToFix(state, emptyTree), equalTo(field1));
+    }
+
+    @Test
+    void getNextFieldToFix_whenAllFieldsFixed_shouldReturnNull() {
+        givenValueCounts(3, 2, 5);
+
+        ReductiveState state = reductiveState
+            .withFixedFieldValue(field1, new DataBagValue("a"))
+            .withFixedFieldValue(field2, new DataBagValue("a"))
+            .withFixedFieldValue(field3, new DataBagValue("a"));
+
+        Assert.assertThat(strategy.getNextFieldToFix(state, emptyTree), nullValue());
+    }
+
+    @Test
+    void getNextFieldToFix_withSameNumberOfValues_shouldPickFieldInMostConstraints() {
+        givenValueCounts(2, 2, 2);
+        ConstraintNode tree = constraintNode()
+            .where(field1).isInSet("a", "b")
+            .withDecision(
+                constraintNode().where(field3).isInSet("a"),
+                constraintNode().where(field3).isInSet("b"))
+            .build();
+
+        Assert.assertThat(strategy.getNextFieldToFix(reductiveState, tree), equalTo(field3));
+    }
+
+    @Test
+    void getNextFieldToFix_withSameNumberOfValuesAndConstraints_shouldPickFirstField() {
+        givenValueCounts(2, 2, 2);
+
+        Assert.assertThat(strategy.getNextFieldToFix(reductiveState, emptyTree), equalTo(field1));
+    }
+
+    @Test
+    void getNextFieldToFix_shouldPickFieldWithNoValuesFirst() {
+        givenValueCounts(3, 2, 5);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field3))).thenReturn(Collections.emptySet());
+
+        Assert.assertThat(strategy.getNextFieldToFix(reductiveState, emptyTree), equalTo(field3));
+    }
+
+    @Test
+    void getNextFieldToFix_shouldPreferFiniteFieldsToInfiniteOnes() {
+        givenValueCounts(3, 2, 5);
+        FieldSpec infiniteSpec = FieldSpec.Empty.withFormatting("infinite");
+        FieldValueSource infiniteSource = mock(FieldValueSource.class);
+        when(infiniteSource.isFinite()).thenReturn(false);
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field2))).thenReturn(Collections.singleton(infiniteSpec));
+        when(sourceEvaluator.getFieldValueSources(infiniteSpec)).thenReturn(Collections.singletonList(infiniteSource));
+
+        Assert.assertThat(strategy.getNextFieldToFix(reductiveState, emptyTree), equalTo(field1));
+    }
+
+    private void givenValueCounts(int field1Values, int field2Values, int field3Values) {
+        givenValueCount(field1, field1Values);
+        givenValueCount(field2, field2Values);
+        givenValueCount(field3, field3Values);
+    }
+
+    private void givenValueCount(Field field, int values) {
+        FieldSpec spec = FieldSpec.Empty.withFormatting(field.name);
+        List<Object> cannedValues = IntStream.range(0, values).boxed().collect(Collectors.toList());
+
+        when(reductiveFieldSpecBuilder.getDecisionFieldSpecs(any(), eq(field))).thenReturn(Collections.singleton(spec));
+        when(sourceEvaluator.getFieldValueSources(spec))
+            .thenReturn(Collections.singletonList(new CannedValuesFieldValueSource(cannedValues)));
+    }
+}
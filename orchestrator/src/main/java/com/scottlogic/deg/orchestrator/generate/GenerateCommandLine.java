@@ -6,7 +6,9 @@ import com.google.inject.Module;
 import com.scottlogic.deg.generator.config.detail.*;
 import com.scottlogic.deg.orchestrator.guice.AllConfigSource;
 import com.scottlogic.deg.orchestrator.guice.AllModule;
+import com.scottlogic.deg.output.compression.Compression;
 import com.scottlogic.deg.output.guice.OutputFormat;
+import com.scottlogic.deg.output.writer.FlushPolicy;
 import picocli.CommandLine;
 
 import java.io.File;
@@ -16,6 +18,8 @@ import java.util.concurrent.Callable;
 import static com.scottlogic.deg.generator.config.detail.CombinationStrategyType.MINIMAL;
 import static com.scottlogic.deg.common.util.Defaults.DEFAULT_MAX_ROWS;
 import static com.scottlogic.deg.generator.config.detail.DataGenerationType.RANDOM;
+import static com.scottlogic.deg.generator.config.detail.FixFieldStrategyType.FIELD_APPEARANCE;
+import static com.scottlogic.deg.generator.config.detail.RandomNumberGeneratorType.SPLITTABLE;
 import static com.scottlogic.deg.output.guice.OutputFormat.CSV;
 import static com.scottlogic.deg.generator.config.detail.TreeWalkerType.REDUCTIVE;
 
@@ -95,11 +99,42 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         hidden = true)
     private TreeWalkerType walkerType = REDUCTIVE;
 
+    @CommandLine.Option(names = {"--fix-field-strategy"},
+        description = "Determines how the reductive tree walkers choose the next field to fix (${COMPLETION-CANDIDATES})",
+        hidden = true)
+    private FixFieldStrategyType fixFieldStrategyType = FIELD_APPEARANCE;
+
     @CommandLine.Option(
         names = {"-n", "--max-rows"},
         description = "Defines the maximum number of rows that should be generated")
     private long maxRows = DEFAULT_MAX_ROWS;
 
+    @CommandLine.Option(
+        names = {"--partition-threads"},
+        description = "Defines the number of independent partitions that may be generated concurrently")
+    private int partitionThreads = 1;
+
+    @CommandLine.Option(
+        names = {"--random-threads"},
+        description = "Defines the number of threads that generate rows concurrently in RANDOM mode")
+    private int randomThreads = 1;
+
+    @CommandLine.Option(
+        names = {"--shard"},
+        description = "Generates only the given slice of the output, as index/count, e.g. 0/4 for the first of four",
+        converter = ShardConverter.class)
+    private Shard shard = Shard.ALL;
+
+    @CommandLine.Option(
+        names = {"--random-number-generator"},
+        description = "Determines the random number generator used in RANDOM mode (${COMPLETION-CANDIDATES})")
+    private RandomNumberGeneratorType randomNumberGeneratorType = SPLITTABLE;
+
+    @CommandLine.Option(
+        names = {"--seed"},
+        description = "Seeds the random number generator, so that a RANDOM run can be repeated exactly")
+    private Long seed;
+
     @CommandLine.Option(
         names = {"--quiet"},
         description = "Turns OFF default monitoring")
@@ -116,11 +151,92 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         hidden = true)
     private Boolean visualiseReductions = false;
 
+    @CommandLine.Option(
+        names = {"--learn-nogoods"},
+        description = "Remember trees that can't produce any rows, when walking with the ITERATIVE_REDUCTIVE walker",
+        hidden = true)
+    private boolean learnNogoods = false;
+
+    @CommandLine.Option(
+        names = {"--tree-cache-directory"},
+        description = "Caches the analysed decision trees of the profile in the given directory, reusing them while the profile and options are unchanged")
+    private Path treeCacheDirectory;
+
     @CommandLine.Option(
         names = {"--output-format"},
         description = "Output format (${COMPLETION-CANDIDATES})")
     private OutputFormat outputFormat = CSV;
 
+    @CommandLine.Option(
+        names = {"--output-buffer-size"},
+        description = "Defines the number of characters of output to buffer before writing them")
+    private int outputBufferSize = FlushPolicy.DEFAULT_BUFFER_SIZE;
+
+    @CommandLine.Option(
+        names = {"--output-flush-interval"},
+        description = "Defines the longest time, in milliseconds, that complete rows are buffered before being written; 0 writes every row as soon as it is generated")
+    private long outputFlushIntervalMillis = FlushPolicy.DEFAULT_FLUSH_INTERVAL_MILLIS;
+
+    @CommandLine.Option(
+        names = {"--formatting-threads"},
+        description = "Defines the number of threads that format rows while others are generated, 0 formats rows on the generating thread")
+    private int formattingThreads = 0;
+
+    @CommandLine.Option(
+        names = {"--unordered-output"},
+        description = "Allows rows formatted on several threads to be output in a different order to the one they were generated in")
+    private boolean unorderedOutput = false;
+
+    @CommandLine.Option(
+        names = {"--compress"},
+        description = "Compresses the output (${COMPLETION-CANDIDATES}), by default output files are compressed if their extension is that of a compression, e.g. .gz")
+    private Compression compression;
+
+    @CommandLine.Option(
+        names = {"--compression-threads"},
+        description = "Defines the number of threads that compress the output")
+    private int compressionThreads = Runtime.getRuntime().availableProcessors();
+
+    @CommandLine.Option(
+        names = {"--max-rows-per-file"},
+        description = "Splits the output across numbered files in the output directory, each with at most this many rows")
+    private long maxRowsPerFile = 0;
+
+    @CommandLine.Option(
+        names = {"--max-bytes-per-file"},
+        description = "Splits the output across numbered files in the output directory, starting a new file once one has about this many bytes")
+    private long maxBytesPerFile = 0;
+
+    @CommandLine.Option(
+        names = {"--sql-table"},
+        description = "Defines the table, optionally qualified by its schema, that SQL output loads rows into")
+    private String sqlTableName = "data";
+
+    @CommandLine.Option(
+        names = {"--sql-insert-batch-size"},
+        description = "Defines the most rows to insert in each statement of SQL_INSERT output")
+    private int sqlInsertBatchSize = 1000;
+
+    @CommandLine.Option(
+        names = {"--jdbc-url"},
+        description = "Inserts the rows into the table given by --sql-table of the database at this JDBC URL, instead of writing them to a file")
+    private String jdbcUrl;
+
+    @CommandLine.Option(
+        names = {"--jdbc-batch-size"},
+        description = "Defines the number of rows to send to the database in each batch of inserts")
+    private int jdbcBatchSize = 1000;
+
+    @CommandLine.Option(
+        names = {"--jdbc-commit-interval"},
+        description = "Defines the number of rows to insert over each connection before committing them, or 0 to commit them once all are inserted")
+    private long jdbcCommitInterval = 100_000;
+
+    @CommandLine.Option(
+        names = {"--jdbc-connections"},
+        description = "Defines the number of connections to insert rows over in parallel")
+    private int jdbcConnections = 1;
+
     @CommandLine.Option(
         names = {"--allow-untyped-fields"},
         description = "Remove the need for each field to have at least one compliant typing constraint applied")
@@ -175,6 +291,11 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         return this.walkerType;
     }
 
+    @Override
+    public FixFieldStrategyType getFixFieldStrategyType() {
+        return this.fixFieldStrategyType;
+    }
+
     @Override
     public boolean requireFieldTyping(){
         return !allowUntypedFields;
@@ -196,12 +317,128 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         return maxRows;
     }
 
+    @Override
+    public int getPartitionThreads() {
+        return partitionThreads;
+    }
+
+    @Override
+    public int getRandomThreads() {
+        return randomThreads;
+    }
+
+    @Override
+    public Shard getShard() {
+        return shard;
+    }
+
+    @Override
+    public RandomNumberGeneratorType getRandomNumberGeneratorType() {
+        return randomNumberGeneratorType;
+    }
+
+    @Override
+    public Long getSeed() {
+        return seed;
+    }
+
     @Override
     public boolean visualiseReductions() {
         return visualiseReductions;
     }
 
+    @Override
+    public boolean learnNogoods() {
+        return learnNogoods;
+    }
+
+    @Override
+    public Path getTreeCacheDirectory() {
+        return treeCacheDirectory;
+    }
+
     public OutputFormat getOutputFormat() {
         return outputFormat;
     }
+
+    @Override
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    @Override
+    public long getOutputFlushIntervalMillis() {
+        return outputFlushIntervalMillis;
+    }
+
+    @Override
+    public int getFormattingThreads() {
+        return formattingThreads;
+    }
+
+    @Override
+    public boolean isOutputUnordered() {
+        return unorderedOutput;
+    }
+
+    @Override
+    public Compression getCompression() {
+        return compression;
+    }
+
+    @Override
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    @Override
+    public long getMaxRowsPerFile() {
+        return maxRowsPerFile;
+    }
+
+    @Override
+    public long getMaxBytesPerFile() {
+        return maxBytesPerFile;
+    }
+
+    @Override
+    public String getSqlTableName() {
+        return sqlTableName;
+    }
+
+    @Override
+    public int getSqlInsertBatchSize() {
+        return sqlInsertBatchSize;
+    }
+
+    @Override
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    @Override
+    public int getJdbcBatchSize() {
+        return jdbcBatchSize;
+    }
+
+    @Override
+    public long getJdbcCommitInterval() {
+        return jdbcCommitInterval;
+    }
+
+    @Override
+    public int getJdbcConnections() {
+        return jdbcConnections;
+    }
+
+    public static class ShardConverter implements CommandLine.ITypeConverter<Shard> {
+        @Override
+        public Shard convert(String value) {
+            try {
+                return Shard.parse(value);
+            } catch (IllegalArgumentException e) {
+                throw new CommandLine.TypeConversionException(e.getMessage());
+            }
+        }
+    }
 }
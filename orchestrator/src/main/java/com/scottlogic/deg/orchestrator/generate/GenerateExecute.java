@@ -60,9 +60,9 @@ public class GenerateExecute {
         profileValidator.validate(profile);
         singleDatasetOutputTarget.validate();
 
-        Stream<GeneratedObject> generatedDataItems = dataGenerator.generateData(profile);
-
-        outputData(profile, generatedDataItems);
+        try (Stream<GeneratedObject> generatedDataItems = dataGenerator.generateData(profile)) {
+            outputData(profile, generatedDataItems);
+        }
     }
 
     private void outputData(Profile profile, Stream<GeneratedObject> generatedDataItems) throws IOException {
@@ -74,6 +74,7 @@ public class GenerateExecute {
                     throw new RuntimeException(e);
                 }
             });
+            writer.finish();
         }
         monitor.endGeneration();
     }
@@ -2,8 +2,11 @@ package com.scottlogic.deg.orchestrator.validator;
 
 import com.google.inject.Inject;
 import com.scottlogic.deg.common.ValidationException;
+import com.scottlogic.deg.generator.config.detail.DataGenerationType;
+import com.scottlogic.deg.generator.config.detail.Shard;
 import com.scottlogic.deg.orchestrator.guice.AllConfigSource;
 import com.scottlogic.deg.output.guice.OutputConfigSource;
+import com.scottlogic.deg.output.guice.OutputFormat;
 import com.scottlogic.deg.output.outputtarget.OutputTargetValidationException;
 import com.scottlogic.deg.output.FileUtils;
 
@@ -22,6 +25,71 @@ public class ConfigValidator {
 
     public void preProfileChecks(AllConfigSource generationConfigSource) {
         checkProfileInputFile(generationConfigSource.getProfileFile());
+        checkShard(generationConfigSource);
+        checkSplitOutput(generationConfigSource);
+        checkJdbcOutput(generationConfigSource);
+        checkSqlOutput(generationConfigSource);
+        checkFormattingThreads(generationConfigSource);
+        checkCompressionThreads(generationConfigSource);
+    }
+
+    private void checkSqlOutput(AllConfigSource generationConfigSource) {
+        OutputFormat format = generationConfigSource.getOutputFormat();
+        if (format != OutputFormat.SQL_INSERT && format != OutputFormat.POSTGRES_COPY) {
+            return;
+        }
+
+        String tableName = generationConfigSource.getSqlTableName();
+        if (tableName == null || tableName.trim().isEmpty()) {
+            throw new ValidationException("A table name must be given for " + format + " output");
+        }
+        if (format == OutputFormat.SQL_INSERT && generationConfigSource.getSqlInsertBatchSize() <= 0) {
+            throw new ValidationException("SQL insert batch size must be positive, but was " +
+                generationConfigSource.getSqlInsertBatchSize());
+        }
+    }
+
+    private void checkSplitOutput(AllConfigSource generationConfigSource) {
+        boolean splitOutput = generationConfigSource.getMaxRowsPerFile() > 0 || generationConfigSource.getMaxBytesPerFile() > 0;
+        if (splitOutput && generationConfigSource.useStdOut()) {
+            throw new ValidationException("Output can only be split across files when an output directory is given");
+        }
+    }
+
+    private void checkJdbcOutput(AllConfigSource generationConfigSource) {
+        if (generationConfigSource.getJdbcUrl() != null && generationConfigSource.getOutputPath() != null) {
+            throw new ValidationException("Rows can be inserted into a database or written to an output path, but not both");
+        }
+        if (generationConfigSource.getJdbcUrl() != null && generationConfigSource.getJdbcBatchSize() < 1) {
+            throw new ValidationException("JDBC batch size must be at least 1, but was " +
+                generationConfigSource.getJdbcBatchSize());
+        }
+        if (generationConfigSource.getJdbcUrl() != null && generationConfigSource.getJdbcConnections() < 1) {
+            throw new ValidationException("JDBC connections must be at least 1, but was " +
+                generationConfigSource.getJdbcConnections());
+        }
+    }
+
+    private void checkFormattingThreads(AllConfigSource generationConfigSource) {
+        if (generationConfigSource.getFormattingThreads() < 0) {
+            throw new ValidationException("Formatting threads must be 0 or more, but was " +
+                generationConfigSource.getFormattingThreads());
+        }
+    }
+
+    private void checkCompressionThreads(AllConfigSource generationConfigSource) {
+        if (generationConfigSource.getCompressionThreads() < 1) {
+            throw new ValidationException("Compression threads must be at least 1, but was " +
+                generationConfigSource.getCompressionThreads());
+        }
+    }
+
+    private void checkShard(AllConfigSource generationConfigSource) {
+        Shard shard = generationConfigSource.getShard();
+        if (shard != null && !shard.isAll() && generationConfigSource.getGenerationType() == DataGenerationType.RANDOM) {
+            throw new ValidationException("Shard " + shard + " cannot be used with RANDOM generation, " +
+                "the output of each run is different so the shards would not be disjoint");
+        }
     }
 
     private void checkProfileInputFile(File profileFile) {
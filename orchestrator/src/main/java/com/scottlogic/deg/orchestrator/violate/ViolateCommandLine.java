@@ -8,6 +8,7 @@ import com.scottlogic.deg.profile.v0_1.AtomicConstraintType;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 @CommandLine.Command(
@@ -38,4 +39,10 @@ public class ViolateCommandLine extends GenerateCommandLine implements ViolateCo
         return constraintsToNotViolate;
     }
 
+    @Override
+    public Path getTreeCacheDirectory() {
+        // the trees are made from each violated profile rather than the profile file, so can't be cached by it
+        return null;
+    }
+
 }
@@ -90,8 +90,9 @@ public class ViolateExecute {
         for (Profile violatedProfile : violatedProfiles) {
             SingleDatasetOutputTarget outputTarget =
                 outputTargetFactory.create(intFormatter.format(filename++));
-            Stream<GeneratedObject> generatedObjectStream = dataGenerator.generateData(violatedProfile);
-            outputData(profile, generatedObjectStream, outputTarget);
+            try (Stream<GeneratedObject> generatedObjectStream = dataGenerator.generateData(violatedProfile)) {
+                outputData(profile, generatedObjectStream, outputTarget);
+            }
         }
     }
 
@@ -108,6 +109,7 @@ public class ViolateExecute {
                     throw new RuntimeException(e);
                 }
             });
+            writer.finish();
         }
     }
 }
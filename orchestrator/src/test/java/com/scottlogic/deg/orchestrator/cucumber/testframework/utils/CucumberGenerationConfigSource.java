@@ -5,7 +5,9 @@ import com.scottlogic.deg.common.profile.Profile;
 import com.scottlogic.deg.generator.config.detail.*;
 import com.scottlogic.deg.orchestrator.guice.AllConfigSource;
 import com.scottlogic.deg.orchestrator.violate.ViolateConfigSource;
+import com.scottlogic.deg.output.compression.Compression;
 import com.scottlogic.deg.output.guice.OutputFormat;
+import com.scottlogic.deg.output.writer.FlushPolicy;
 import com.scottlogic.deg.profile.v0_1.AtomicConstraintType;
 
 import java.io.File;
@@ -40,6 +42,11 @@ public class CucumberGenerationConfigSource implements AllConfigSource, ViolateC
         return state.walkerType;
     }
 
+    @Override
+    public FixFieldStrategyType getFixFieldStrategyType() {
+        return FixFieldStrategyType.FIELD_APPEARANCE;
+    }
+
     @Override
     public List<AtomicConstraintType> getConstraintsToNotViolate() {
         return state.getConstraintsToNotViolate();
@@ -55,6 +62,31 @@ public class CucumberGenerationConfigSource implements AllConfigSource, ViolateC
         return state.maxRows;
     }
 
+    @Override
+    public int getPartitionThreads() {
+        return 1;
+    }
+
+    @Override
+    public int getRandomThreads() {
+        return 1;
+    }
+
+    @Override
+    public Shard getShard() {
+        return Shard.ALL;
+    }
+
+    @Override
+    public RandomNumberGeneratorType getRandomNumberGeneratorType() {
+        return RandomNumberGeneratorType.SPLITTABLE;
+    }
+
+    @Override
+    public Long getSeed() {
+        return null;
+    }
+
     @Override
     public boolean shouldDoPartitioning() {
         return false;
@@ -95,8 +127,88 @@ public class CucumberGenerationConfigSource implements AllConfigSource, ViolateC
         return false;
     }
 
+    @Override
+    public boolean learnNogoods() {
+        return false;
+    }
+
+    @Override
+    public Path getTreeCacheDirectory() {
+        return null;
+    }
+
     @Override
     public OutputFormat getOutputFormat() {
         return null;
     }
+
+    @Override
+    public int getOutputBufferSize() {
+        return FlushPolicy.DEFAULT_BUFFER_SIZE;
+    }
+
+    @Override
+    public long getOutputFlushIntervalMillis() {
+        return FlushPolicy.DEFAULT_FLUSH_INTERVAL_MILLIS;
+    }
+
+    @Override
+    public int getFormattingThreads() {
+        return 0;
+    }
+
+    @Override
+    public boolean isOutputUnordered() {
+        return false;
+    }
+
+    @Override
+    public Compression getCompression() {
+        return null;
+    }
+
+    @Override
+    public int getCompressionThreads() {
+        return 1;
+    }
+
+    @Override
+    public long getMaxRowsPerFile() {
+        return 0;
+    }
+
+    @Override
+    public long getMaxBytesPerFile() {
+        return 0;
+    }
+
+    @Override
+    public String getSqlTableName() {
+        return "data";
+    }
+
+    @Override
+    public int getSqlInsertBatchSize() {
+        return 1000;
+    }
+
+    @Override
+    public String getJdbcUrl() {
+        return null;
+    }
+
+    @Override
+    public int getJdbcBatchSize() {
+        return 1000;
+    }
+
+    @Override
+    public long getJdbcCommitInterval() {
+        return 0;
+    }
+
+    @Override
+    public int getJdbcConnections() {
+        return 1;
+    }
 }
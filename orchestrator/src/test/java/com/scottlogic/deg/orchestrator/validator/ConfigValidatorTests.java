@@ -2,14 +2,17 @@ package com.scottlogic.deg.orchestrator.validator;
 
 import com.scottlogic.deg.common.ValidationException;
 import com.scottlogic.deg.generator.config.detail.DataGenerationType;
+import com.scottlogic.deg.generator.config.detail.Shard;
 import com.scottlogic.deg.orchestrator.guice.AllConfigSource;
 import com.scottlogic.deg.output.FileUtils;
+import com.scottlogic.deg.output.guice.OutputFormat;
 import com.scottlogic.deg.output.outputtarget.OutputTargetValidationException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import java.io.File;
+import java.nio.file.Paths;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -32,6 +35,7 @@ public class ConfigValidatorTests {
         when(mockProfileFile.exists()).thenReturn(true);
         when(mockProfileFile.isDirectory()).thenReturn(false);
         when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(1);
 
         assertDoesNotThrow(()->configValidator.preProfileChecks(mockConfigSource),"Expected no exception, but one was thrown.");
     }
@@ -44,6 +48,7 @@ public class ConfigValidatorTests {
         when(mockProfileFile.exists()).thenReturn(true);
         when(mockProfileFile.isDirectory()).thenReturn(false);
         when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(1);
         when(mockConfigSource.getGenerationType()).thenReturn(DataGenerationType.RANDOM);
         when(mockConfigSource.getMaxRows()).thenReturn(25L);
 
@@ -91,4 +96,135 @@ public class ConfigValidatorTests {
 
         assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
     }
+
+    @Test
+    public void preProfileChecks_shardWithRandomGeneration_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getGenerationType()).thenReturn(DataGenerationType.RANDOM);
+        when(mockConfigSource.getShard()).thenReturn(new Shard(1, 2));
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_shardWithFullSequentialGeneration_returnsNoErrorMessages() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(1);
+        when(mockConfigSource.getGenerationType()).thenReturn(DataGenerationType.FULL_SEQUENTIAL);
+        when(mockConfigSource.getShard()).thenReturn(new Shard(1, 2));
+
+        assertDoesNotThrow(()->configValidator.preProfileChecks(mockConfigSource),"Expected no exception, but one was thrown.");
+    }
+
+    @Test
+    public void preProfileChecks_splitOutputToStdout_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getMaxRowsPerFile()).thenReturn(1000L);
+        when(mockConfigSource.useStdOut()).thenReturn(true);
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_sqlInsertOutputWithNoBatchSize_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getOutputFormat()).thenReturn(OutputFormat.SQL_INSERT);
+        when(mockConfigSource.getSqlTableName()).thenReturn("data");
+        when(mockConfigSource.getSqlInsertBatchSize()).thenReturn(0);
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_jdbcUrlWithOutputPath_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getJdbcUrl()).thenReturn("jdbc:postgresql://localhost/test");
+        when(mockConfigSource.getOutputPath()).thenReturn(Paths.get("output.csv"));
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_jdbcUrlWithZeroBatchSize_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(1);
+        when(mockConfigSource.getJdbcUrl()).thenReturn("jdbc:postgresql://localhost/test");
+        when(mockConfigSource.getJdbcBatchSize()).thenReturn(0);
+        when(mockConfigSource.getJdbcConnections()).thenReturn(1);
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_jdbcUrlWithNoConnections_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(1);
+        when(mockConfigSource.getJdbcUrl()).thenReturn("jdbc:postgresql://localhost/test");
+        when(mockConfigSource.getJdbcBatchSize()).thenReturn(1000);
+        when(mockConfigSource.getJdbcConnections()).thenReturn(0);
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_negativeFormattingThreads_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(1);
+        when(mockConfigSource.getFormattingThreads()).thenReturn(-1);
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
+
+    @Test
+    public void preProfileChecks_noCompressionThreads_throwsException() {
+        ConfigValidator configValidator = new ConfigValidator(mockFileUtils);
+        when(mockConfigSource.getProfileFile()).thenReturn(mockProfileFile);
+        when(mockFileUtils.containsInvalidChars(mockProfileFile)).thenReturn(false);
+        when(mockProfileFile.exists()).thenReturn(true);
+        when(mockProfileFile.isDirectory()).thenReturn(false);
+        when(mockFileUtils.isFileEmpty(mockProfileFile)).thenReturn(false);
+        when(mockConfigSource.getCompressionThreads()).thenReturn(0);
+
+        assertThrows(ValidationException.class, ()->configValidator.preProfileChecks(mockConfigSource),"Expected ValidationException to throw, but didn't");
+    }
 }
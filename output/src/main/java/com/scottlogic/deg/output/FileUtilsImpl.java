@@ -18,7 +18,7 @@ public class FileUtilsImpl implements FileUtils {
      * @return Decimal format comprised of n zeroes where n is the number of digits in the input integer.
      */
     public static DecimalFormat getDecimalFormat(int numberOfDataSets) {
-        int maxNumberOfDigits = (int) Math.ceil(Math.log10(numberOfDataSets));
+        int maxNumberOfDigits = Integer.toString(numberOfDataSets).length();
 
         char[] zeroes = new char[maxNumberOfDigits];
         Arrays.fill(zeroes, '0');
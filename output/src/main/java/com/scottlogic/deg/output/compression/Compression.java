@@ -0,0 +1,32 @@
+package com.scottlogic.deg.output.compression;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum Compression {
+    NONE(null),
+    GZIP("gz");
+
+    private final String fileExtension;
+
+    Compression(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public Optional<String> getFileExtensionWithoutDot() {
+        return Optional.ofNullable(fileExtension);
+    }
+
+    /**
+     * @return the compression whose file extension the path has, or NONE if it has none of them
+     */
+    public static Compression fromPath(Path path) {
+        String fileName = path.getFileName().toString();
+        return Arrays.stream(values())
+            .filter(compression -> compression.fileExtension != null)
+            .filter(compression -> fileName.endsWith("." + compression.fileExtension))
+            .findFirst()
+            .orElse(NONE);
+    }
+}
@@ -0,0 +1,66 @@
+package com.scottlogic.deg.output.compression;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Compresses output streams, either as configured or, when no compression is configured, as the extension of the file
+ * being written says.
+ */
+public class OutputCompression {
+    private final Compression compression;
+    private final int threads;
+
+    /**
+     * @param compression the compression to use for every output, or null to use the compression the file extension
+     *                    of each output says
+     * @param threads the number of threads to compress each output on
+     */
+    public OutputCompression(Compression compression, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Compression threads must be positive, but was " + threads);
+        }
+
+        this.compression = compression;
+        this.threads = threads;
+    }
+
+    public static OutputCompression byFileExtension() {
+        return new OutputCompression(null, Runtime.getRuntime().availableProcessors());
+    }
+
+    public OutputStream compress(OutputStream stream, Path path) {
+        return compress(stream, compression != null ? compression : Compression.fromPath(path));
+    }
+
+    /**
+     * Compress a stream that isn't written to a file, which is only compressed if compression is configured
+     */
+    public OutputStream compress(OutputStream stream) {
+        return compress(stream, compression != null ? compression : Compression.NONE);
+    }
+
+    /**
+     * @return the name of a file written with the configured compression, with its file extension added
+     */
+    public String addFileExtension(String fileName) {
+        if (compression == null) {
+            return fileName;
+        }
+
+        return compression.getFileExtensionWithoutDot()
+            .map(extension -> fileName + "." + extension)
+            .orElse(fileName);
+    }
+
+    private OutputStream compress(OutputStream stream, Compression compression) {
+        switch (compression) {
+            case NONE:
+                return stream;
+            case GZIP:
+                return new ParallelGzipOutputStream(stream, threads);
+        }
+
+        throw new UnsupportedOperationException("Unknown compression " + compression);
+    }
+}
@@ -0,0 +1,147 @@
+package com.scottlogic.deg.output.compression;
+
+import com.scottlogic.deg.common.util.DaemonThreadFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses what is written to it as gzip, compressing blocks of it on several threads at once, in the manner of pigz.
+ *
+ * Each block is compressed into a gzip member of its own, and the members are written to the underlying stream in
+ * order, so the output is a standard multi-member gzip file that gunzip and GZIPInputStream read as one. Flushing
+ * writes the members that have already been compressed, without waiting for the rest; what has been written since the
+ * last full block stays in that block until it is full or the stream is closed. At most two blocks per thread are held
+ * at once, beyond which writing waits for the oldest to be compressed and written.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    private final OutputStream stream;
+    private final ExecutorService compressors;
+    private final int maxPendingBlocks;
+    private final int blockSize;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private byte[] block;
+    private int length;
+    private boolean anyBlockSubmitted;
+    private boolean closed;
+
+    public ParallelGzipOutputStream(OutputStream stream, int threads) {
+        this(stream, threads, BLOCK_SIZE);
+    }
+
+    ParallelGzipOutputStream(OutputStream stream, int threads, int blockSize) {
+        this.stream = stream;
+        this.compressors = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("output-compressor"));
+        this.maxPendingBlocks = threads * 2;
+        this.blockSize = blockSize;
+        this.block = new byte[blockSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        block[length++] = (byte) b;
+        if (length == blockSize) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int count) throws IOException {
+        while (count > 0) {
+            int copied = Math.min(count, blockSize - length);
+            System.arraycopy(bytes, offset, block, length, copied);
+            length += copied;
+            offset += copied;
+            count -= copied;
+
+            if (length == blockSize) {
+                submitBlock();
+            }
+        }
+    }
+
+    /**
+     * Write the blocks that have been compressed so far, but not cut the block being filled short, as every member
+     * adds a header and resets the compressor's dictionary, and not wait for the blocks still being compressed
+     */
+    @Override
+    public void flush() throws IOException {
+        writeCompressedBlocks();
+        stream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        try {
+            // with nothing written, an empty member still makes the output a valid, empty, gzip file
+            if (length > 0 || !anyBlockSubmitted) {
+                submitBlock();
+            }
+
+            while (!pendingBlocks.isEmpty()) {
+                writeOldestBlock();
+            }
+
+            stream.flush();
+        } finally {
+            compressors.shutdownNow();
+            stream.close();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        byte[] uncompressed = block;
+        int uncompressedLength = length;
+        pendingBlocks.add(compressors.submit(() -> compress(uncompressed, uncompressedLength)));
+        anyBlockSubmitted = true;
+        block = new byte[blockSize];
+        length = 0;
+
+        while (pendingBlocks.size() >= maxPendingBlocks) {
+            writeOldestBlock();
+        }
+        writeCompressedBlocks();
+    }
+
+    private void writeCompressedBlocks() throws IOException {
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) {
+            writeOldestBlock();
+        }
+    }
+
+    private void writeOldestBlock() throws IOException {
+        try {
+            stream.write(pendingBlocks.remove().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing output");
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to compress output", e.getCause());
+        }
+    }
+
+    private static byte[] compress(byte[] uncompressed, int length) throws IOException {
+        ByteArrayOutputStream member = new ByteArrayOutputStream(length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(member, 64 * 1024)) {
+            gzip.write(uncompressed, 0, length);
+        }
+
+        return member.toByteArray();
+    }
+}
@@ -0,0 +1,19 @@
+package com.scottlogic.deg.output.guice;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+
+public class FlushPolicyProvider implements Provider<FlushPolicy> {
+    private final OutputConfigSource configSource;
+
+    @Inject
+    public FlushPolicyProvider(OutputConfigSource configSource) {
+        this.configSource = configSource;
+    }
+
+    @Override
+    public FlushPolicy get() {
+        return new FlushPolicy(configSource.getOutputBufferSize(), configSource.getOutputFlushIntervalMillis());
+    }
+}
@@ -0,0 +1,24 @@
+package com.scottlogic.deg.output.guice;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.scottlogic.deg.output.outputtarget.JdbcOutputOptions;
+
+public class JdbcOutputOptionsProvider implements Provider<JdbcOutputOptions> {
+    private final OutputConfigSource configSource;
+
+    @Inject
+    public JdbcOutputOptionsProvider(OutputConfigSource configSource) {
+        this.configSource = configSource;
+    }
+
+    @Override
+    public JdbcOutputOptions get() {
+        return new JdbcOutputOptions(
+            configSource.getJdbcUrl(),
+            configSource.getSqlTableName(),
+            configSource.getJdbcBatchSize(),
+            configSource.getJdbcCommitInterval(),
+            configSource.getJdbcConnections());
+    }
+}
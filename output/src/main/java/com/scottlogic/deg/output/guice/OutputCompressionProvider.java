@@ -0,0 +1,19 @@
+package com.scottlogic.deg.output.guice;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.scottlogic.deg.output.compression.OutputCompression;
+
+public class OutputCompressionProvider implements Provider<OutputCompression> {
+    private final OutputConfigSource configSource;
+
+    @Inject
+    public OutputCompressionProvider(OutputConfigSource configSource) {
+        this.configSource = configSource;
+    }
+
+    @Override
+    public OutputCompression get() {
+        return new OutputCompression(configSource.getCompression(), configSource.getCompressionThreads());
+    }
+}
@@ -1,5 +1,7 @@
 package com.scottlogic.deg.output.guice;
 
+import com.scottlogic.deg.output.compression.Compression;
+
 import java.nio.file.Path;
 
 public interface OutputConfigSource {
@@ -7,4 +9,78 @@ public interface OutputConfigSource {
     Path getOutputPath();
     boolean overwriteOutputFiles();
     boolean useStdOut();
+
+    /**
+     * @return the number of characters to buffer before writing them to the output
+     */
+    int getOutputBufferSize();
+
+    /**
+     * @return the longest time, in milliseconds, to keep complete rows buffered before writing them to the output
+     */
+    long getOutputFlushIntervalMillis();
+
+    /**
+     * @return the number of threads to format rows on, alongside a thread that writes them, or 0 to format and write
+     * rows on the thread that generates them
+     */
+    int getFormattingThreads();
+
+    /**
+     * @return whether rows formatted on several threads may be written in a different order to the one they were
+     * generated in
+     */
+    boolean isOutputUnordered();
+
+    /**
+     * @return the compression to write every output with, or null to compress outputs whose file extension says so
+     */
+    Compression getCompression();
+
+    /**
+     * @return the number of threads to compress each output on
+     */
+    int getCompressionThreads();
+
+    /**
+     * @return the most rows to write to each file when splitting output across files, or 0 for no limit
+     */
+    long getMaxRowsPerFile();
+
+    /**
+     * @return the approximate most bytes to write to each file when splitting output across files, or 0 for no limit
+     */
+    long getMaxBytesPerFile();
+
+    /**
+     * @return the table that SQL output inserts or copies rows into, optionally qualified by its schema
+     */
+    String getSqlTableName();
+
+    /**
+     * @return the most rows to insert in each INSERT statement of SQL output
+     */
+    int getSqlInsertBatchSize();
+
+    /**
+     * @return the JDBC URL of a database to insert rows into instead of writing them to a file, or null to write them
+     * to a file
+     */
+    String getJdbcUrl();
+
+    /**
+     * @return the number of rows to send to the database in each batch of inserts
+     */
+    int getJdbcBatchSize();
+
+    /**
+     * @return the number of rows to insert over each connection before committing them, or 0 to commit them only once
+     * all rows have been inserted
+     */
+    long getJdbcCommitInterval();
+
+    /**
+     * @return the number of connections to insert rows over
+     */
+    int getJdbcConnections();
 }
@@ -2,5 +2,8 @@ package com.scottlogic.deg.output.guice;
 
 public enum OutputFormat {
     CSV,
-    JSON
+    JSON,
+    NDJSON,
+    SQL_INSERT,
+    POSTGRES_COPY
 }
@@ -5,9 +5,12 @@ import com.google.inject.name.Names;
 import com.scottlogic.deg.output.FileUtils;
 import com.scottlogic.deg.output.FileUtilsImpl;
 import com.scottlogic.deg.output.OutputPath;
+import com.scottlogic.deg.output.compression.OutputCompression;
 import com.scottlogic.deg.output.manifest.JsonManifestWriter;
 import com.scottlogic.deg.output.manifest.ManifestWriter;
+import com.scottlogic.deg.output.outputtarget.JdbcOutputOptions;
 import com.scottlogic.deg.output.outputtarget.SingleDatasetOutputTarget;
+import com.scottlogic.deg.output.writer.FlushPolicy;
 import com.scottlogic.deg.output.writer.OutputWriterFactory;
 
 import java.nio.file.Path;
@@ -24,6 +27,9 @@ public class OutputModule extends AbstractModule {
         bind(OutputConfigSource.class).toInstance(outputConfigSource);
 
         bind(OutputWriterFactory.class).toProvider(OutputWriterFactoryProvider.class);
+        bind(FlushPolicy.class).toProvider(FlushPolicyProvider.class);
+        bind(OutputCompression.class).toProvider(OutputCompressionProvider.class);
+        bind(JdbcOutputOptions.class).toProvider(JdbcOutputOptionsProvider.class);
         bind(SingleDatasetOutputTarget.class).toProvider(SingleDatasetOutputTargetProvider.class);
         bind(ManifestWriter.class).to(JsonManifestWriter.class);
         bind(FileUtils.class).to(FileUtilsImpl.class);
@@ -33,5 +39,21 @@ public class OutputModule extends AbstractModule {
         bind(boolean.class)
             .annotatedWith(Names.named("config:canOverwriteOutputFiles"))
             .toInstance(outputConfigSource.overwriteOutputFiles());
+
+        bind(long.class)
+            .annotatedWith(Names.named("config:maxRowsPerFile"))
+            .toInstance(outputConfigSource.getMaxRowsPerFile());
+
+        bind(long.class)
+            .annotatedWith(Names.named("config:maxBytesPerFile"))
+            .toInstance(outputConfigSource.getMaxBytesPerFile());
+
+        bind(String.class)
+            .annotatedWith(Names.named("config:sqlTableName"))
+            .toInstance(outputConfigSource.getSqlTableName());
+
+        bind(int.class)
+            .annotatedWith(Names.named("config:sqlInsertBatchSize"))
+            .toInstance(outputConfigSource.getSqlInsertBatchSize());
     }
 }
@@ -3,36 +3,67 @@ package com.scottlogic.deg.output.guice;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.scottlogic.deg.output.writer.OutputWriterFactory;
+import com.scottlogic.deg.output.writer.ParallelOutputWriterFactory;
 import com.scottlogic.deg.output.writer.csv.CsvOutputWriterFactory;
 import com.scottlogic.deg.output.writer.json.JsonOutputWriterFactory;
+import com.scottlogic.deg.output.writer.json.NdjsonOutputWriterFactory;
+import com.scottlogic.deg.output.writer.sql.PostgresCopyOutputWriterFactory;
+import com.scottlogic.deg.output.writer.sql.SqlInsertOutputWriterFactory;
 
 public class OutputWriterFactoryProvider implements Provider<OutputWriterFactory> {
     private final OutputConfigSource configSource;
     private final CsvOutputWriterFactory csvOutputWriterFactory;
     private final JsonOutputWriterFactory jsonOutputWriterFactory;
+    private final NdjsonOutputWriterFactory ndjsonOutputWriterFactory;
+    private final Provider<SqlInsertOutputWriterFactory> sqlInsertOutputWriterFactory;
+    private final Provider<PostgresCopyOutputWriterFactory> postgresCopyOutputWriterFactory;
 
     @Inject
     public OutputWriterFactoryProvider(
         OutputConfigSource configSource,
         CsvOutputWriterFactory csvOutputWriterFactory,
-        JsonOutputWriterFactory jsonOutputWriterFactory)
+        JsonOutputWriterFactory jsonOutputWriterFactory,
+        NdjsonOutputWriterFactory ndjsonOutputWriterFactory,
+        Provider<SqlInsertOutputWriterFactory> sqlInsertOutputWriterFactory,
+        Provider<PostgresCopyOutputWriterFactory> postgresCopyOutputWriterFactory)
     {
         this.configSource = configSource;
         this.csvOutputWriterFactory = csvOutputWriterFactory;
         this.jsonOutputWriterFactory = jsonOutputWriterFactory;
+        this.ndjsonOutputWriterFactory = ndjsonOutputWriterFactory;
+        this.sqlInsertOutputWriterFactory = sqlInsertOutputWriterFactory;
+        this.postgresCopyOutputWriterFactory = postgresCopyOutputWriterFactory;
     }
 
     @Override
     public OutputWriterFactory get() {
+        OutputWriterFactory formatFactory = getFormatFactory();
+        if (configSource.getFormattingThreads() <= 0) {
+            return formatFactory;
+        }
+
+        return new ParallelOutputWriterFactory(
+            formatFactory,
+            configSource.getFormattingThreads(),
+            !configSource.isOutputUnordered());
+    }
+
+    private OutputWriterFactory getFormatFactory() {
         switch (configSource.getOutputFormat()){
             case CSV:
                 return csvOutputWriterFactory;
             case JSON:
                 return jsonOutputWriterFactory;
+            case NDJSON:
+                return ndjsonOutputWriterFactory;
+            case SQL_INSERT:
+                return sqlInsertOutputWriterFactory.get();
+            case POSTGRES_COPY:
+                return postgresCopyOutputWriterFactory.get();
         }
 
         throw new RuntimeException(String.format(
-            "Unknown output format %s, options are CSV or JSON",
+            "Unknown output format %s, options are CSV, JSON, NDJSON, SQL_INSERT or POSTGRES_COPY",
             configSource.getOutputFormat()
         ));
     }
@@ -3,6 +3,8 @@ package com.scottlogic.deg.output.guice;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.scottlogic.deg.output.outputtarget.FileOutputTarget;
+import com.scottlogic.deg.output.outputtarget.JdbcOutputTarget;
+import com.scottlogic.deg.output.outputtarget.RollingFileOutputTarget;
 import com.scottlogic.deg.output.outputtarget.SingleDatasetOutputTarget;
 import com.scottlogic.deg.output.outputtarget.StdoutOutputTarget;
 
@@ -12,22 +14,34 @@ public class SingleDatasetOutputTargetProvider implements Provider<SingleDataset
     private final OutputConfigSource outputConfigSource;
     private final FileOutputTarget fileOutputTarget;
     private final StdoutOutputTarget stdoutOutputTarget;
+    private final Provider<RollingFileOutputTarget> rollingFileOutputTarget;
+    private final Provider<JdbcOutputTarget> jdbcOutputTarget;
 
     @Inject
     SingleDatasetOutputTargetProvider(
         OutputConfigSource outputConfigSource,
         FileOutputTarget fileOutputTarget,
-        StdoutOutputTarget stdoutOutputTarget){
+        StdoutOutputTarget stdoutOutputTarget,
+        Provider<RollingFileOutputTarget> rollingFileOutputTarget,
+        Provider<JdbcOutputTarget> jdbcOutputTarget){
         this.outputConfigSource = outputConfigSource;
         this.fileOutputTarget = fileOutputTarget;
         this.stdoutOutputTarget = stdoutOutputTarget;
+        this.rollingFileOutputTarget = rollingFileOutputTarget;
+        this.jdbcOutputTarget = jdbcOutputTarget;
     }
 
     @Override
     public SingleDatasetOutputTarget get() {
+        if (outputConfigSource.getJdbcUrl() != null){
+            return jdbcOutputTarget.get();
+        }
         if (outputConfigSource.useStdOut()){
             return stdoutOutputTarget;
         }
+        if (outputConfigSource.getMaxRowsPerFile() > 0 || outputConfigSource.getMaxBytesPerFile() > 0) {
+            return rollingFileOutputTarget.get();
+        }
         return fileOutputTarget;
     }
 }
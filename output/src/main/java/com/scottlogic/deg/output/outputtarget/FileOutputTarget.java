@@ -5,6 +5,7 @@ import com.google.inject.name.Named;
 import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.output.FileUtils;
 import com.scottlogic.deg.output.OutputPath;
+import com.scottlogic.deg.output.compression.OutputCompression;
 import com.scottlogic.deg.output.writer.DataSetWriter;
 import com.scottlogic.deg.output.writer.OutputWriterFactory;
 
@@ -13,29 +14,44 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.UnaryOperator;
 
 public class FileOutputTarget implements SingleDatasetOutputTarget {
     private final Path filePath;
     private final boolean canOverwriteExistingFiles;
     private final OutputWriterFactory outputWriterFactory;
     private final FileUtils fileUtils;
+    private final OutputCompression outputCompression;
 
     @Inject
     public FileOutputTarget(
         OutputPath outputPath,
         OutputWriterFactory outputWriterFactory,
-        @Named("config:canOverwriteOutputFiles") boolean canOverwriteOutputFiles, FileUtils fileUtils) {
+        @Named("config:canOverwriteOutputFiles") boolean canOverwriteOutputFiles, FileUtils fileUtils,
+        OutputCompression outputCompression) {
         this.canOverwriteExistingFiles = canOverwriteOutputFiles;
         this.outputWriterFactory = outputWriterFactory;
         this.fileUtils = fileUtils;
+        this.outputCompression = outputCompression;
         this.filePath = outputPath.getPath();
     }
 
     @Override
     public DataSetWriter openWriter(ProfileFields fields) throws IOException {
-        final OutputStream stream = new FileOutputStream(
-            this.filePath.toFile(),
-            false);
+        return openWriter(fields, UnaryOperator.identity());
+    }
+
+    /**
+     * Open a writer for the file, with the stream that writes to the file wrapped by wrapFileStream, underneath any
+     * compression
+     */
+    DataSetWriter openWriter(ProfileFields fields, UnaryOperator<OutputStream> wrapFileStream) throws IOException {
+        final OutputStream stream = outputCompression.compress(
+            wrapFileStream.apply(
+                new FileOutputStream(
+                    this.filePath.toFile(),
+                    false)),
+            filePath);
 
         try {
             return outputWriterFactory.createWriter(stream, fields);
@@ -0,0 +1,281 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.common.util.DaemonThreadFactory;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts rows into a table with a prepared INSERT statement, sending them to the database a batch at a time with
+ * addBatch and executeBatch.
+ *
+ * Rows are collected into batches on the generating thread and handed through a bounded queue to a thread for each
+ * connection, which takes the next batch whenever it is free, so the rows are split between the connections as fast
+ * as each can insert them. Each connection commits its rows every commit interval, and once the writer is finished.
+ * If the writer is closed without being finished, or inserting rows over any connection fails, each connection rolls
+ * back the rows it hasn't committed; rows already committed, every commit interval, stay committed.
+ */
+class JdbcDataSetWriter implements DataSetWriter {
+    private static final List<GeneratedObject> END_OF_ROWS = Collections.emptyList();
+    private static final long QUEUE_WAIT_MILLIS = 100;
+
+    private final Field[] fieldOrder;
+    private final int[] nullTypes;
+    private final int batchSize;
+    private final long commitInterval;
+    private final BlockingQueue<List<GeneratedObject>> batches;
+    private final ExecutorService inserters;
+    private final List<Future<?>> inserting = new ArrayList<>();
+    private List<GeneratedObject> batch;
+    private boolean finished;
+
+    private JdbcDataSetWriter(Field[] fieldOrder, int[] nullTypes, JdbcOutputOptions options) {
+        this.fieldOrder = fieldOrder;
+        this.nullTypes = nullTypes;
+        this.batchSize = options.getBatchSize();
+        this.commitInterval = options.getCommitInterval();
+        this.batches = new ArrayBlockingQueue<>(options.getConnections() * 2);
+        this.inserters = Executors.newFixedThreadPool(options.getConnections(), new DaemonThreadFactory("jdbc-inserter"));
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Open all of the connections, so that a database that can't be written to fails before any rows are generated
+     */
+    static DataSetWriter open(JdbcOutputOptions options, ProfileFields fields) throws IOException {
+        Field[] fieldOrder = fields.stream().toArray(Field[]::new);
+
+        List<Connection> connections = new ArrayList<>();
+        List<PreparedStatement> statements = new ArrayList<>();
+        int[] nullTypes;
+        try {
+            for (int i = 0; i < options.getConnections(); i++) {
+                connections.add(DriverManager.getConnection(options.getUrl()));
+            }
+
+            JdbcIdentifiers identifiers = JdbcIdentifiers.of(connections.get(0).getMetaData());
+            String insert = "INSERT INTO " + identifiers.tableName(options.getTableName()) + " "
+                + identifiers.columnList(fields) + " VALUES "
+                + fields.stream().map(field -> "?").collect(Collectors.joining(", ", "(", ")"));
+
+            for (Connection connection : connections) {
+                connection.setAutoCommit(false);
+                statements.add(connection.prepareStatement(insert));
+            }
+            nullTypes = getParameterTypes(statements.get(0), fieldOrder.length);
+        } catch (SQLException e) {
+            for (Connection connection : connections) {
+                closeQuietly(connection);
+            }
+            throw new IOException("Unable to prepare to insert rows into " + options.getTableName(), e);
+        }
+
+        JdbcDataSetWriter writer = new JdbcDataSetWriter(fieldOrder, nullTypes, options);
+        for (int i = 0; i < connections.size(); i++) {
+            writer.inserting.add(writer.inserters.submit(writer.new Inserter(connections.get(i), statements.get(i))));
+        }
+        writer.inserters.shutdown();
+
+        return writer;
+    }
+
+    /**
+     * Get the SQL type of each parameter, which some drivers need to be told when setting a parameter to null
+     * @return the type of each parameter, or VARCHAR where the driver can't say
+     */
+    private static int[] getParameterTypes(PreparedStatement statement, int parameterCount) {
+        int[] types = new int[parameterCount];
+        Arrays.fill(types, Types.VARCHAR);
+
+        try {
+            ParameterMetaData metaData = statement.getParameterMetaData();
+            for (int i = 0; i < parameterCount; i++) {
+                types[i] = metaData.getParameterType(i + 1);
+            }
+        } catch (SQLException e) {
+            // not every driver can describe the parameters of a statement; the types not yet found stay VARCHAR
+        }
+
+        return types;
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        batch.add(row);
+        if (batch.size() == batchSize) {
+            queue(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * Insert the rows still queued and commit them, then wait for every connection to be closed
+     */
+    @Override
+    public void finish() throws IOException {
+        if (!batch.isEmpty()) {
+            queue(batch);
+            batch = new ArrayList<>(0);
+        }
+        for (int i = 0; i < inserting.size(); i++) {
+            queue(END_OF_ROWS);
+        }
+
+        for (Future<?> inserter : inserting) {
+            waitFor(inserter);
+        }
+        finished = true;
+    }
+
+    /**
+     * Unless the writer has been finished, stop inserting rows and wait for each connection to roll back the rows it
+     * hasn't committed
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+
+        inserters.shutdownNow();
+        for (Future<?> inserter : inserting) {
+            try {
+                inserter.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rows to be rolled back");
+            } catch (ExecutionException e) {
+                // the inserter was stopped, or had already failed; either way its uncommitted rows are rolled back
+            }
+        }
+    }
+
+    private void queue(List<GeneratedObject> rows) throws IOException {
+        try {
+            while (!batches.offer(rows, QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // an inserter only stops before the end of the rows if it fails
+                for (Future<?> inserter : inserting) {
+                    if (inserter.isDone()) {
+                        waitFor(inserter);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to insert rows");
+        }
+    }
+
+    private static void waitFor(Future<?> inserter) throws IOException {
+        try {
+            inserter.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rows to be inserted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Unable to insert rows", e.getCause());
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // the connection is being abandoned because of an earlier exception, which is more useful to report
+        }
+    }
+
+    private class Inserter implements Callable<Void> {
+        private final Connection connection;
+        private final PreparedStatement statement;
+
+        Inserter(Connection connection, PreparedStatement statement) {
+            this.connection = connection;
+            this.statement = statement;
+        }
+
+        @Override
+        public Void call() throws SQLException, InterruptedException {
+            try {
+                insertRows();
+                connection.commit();
+            } catch (Exception e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            } finally {
+                statement.close();
+                connection.close();
+            }
+
+            return null;
+        }
+
+        private void insertRows() throws SQLException, InterruptedException {
+            long uncommittedRows = 0;
+            List<GeneratedObject> rows;
+            while ((rows = batches.take()) != END_OF_ROWS) {
+                for (GeneratedObject row : rows) {
+                    setParameters(row);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                uncommittedRows += rows.size();
+                if (commitInterval > 0 && uncommittedRows >= commitInterval) {
+                    connection.commit();
+                    uncommittedRows = 0;
+                }
+            }
+        }
+
+        private void setParameters(GeneratedObject row) throws SQLException {
+            for (int i = 0; i < fieldOrder.length; i++) {
+                int parameter = i + 1;
+                Object value = row.getFormattedValue(fieldOrder[i]);
+
+                if (value == null) {
+                    statement.setNull(parameter, nullTypes[i]);
+                } else if (value instanceof BigDecimal) {
+                    statement.setBigDecimal(parameter, (BigDecimal) value);
+                } else if (value instanceof String) {
+                    statement.setString(parameter, (String) value);
+                } else if (value instanceof Long || value instanceof Integer) {
+                    statement.setLong(parameter, ((Number) value).longValue());
+                } else {
+                    statement.setObject(parameter, value);
+                }
+            }
+        }
+    }
+}
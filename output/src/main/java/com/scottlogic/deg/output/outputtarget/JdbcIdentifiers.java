@@ -0,0 +1,90 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.sql.SqlIdentifiers;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Quotes table and column names the way the database being inserted into expects, so that each name refers to the
+ * table or column with exactly that name.
+ *
+ * A name is left unquoted when the database would store it unchanged: it is made of letters, digits and underscores,
+ * is already in the case the database folds unquoted names to (lower case for PostgreSQL, upper case for H2 and Oracle,
+ * any case for databases that compare names case-insensitively) and isn't a reserved word. Any other name is quoted
+ * with the database's quote string.
+ */
+class JdbcIdentifiers {
+    private static final Pattern regularIdentifier = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final String quote;
+    private final UnaryOperator<String> foldUnquoted;
+    private final Set<String> keywords;
+
+    private JdbcIdentifiers(String quote, UnaryOperator<String> foldUnquoted, Set<String> keywords) {
+        this.quote = quote;
+        this.foldUnquoted = foldUnquoted;
+        this.keywords = keywords;
+    }
+
+    static JdbcIdentifiers of(DatabaseMetaData metaData) throws SQLException {
+        String quote = metaData.getIdentifierQuoteString();
+
+        UnaryOperator<String> foldUnquoted;
+        if (metaData.storesUpperCaseIdentifiers()) {
+            foldUnquoted = name -> name.toUpperCase(Locale.ROOT);
+        } else if (metaData.storesLowerCaseIdentifiers()) {
+            foldUnquoted = name -> name.toLowerCase(Locale.ROOT);
+        } else {
+            foldUnquoted = UnaryOperator.identity();
+        }
+
+        Set<String> keywords = Arrays.stream(metaData.getSQLKeywords().split(","))
+            .map(keyword -> keyword.trim().toUpperCase(Locale.ROOT))
+            .collect(Collectors.toCollection(HashSet::new));
+
+        return new JdbcIdentifiers(quote == null ? " " : quote, foldUnquoted, keywords);
+    }
+
+    /**
+     * @return the table name with each of its dot-separated parts quoted if necessary, e.g. schema.table
+     */
+    String tableName(String name) {
+        return Pattern.compile("\\.").splitAsStream(name)
+            .map(this::identifier)
+            .collect(Collectors.joining("."));
+    }
+
+    /**
+     * @return a parenthesised list of the columns, in profile order
+     */
+    String columnList(ProfileFields fields) {
+        return fields.stream()
+            .map(field -> identifier(field.name))
+            .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    String identifier(String name) {
+        // a quote string of a space means the database doesn't support quoting names at all
+        if (quote.equals(" ") || isStoredUnchanged(name)) {
+            return name;
+        }
+
+        return quote + name.replace(quote, quote + quote) + quote;
+    }
+
+    private boolean isStoredUnchanged(String name) {
+        return regularIdentifier.matcher(name).matches()
+            && foldUnquoted.apply(name).equals(name)
+            && !SqlIdentifiers.isReservedWord(name)
+            && !keywords.contains(name.toUpperCase(Locale.ROOT));
+    }
+}
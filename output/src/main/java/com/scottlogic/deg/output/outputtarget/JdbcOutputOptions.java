@@ -0,0 +1,62 @@
+package com.scottlogic.deg.output.outputtarget;
+
+/**
+ * Where and how JdbcOutputTarget writes rows: the database and table to insert them into, how many rows to send to
+ * the database at a time and to commit in each transaction, and how many connections to insert them over.
+ */
+public class JdbcOutputOptions {
+    private final String url;
+    private final String tableName;
+    private final int batchSize;
+    private final long commitInterval;
+    private final int connections;
+
+    /**
+     * @param url the JDBC URL of the database, including any credentials it needs
+     * @param tableName the table to insert rows into, optionally qualified by its schema
+     * @param batchSize the number of rows to send to the database in each batch of inserts
+     * @param commitInterval the number of rows to insert over each connection before committing them, or 0 to commit
+     *                       them only once all rows have been inserted
+     * @param connections the number of connections to insert rows over, each on a thread of its own
+     */
+    public JdbcOutputOptions(String url, String tableName, int batchSize, long commitInterval, int connections) {
+        if (url == null || url.isEmpty()) {
+            throw new IllegalArgumentException("JDBC URL must be given");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("JDBC batch size must be positive, but was " + batchSize);
+        }
+        if (commitInterval < 0) {
+            throw new IllegalArgumentException("JDBC commit interval must not be negative, but was " + commitInterval);
+        }
+        if (connections <= 0) {
+            throw new IllegalArgumentException("Number of JDBC connections must be positive, but was " + connections);
+        }
+
+        this.url = url;
+        this.tableName = tableName;
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+        this.connections = connections;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getCommitInterval() {
+        return commitInterval;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+}
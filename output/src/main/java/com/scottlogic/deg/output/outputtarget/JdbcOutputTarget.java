@@ -0,0 +1,42 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.google.inject.Inject;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Inserts rows straight into a table of a database, over one or more JDBC connections, rather than writing them to a
+ * file to be loaded afterwards. The driver for the database must be on the classpath.
+ */
+public class JdbcOutputTarget implements SingleDatasetOutputTarget {
+    private final JdbcOutputOptions options;
+
+    @Inject
+    public JdbcOutputTarget(JdbcOutputOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public DataSetWriter openWriter(ProfileFields fields) throws IOException {
+        return JdbcDataSetWriter.open(options, fields);
+    }
+
+    @Override
+    public void validate() throws OutputTargetValidationException {
+        try (Connection connection = DriverManager.getConnection(options.getUrl())) {
+            if (!connection.isValid(0)) {
+                throw new OutputTargetValidationException(
+                    "the connection to the database was opened but is not usable; please check that the database is running");
+            }
+        } catch (SQLException e) {
+            throw new OutputTargetValidationException(
+                "unable to connect to the database; please check the JDBC URL and that its driver is on the classpath ("
+                    + e.getMessage() + ")");
+        }
+    }
+}
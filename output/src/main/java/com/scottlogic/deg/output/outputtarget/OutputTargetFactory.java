@@ -4,6 +4,7 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.scottlogic.deg.output.FileUtils;
 import com.scottlogic.deg.output.OutputPath;
+import com.scottlogic.deg.output.compression.OutputCompression;
 import com.scottlogic.deg.output.writer.OutputWriterFactory;
 
 import java.nio.file.Path;
@@ -14,29 +15,44 @@ public class OutputTargetFactory {
     private final boolean canOverwriteExistingFiles;
     private final OutputWriterFactory formatOfViolationDatasets;
     private final FileUtils fileUtils;
+    private final OutputCompression outputCompression;
 
     @Inject
     public OutputTargetFactory(
         OutputPath directoryPath,
         OutputWriterFactory formatOfViolationDatasets,
         @Named("config:canOverwriteOutputFiles") boolean canOverwriteExistingFiles,
-        FileUtils fileUtils) {
+        FileUtils fileUtils,
+        OutputCompression outputCompression) {
         this.directoryPath = directoryPath.getPath();
         this.canOverwriteExistingFiles = canOverwriteExistingFiles;
         this.formatOfViolationDatasets = formatOfViolationDatasets;
         this.fileUtils = fileUtils;
+        this.outputCompression = outputCompression;
     }
 
     public SingleDatasetOutputTarget create(String name) {
+        return createFile(name);
+    }
+
+    FileOutputTarget createFile(String name) {
+        return new FileOutputTarget(
+            new OutputPath(getFilePath(name)),
+            formatOfViolationDatasets,
+            canOverwriteExistingFiles,
+            fileUtils,
+            outputCompression);
+    }
+
+    /**
+     * @return the path of the file the target created with the given name writes to
+     */
+    public Path getFilePath(String name) {
         String filename =
             formatOfViolationDatasets.getFileExtensionWithoutDot()
                 .map(extension -> name + "." + extension)
                 .orElse(name);
 
-        return new FileOutputTarget(
-            new OutputPath(directoryPath.resolve(filename)),
-            formatOfViolationDatasets,
-            canOverwriteExistingFiles,
-            fileUtils);
+        return directoryPath.resolve(outputCompression.addFileExtension(filename));
     }
 }
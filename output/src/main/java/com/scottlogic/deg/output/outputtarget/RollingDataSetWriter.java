@@ -0,0 +1,197 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.common.util.DaemonThreadFactory;
+import com.scottlogic.deg.output.FileUtilsImpl;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes rows to numbered files, starting a new file once the current one has the most rows or bytes a file may have.
+ *
+ * Rows are handed in batches, through a bounded queue, to a single writing thread, which writes them to one file at a
+ * time and starts the next file itself. Generating rows overlaps with formatting and writing them, but the files are
+ * written one after another; formatting and compressing a file on several threads is left to --formatting-threads and
+ * --compression-threads.
+ *
+ * The bytes written to a file are counted as they reach it, after compression, and a file is finished after the row
+ * that takes it to the limit. What the file's writer still holds in its buffer is only counted once written, so a file
+ * split by bytes can grow past the limit by up to the size of that buffer.
+ *
+ * The number of files isn't known until the last has been written, so they are first named 1, 2, 3 and so on, and
+ * renamed once they are all written to have as many digits as the last, as violation data files do.
+ */
+class RollingDataSetWriter implements DataSetWriter {
+    private static final int BATCH_SIZE = 1000;
+    private static final int QUEUED_BATCHES = 4;
+    private static final List<GeneratedObject> END_OF_OUTPUT = Collections.emptyList();
+    private static final long QUEUE_WAIT_MILLIS = 100;
+
+    private final OutputTargetFactory targetFactory;
+    private final ProfileFields fields;
+    private final long maxRowsPerFile;
+    private final long maxBytesPerFile;
+    private final BlockingQueue<List<GeneratedObject>> batches = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+    private final ExecutorService fileWriter = Executors.newSingleThreadExecutor(new DaemonThreadFactory("rolling-file-writer"));
+    private final Future<Integer> writing;
+    private List<GeneratedObject> batch = new ArrayList<>(BATCH_SIZE);
+
+    RollingDataSetWriter(OutputTargetFactory targetFactory, ProfileFields fields, long maxRowsPerFile, long maxBytesPerFile) {
+        this.targetFactory = targetFactory;
+        this.fields = fields;
+        this.maxRowsPerFile = maxRowsPerFile;
+        this.maxBytesPerFile = maxBytesPerFile;
+        this.writing = fileWriter.submit(this::writeFiles);
+        fileWriter.shutdown();
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        batch.add(row);
+        if (batch.size() == BATCH_SIZE) {
+            queue(batch);
+            batch = new ArrayList<>(BATCH_SIZE);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        int fileCount;
+        try {
+            if (!batch.isEmpty()) {
+                queue(batch);
+            }
+            queue(END_OF_OUTPUT);
+
+            fileCount = waitForWriting();
+        } finally {
+            fileWriter.shutdownNow();
+        }
+
+        renameFiles(fileCount);
+    }
+
+    private void queue(List<GeneratedObject> rows) throws IOException {
+        try {
+            while (!batches.offer(rows, QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (writing.isDone()) {
+                    waitForWriting();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write output files");
+        }
+    }
+
+    /**
+     * Write every queued row, starting a new file whenever the current one is full
+     * @return the number of files written
+     */
+    private int writeFiles() throws IOException, InterruptedException {
+        int fileCount = 0;
+        DataSetWriter writer = null;
+        ByteCounter bytes = null;
+        long rows = 0;
+
+        try {
+            List<GeneratedObject> rowsToWrite;
+            while ((rowsToWrite = batches.take()) != END_OF_OUTPUT) {
+                for (GeneratedObject row : rowsToWrite) {
+                    if (writer == null) {
+                        ByteCounter fileBytes = new ByteCounter();
+                        writer = targetFactory.createFile(Integer.toString(++fileCount))
+                            .openWriter(fields, fileBytes::countBytesWrittenTo);
+                        bytes = fileBytes;
+                        rows = 0;
+                    }
+
+                    writer.writeRow(row);
+                    rows++;
+
+                    if (maxRowsPerFile > 0 && rows >= maxRowsPerFile
+                        || maxBytesPerFile > 0 && bytes.count >= maxBytesPerFile) {
+                        DataSetWriter fullWriter = writer;
+                        writer = null;
+                        fullWriter.close();
+                    }
+                }
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+        return fileCount;
+    }
+
+    private int waitForWriting() throws IOException {
+        try {
+            return writing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for output files to be written");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Unable to write output file", e.getCause());
+        }
+    }
+
+    private void renameFiles(int fileCount) throws IOException {
+        DecimalFormat intFormatter = FileUtilsImpl.getDecimalFormat(fileCount);
+        for (int fileNumber = 1; fileNumber <= fileCount; fileNumber++) {
+            String name = intFormatter.format(fileNumber);
+            if (!name.equals(Integer.toString(fileNumber))) {
+                Files.move(
+                    targetFactory.getFilePath(Integer.toString(fileNumber)),
+                    targetFactory.getFilePath(name),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written to a file. Only one thread writes to the file at once, but it may not be the writing
+     * thread, e.g. when rows are formatted on several threads, so the count is volatile.
+     */
+    private static class ByteCounter {
+        private volatile long count;
+
+        OutputStream countBytesWrittenTo(OutputStream stream) {
+            return new FilterOutputStream(stream) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    count++;
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                    count += length;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.FileUtils;
+import com.scottlogic.deg.output.OutputPath;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Splits one dataset across numbered files in a directory, named as the files of violation data are, starting a new
+ * file once the current one has the most rows or bytes a file may have. The files are written one after another, on a
+ * thread of their own.
+ */
+public class RollingFileOutputTarget implements SingleDatasetOutputTarget {
+    private final Path directoryPath;
+    private final OutputTargetFactory targetFactory;
+    private final boolean canOverwriteExistingFiles;
+    private final FileUtils fileUtils;
+    private final long maxRowsPerFile;
+    private final long maxBytesPerFile;
+
+    @Inject
+    public RollingFileOutputTarget(
+        OutputPath directoryPath,
+        OutputTargetFactory targetFactory,
+        @Named("config:canOverwriteOutputFiles") boolean canOverwriteExistingFiles,
+        FileUtils fileUtils,
+        @Named("config:maxRowsPerFile") long maxRowsPerFile,
+        @Named("config:maxBytesPerFile") long maxBytesPerFile) {
+        this.directoryPath = directoryPath.getPath();
+        this.targetFactory = targetFactory;
+        this.canOverwriteExistingFiles = canOverwriteExistingFiles;
+        this.fileUtils = fileUtils;
+        this.maxRowsPerFile = maxRowsPerFile;
+        this.maxBytesPerFile = maxBytesPerFile;
+    }
+
+    @Override
+    public DataSetWriter openWriter(ProfileFields fields) {
+        return new RollingDataSetWriter(targetFactory, fields, maxRowsPerFile, maxBytesPerFile);
+    }
+
+    @Override
+    public void validate() throws OutputTargetValidationException, IOException {
+        if (!fileUtils.exists(directoryPath)) {
+            if (!fileUtils.createDirectories(directoryPath)) {
+                throw new OutputTargetValidationException(
+                    "parent directory of output directory already exists but is not a directory; please use a different output directory"
+                );
+            }
+        }
+        else if (!fileUtils.isDirectory(directoryPath)) {
+            throw new OutputTargetValidationException(
+                "target is not a directory; please use a directory when splitting output across files"
+            );
+        }
+        else if (!canOverwriteExistingFiles && containsNumberedFiles()) {
+            throw new OutputTargetValidationException(
+                "directory already contains numbered files; please use a different output directory or use the --replace option"
+            );
+        }
+    }
+
+    private boolean containsNumberedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.anyMatch(file -> file.getFileName().toString().matches("[0-9]+(\\..*)?"));
+        }
+    }
+}
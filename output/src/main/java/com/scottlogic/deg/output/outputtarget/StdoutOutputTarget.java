@@ -2,6 +2,7 @@ package com.scottlogic.deg.output.outputtarget;
 
 import com.google.inject.Inject;
 import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.compression.OutputCompression;
 import com.scottlogic.deg.output.writer.DataSetWriter;
 import com.scottlogic.deg.output.writer.OutputWriterFactory;
 
@@ -9,14 +10,16 @@ import java.io.IOException;
 
 public class StdoutOutputTarget implements SingleDatasetOutputTarget{
     private final OutputWriterFactory formattingWriterFactory;
+    private final OutputCompression outputCompression;
 
     @Inject
-    public StdoutOutputTarget(OutputWriterFactory formattingWriterFactory) {
+    public StdoutOutputTarget(OutputWriterFactory formattingWriterFactory, OutputCompression outputCompression) {
         this.formattingWriterFactory = formattingWriterFactory;
+        this.outputCompression = outputCompression;
     }
 
     @Override
     public DataSetWriter openWriter(ProfileFields fields) throws IOException {
-        return formattingWriterFactory.createWriter(System.out, fields);
+        return formattingWriterFactory.createWriter(outputCompression.compress(System.out), fields);
     }
 }
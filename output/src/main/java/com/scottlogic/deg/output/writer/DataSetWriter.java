@@ -12,4 +12,12 @@ import java.io.IOException;
  **/
 public interface DataSetWriter extends Closeable {
     void writeRow(GeneratedObject row) throws IOException;
+
+    /**
+     * Mark the end of the rows, once every row has been written. A writer that can take back rows written, such as one
+     * inserting them into a database, keeps them only once it has been finished, and takes back those it can if it is
+     * closed without being finished, e.g. because generating the rows failed.
+     */
+    default void finish() throws IOException {
+    }
 }
@@ -0,0 +1,50 @@
+package com.scottlogic.deg.output.writer;
+
+/**
+ * When text buffered by a DataSetWriter is written to its destination: once the buffer is full, once the flush
+ * interval has passed since it was last written at the end of a row, and when the writer is closed.
+ */
+public class FlushPolicy {
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+
+    private final int bufferSize;
+    private final long flushIntervalMillis;
+
+    /**
+     * @param bufferSize the number of characters to buffer before writing them
+     * @param flushIntervalMillis the longest time to keep complete rows buffered, or 0 to write every row as soon as
+     *                            it is complete
+     */
+    public FlushPolicy(int bufferSize, long flushIntervalMillis) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Output buffer size must be positive, but was " + bufferSize);
+        }
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Output flush interval must not be negative, but was " + flushIntervalMillis);
+        }
+
+        this.bufferSize = bufferSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public static FlushPolicy defaultPolicy() {
+        return new FlushPolicy(DEFAULT_BUFFER_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * A policy that only writes text once the buffer is full, or when the writer is closed, for writers whose
+     * destination is in memory
+     */
+    public static FlushPolicy whenFull(int bufferSize) {
+        return new FlushPolicy(bufferSize, Long.MAX_VALUE / 1_000_000);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+}
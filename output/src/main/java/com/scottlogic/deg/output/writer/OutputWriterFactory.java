@@ -14,4 +14,19 @@ public interface OutputWriterFactory {
         ProfileFields profileFields) throws IOException;
 
     Optional<String> getFileExtensionWithoutDot();
+
+    /**
+     * @return whether the format is made of the output a writer from createWriter writes when opened, followed by runs
+     * of rows that createRowWriter can write separately and that can be joined in order, followed by the output the
+     * writer writes when closed
+     */
+    boolean canWriteRowsSeparately();
+
+    /**
+     * Create a writer for a run of rows, which writes nothing before the first row or after the last. Only called if
+     * canWriteRowsSeparately.
+     */
+    DataSetWriter createRowWriter(
+        OutputStream stream,
+        ProfileFields profileFields) throws IOException;
 }
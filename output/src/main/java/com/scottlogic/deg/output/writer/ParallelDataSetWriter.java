@@ -0,0 +1,175 @@
+package com.scottlogic.deg.output.writer;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.common.util.DaemonThreadFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats rows on several threads and writes them to a stream on one more, so that generating, formatting and writing
+ * rows overlap.
+ *
+ * Rows are collected into batches on the generating thread. Each batch is formatted into a byte array by a row writer
+ * of its own, on one of the formatting threads, and the arrays are written to the stream by a single writing thread.
+ * When ordered, batches are written in the order their rows were generated; otherwise each is written as soon as it
+ * has been formatted. At most a few batches per formatting thread are waiting to be formatted or written at any one
+ * time, beyond which writeRow blocks. Once every batch has been written, the footer, e.g. the end of COPY data, is written after them.
+ */
+class ParallelDataSetWriter implements DataSetWriter {
+    private static final Future<byte[]> END_OF_OUTPUT = CompletableFuture.completedFuture(null);
+    private static final long PERMIT_WAIT_MILLIS = 100;
+
+    private final OutputStream stream;
+    private final ProfileFields fields;
+    private final OutputWriterFactory rowWriterFactory;
+    private final int batchSize;
+    private final boolean ordered;
+    private final byte[] footer;
+    private final ExecutorService formatters;
+    private final ExecutorService writer;
+    private final CompletionService<byte[]> completionService;
+    private final BlockingQueue<Future<byte[]>> formattedBatches = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private final Future<?> writing;
+    private List<GeneratedObject> batch;
+    private long submittedBatches;
+
+    ParallelDataSetWriter(
+        OutputStream stream,
+        ProfileFields fields,
+        OutputWriterFactory rowWriterFactory,
+        int formattingThreads,
+        int batchSize,
+        boolean ordered,
+        byte[] footer) {
+        this.stream = stream;
+        this.fields = fields;
+        this.rowWriterFactory = rowWriterFactory;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+        this.footer = footer;
+        this.permits = new Semaphore(formattingThreads * 2);
+        this.formatters = Executors.newFixedThreadPool(formattingThreads, new DaemonThreadFactory("output-formatter"));
+        this.writer = Executors.newSingleThreadExecutor(new DaemonThreadFactory("output-writer"));
+        this.completionService = new ExecutorCompletionService<>(formatters, formattedBatches);
+        this.batch = new ArrayList<>(batchSize);
+        this.writing = writer.submit(this::writeBatches);
+        writer.shutdown();
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        batch.add(row);
+        if (batch.size() == batchSize) {
+            submitBatch();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!batch.isEmpty()) {
+                submitBatch();
+            }
+
+            formattedBatches.add(END_OF_OUTPUT);
+            waitForWriting();
+            stream.write(footer);
+        } finally {
+            formatters.shutdownNow();
+            writer.shutdownNow();
+            stream.close();
+        }
+    }
+
+    private void submitBatch() throws IOException {
+        List<GeneratedObject> rows = batch;
+        batch = new ArrayList<>(batchSize);
+
+        submit(() -> format(rows));
+    }
+
+    private void submit(Callable<byte[]> formatting) throws IOException {
+        try {
+            while (!permits.tryAcquire(PERMIT_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (writing.isDone()) {
+                    waitForWriting();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to output rows");
+        }
+
+        // when unordered, the completion service queues each batch once it has been formatted
+        if (ordered) {
+            formattedBatches.add(formatters.submit(formatting));
+        } else {
+            completionService.submit(formatting);
+        }
+        submittedBatches++;
+    }
+
+    private byte[] format(List<GeneratedObject> rows) throws IOException {
+        ByteArrayOutputStream formatted = new ByteArrayOutputStream();
+        try (DataSetWriter rowWriter = rowWriterFactory.createRowWriter(formatted, fields)) {
+            for (GeneratedObject row : rows) {
+                rowWriter.writeRow(row);
+            }
+        }
+
+        return formatted.toByteArray();
+    }
+
+    private Void writeBatches() throws IOException, InterruptedException, ExecutionException {
+        // when unordered, the end of the output can overtake batches that are still being formatted
+        boolean ended = false;
+        long writtenBatches = 0;
+        while (!ended || writtenBatches < submittedBatches) {
+            Future<byte[]> formatted = formattedBatches.take();
+            if (formatted == END_OF_OUTPUT) {
+                ended = true;
+                continue;
+            }
+
+            stream.write(formatted.get());
+            writtenBatches++;
+            permits.release();
+        }
+
+        return null;
+    }
+
+    private void waitForWriting() throws IOException {
+        try {
+            writing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rows to be output");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Unable to output rows", cause);
+        }
+    }
+}
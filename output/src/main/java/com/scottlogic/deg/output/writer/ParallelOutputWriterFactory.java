@@ -0,0 +1,69 @@
+package com.scottlogic.deg.output.writer;
+
+import com.scottlogic.deg.common.profile.ProfileFields;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Creates writers that format rows on several threads, for formats whose rows can be written separately; rows of
+ * other formats are formatted by the writers of the underlying factory, on the generating thread.
+ */
+public class ParallelOutputWriterFactory implements OutputWriterFactory {
+    private static final int BATCH_SIZE = 1000;
+
+    private final OutputWriterFactory underlyingFactory;
+    private final int formattingThreads;
+    private final boolean ordered;
+
+    public ParallelOutputWriterFactory(OutputWriterFactory underlyingFactory, int formattingThreads, boolean ordered) {
+        this.underlyingFactory = underlyingFactory;
+        this.formattingThreads = formattingThreads;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public DataSetWriter createWriter(OutputStream stream, ProfileFields profileFields) throws IOException {
+        if (!underlyingFactory.canWriteRowsSeparately()) {
+            return underlyingFactory.createWriter(stream, profileFields);
+        }
+
+        // what a writer given no rows writes when opened, e.g. a CSV header, comes before every row, and what it writes
+        // when closed, e.g. the end of COPY data, after every row
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        DataSetWriter frameWriter = underlyingFactory.createWriter(frame, profileFields);
+        byte[] header = frame.toByteArray();
+        frameWriter.close();
+        byte[] footer = Arrays.copyOfRange(frame.toByteArray(), header.length, frame.size());
+
+        stream.write(header);
+        stream.flush();
+
+        return new ParallelDataSetWriter(
+            stream,
+            profileFields,
+            underlyingFactory,
+            formattingThreads,
+            BATCH_SIZE,
+            ordered,
+            footer);
+    }
+
+    @Override
+    public Optional<String> getFileExtensionWithoutDot() {
+        return underlyingFactory.getFileExtensionWithoutDot();
+    }
+
+    @Override
+    public boolean canWriteRowsSeparately() {
+        return underlyingFactory.canWriteRowsSeparately();
+    }
+
+    @Override
+    public DataSetWriter createRowWriter(OutputStream stream, ProfileFields profileFields) throws IOException {
+        return underlyingFactory.createRowWriter(stream, profileFields);
+    }
+}
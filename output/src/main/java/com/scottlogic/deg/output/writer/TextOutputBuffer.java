@@ -0,0 +1,162 @@
+package com.scottlogic.deg.output.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Collects text in one large character buffer, and writes it to a stream as UTF-8 in a single write when the
+ * FlushPolicy says so, so that writing many small rows doesn't make a system call for each of them.
+ *
+ * Not thread safe; takes ownership of the stream, which is closed with the buffer.
+ */
+public class TextOutputBuffer implements Closeable {
+    private static final int MAX_LONG_CHARS = 20;
+
+    private final OutputStream stream;
+    private final long flushIntervalNanos;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final char[] chars;
+    private final ByteBuffer bytes;
+    private int length;
+    private long lastFlushNanos;
+
+    public TextOutputBuffer(OutputStream stream, FlushPolicy flushPolicy) {
+        this.stream = stream;
+        this.flushIntervalNanos = flushPolicy.getFlushIntervalMillis() * 1_000_000;
+        this.chars = new char[flushPolicy.getBufferSize()];
+        this.bytes = ByteBuffer.allocate(Math.max(1024, chars.length));
+        this.lastFlushNanos = System.nanoTime();
+    }
+
+    public TextOutputBuffer append(char c) throws IOException {
+        if (length == chars.length) {
+            drain(false);
+        }
+
+        chars[length++] = c;
+        return this;
+    }
+
+    public TextOutputBuffer append(String text) throws IOException {
+        int offset = 0;
+        while (offset < text.length()) {
+            if (length == chars.length) {
+                drain(false);
+            }
+
+            int count = Math.min(text.length() - offset, chars.length - length);
+            text.getChars(offset, offset + count, chars, length);
+            length += count;
+            offset += count;
+        }
+
+        return this;
+    }
+
+    /**
+     * Append the decimal digits of the value, without creating a String for them, as POSTGRES_COPY output does for
+     * integer values
+     */
+    public TextOutputBuffer append(long value) throws IOException {
+        if (value == Long.MIN_VALUE || chars.length <= MAX_LONG_CHARS) {
+            return append(Long.toString(value));
+        }
+
+        if (chars.length - length < MAX_LONG_CHARS) {
+            drain(false);
+        }
+
+        if (value < 0) {
+            chars[length++] = '-';
+            value = -value;
+        }
+
+        int end = length + digitCount(value);
+        for (int i = end - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        length = end;
+
+        return this;
+    }
+
+    /**
+     * Mark the end of a row, writing the buffered text if the flush interval has passed since it was last written
+     */
+    public void endRow() throws IOException {
+        if (System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+            flush();
+        }
+    }
+
+    public void flush() throws IOException {
+        drain(false);
+        stream.flush();
+        lastFlushNanos = System.nanoTime();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain(true);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Encode and write the buffered characters, keeping back the first half of a surrogate pair whose second half
+     * hasn't been appended yet, unless this is the end of the text
+     */
+    private void drain(boolean endOfInput) throws IOException {
+        CharBuffer input = CharBuffer.wrap(chars, 0, length);
+        while (true) {
+            CoderResult result = encoder.encode(input, bytes, endOfInput);
+            if (result.isOverflow()) {
+                writeBytes();
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+
+        if (endOfInput) {
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            encoder.reset();
+        }
+
+        writeBytes();
+
+        length = input.remaining();
+        input.get(chars, 0, length);
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void writeBytes() throws IOException {
+        if (bytes.position() > 0) {
+            stream.write(bytes.array(), 0, bytes.position());
+            bytes.clear();
+        }
+    }
+}
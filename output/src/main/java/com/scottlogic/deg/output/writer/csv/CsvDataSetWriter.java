@@ -1,82 +1,128 @@
 package com.scottlogic.deg.output.writer.csv;
 
+import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.common.output.GeneratedObject;
 import com.scottlogic.deg.output.writer.DataSetWriter;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
-import org.apache.commons.csv.QuoteMode;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.TextOutputBuffer;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.stream.Collectors;
 
+/**
+ * Writes rows as RFC 4180 CSV, escaping values straight into a TextOutputBuffer. Strings are always quoted, so that
+ * they can be told apart from numbers; other values never need to be.
+ */
 class CsvDataSetWriter implements DataSetWriter {
     private static final DateTimeFormatter standardDateFormat = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-    private static final CSVFormat writerFormat = CSVFormat.RFC4180;
-    private static final CSVFormat csvStringFormatter = writerFormat.withQuoteMode(QuoteMode.ALL);
+    private static final char delimiter = ',';
+    private static final char quote = '"';
+    private static final String recordSeparator = "\r\n";
 
     @NotNull
-    private final CSVPrinter csvPrinter;
-    private final ProfileFields fieldOrder;
+    private final TextOutputBuffer output;
+    private final Field[] fieldOrder;
 
-    private CsvDataSetWriter(@NotNull CSVPrinter csvPrinter, ProfileFields fieldOrder) {
-        this.csvPrinter = csvPrinter;
+    private CsvDataSetWriter(@NotNull TextOutputBuffer output, Field[] fieldOrder) {
+        this.output = output;
         this.fieldOrder = fieldOrder;
     }
 
-    static DataSetWriter open(OutputStream stream, ProfileFields fields) throws IOException {
-        final Appendable outputStreamAsAppendable = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+    static DataSetWriter open(OutputStream stream, ProfileFields fields, FlushPolicy flushPolicy) throws IOException {
+        CsvDataSetWriter writer = openRows(stream, fields, flushPolicy);
+        writer.writeHeader();
+        writer.output.flush();
 
-        CSVPrinter csvPrinter = writerFormat
-            .withEscape('\0') //Dont escape any character, we're formatting strings ourselves
-            .withQuoteMode(QuoteMode.NONE)
-            .withHeader(fields.stream()
-                .map(f -> f.name)
-                .toArray(String[]::new))
-            .print(outputStreamAsAppendable);
+        return writer;
+    }
 
-        return new CsvDataSetWriter(csvPrinter, fields);
+    /**
+     * Open a writer that writes rows without the header
+     */
+    static CsvDataSetWriter openRows(OutputStream stream, ProfileFields fields, FlushPolicy flushPolicy) {
+        return new CsvDataSetWriter(
+            new TextOutputBuffer(stream, flushPolicy),
+            fields.stream().toArray(Field[]::new));
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < fieldOrder.length; i++) {
+            if (i > 0) {
+                output.append(delimiter);
+            }
+
+            String name = fieldOrder[i].name;
+            if (needsQuotes(name)) {
+                appendQuoted(output, name);
+            } else {
+                output.append(name);
+            }
+        }
+        output.append(recordSeparator);
     }
 
     @Override
     public void writeRow(GeneratedObject row) throws IOException {
-        csvPrinter.printRecord(fieldOrder.stream()
-                .map(row::getFormattedValue)
-                .map(CsvDataSetWriter::wrapInQuotesIfString)
-                .collect(Collectors.toList()));
+        for (int i = 0; i < fieldOrder.length; i++) {
+            if (i > 0) {
+                output.append(delimiter);
+            }
 
-        csvPrinter.flush();
+            appendValue(row.getFormattedValue(fieldOrder[i]));
+        }
+        output.append(recordSeparator);
+
+        output.endRow();
     }
 
     @Override
     public void close() throws IOException {
-        csvPrinter.close();
+        output.close();
     }
 
-    private static Object wrapInQuotesIfString(Object value){
-        if (value == null){
-            return null;
+    private void appendValue(Object value) throws IOException {
+        if (value == null) {
+            return;
         }
 
         if (value instanceof BigDecimal) {
-            return ((BigDecimal) value).toPlainString();
+            output.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof OffsetDateTime) {
+            output.append(standardDateFormat.format((OffsetDateTime) value));
+        } else if (value instanceof String) {
+            appendQuoted(output, (String) value);
+        } else {
+            output.append(value.toString());
         }
+    }
 
-        if (value instanceof OffsetDateTime){
-            return standardDateFormat.format((OffsetDateTime) value);
+    private static void appendQuoted(TextOutputBuffer output, String value) throws IOException {
+        output.append(quote);
+
+        if (value.indexOf(quote) < 0) {
+            output.append(value);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == quote) {
+                    output.append(quote);
+                }
+                output.append(c);
+            }
         }
 
-        if (value instanceof String){
-            return csvStringFormatter.format(value);
-        }
+        output.append(quote);
+    }
 
-        return value;
+    private static boolean needsQuotes(String name) {
+        return name.indexOf(delimiter) >= 0
+            || name.indexOf(quote) >= 0
+            || name.indexOf('\r') >= 0
+            || name.indexOf('\n') >= 0;
     }
 }
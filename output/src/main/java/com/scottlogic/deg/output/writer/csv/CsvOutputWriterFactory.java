@@ -1,7 +1,9 @@
 package com.scottlogic.deg.output.writer.csv;
 
+import com.google.inject.Inject;
 import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
 import com.scottlogic.deg.output.writer.OutputWriterFactory;
 
 import java.io.IOException;
@@ -9,13 +11,36 @@ import java.io.IOException;
     import java.util.Optional;
 
 public class CsvOutputWriterFactory implements OutputWriterFactory {
+    private static final int ROW_WRITER_BUFFER_SIZE = 8192;
+
+    private final FlushPolicy flushPolicy;
+
+    public CsvOutputWriterFactory() {
+        this(FlushPolicy.defaultPolicy());
+    }
+
+    @Inject
+    public CsvOutputWriterFactory(FlushPolicy flushPolicy) {
+        this.flushPolicy = flushPolicy;
+    }
+
     @Override
     public DataSetWriter createWriter(OutputStream stream, ProfileFields profileFields) throws IOException {
-        return CsvDataSetWriter.open(stream, profileFields);
+        return CsvDataSetWriter.open(stream, profileFields, flushPolicy);
     }
 
     @Override
     public Optional<String> getFileExtensionWithoutDot() {
         return Optional.of("csv");
     }
+
+    @Override
+    public boolean canWriteRowsSeparately() {
+        return true;
+    }
+
+    @Override
+    public DataSetWriter createRowWriter(OutputStream stream, ProfileFields profileFields) {
+        return CsvDataSetWriter.openRows(stream, profileFields, FlushPolicy.whenFull(ROW_WRITER_BUFFER_SIZE));
+    }
 }
@@ -18,4 +18,18 @@ public class JsonOutputWriterFactory implements OutputWriterFactory {
     public Optional<String> getFileExtensionWithoutDot() {
         return Optional.of("json");
     }
+
+    /**
+     * Rows are elements of one array, indented by their depth in it, so a run of rows written on its own would be
+     * formatted differently, and runs would need separating
+     */
+    @Override
+    public boolean canWriteRowsSeparately() {
+        return false;
+    }
+
+    @Override
+    public DataSetWriter createRowWriter(OutputStream stream, ProfileFields profileFields) {
+        throw new UnsupportedOperationException("Rows of a JSON array can't be written separately");
+    }
 }
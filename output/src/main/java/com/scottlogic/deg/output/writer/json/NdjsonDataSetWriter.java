@@ -0,0 +1,94 @@
+package com.scottlogic.deg.output.writer.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes each row as a compact JSON object on a line of its own, with the fields in profile order.
+ *
+ * Field names are escaped once, when the writer is opened, and values are streamed straight to a JsonGenerator, so
+ * nothing but the values themselves is created for each row. Values are converted as JsonDataSetWriter converts them.
+ */
+class NdjsonDataSetWriter implements DataSetWriter {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final DateTimeFormatter standardDateFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm:ss");
+
+    private final JsonGenerator generator;
+    private final Field[] fields;
+    private final SerializedString[] fieldNames;
+    private final long flushIntervalNanos;
+    private long lastFlushNanos;
+
+    private NdjsonDataSetWriter(JsonGenerator generator, Field[] fields, long flushIntervalNanos) {
+        this.generator = generator;
+        this.fields = fields;
+        this.flushIntervalNanos = flushIntervalNanos;
+        this.lastFlushNanos = System.nanoTime();
+
+        fieldNames = new SerializedString[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            fieldNames[i] = new SerializedString(fields[i].name);
+        }
+    }
+
+    static DataSetWriter open(OutputStream stream, ProfileFields fields, FlushPolicy flushPolicy) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(
+            new BufferedOutputStream(stream, flushPolicy.getBufferSize()),
+            JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+
+        return new NdjsonDataSetWriter(
+            generator,
+            fields.stream().toArray(Field[]::new),
+            flushPolicy.getFlushIntervalMillis() * 1_000_000);
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < fields.length; i++) {
+            generator.writeFieldName(fieldNames[i]);
+            writeValue(row.getFormattedValue(fields[i]));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+
+        if (System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+            generator.flush();
+            lastFlushNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof OffsetDateTime) {
+            generator.writeString(standardDateFormat.format((OffsetDateTime) value));
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+}
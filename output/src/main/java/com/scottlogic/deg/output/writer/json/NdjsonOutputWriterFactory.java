@@ -0,0 +1,46 @@
+package com.scottlogic.deg.output.writer.json;
+
+import com.google.inject.Inject;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.OutputWriterFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+public class NdjsonOutputWriterFactory implements OutputWriterFactory {
+    private static final int ROW_WRITER_BUFFER_SIZE = 8192;
+
+    private final FlushPolicy flushPolicy;
+
+    public NdjsonOutputWriterFactory() {
+        this(FlushPolicy.defaultPolicy());
+    }
+
+    @Inject
+    public NdjsonOutputWriterFactory(FlushPolicy flushPolicy) {
+        this.flushPolicy = flushPolicy;
+    }
+
+    @Override
+    public DataSetWriter createWriter(OutputStream stream, ProfileFields profileFields) throws IOException {
+        return NdjsonDataSetWriter.open(stream, profileFields, flushPolicy);
+    }
+
+    @Override
+    public Optional<String> getFileExtensionWithoutDot() {
+        return Optional.of("ndjson");
+    }
+
+    @Override
+    public boolean canWriteRowsSeparately() {
+        return true;
+    }
+
+    @Override
+    public DataSetWriter createRowWriter(OutputStream stream, ProfileFields profileFields) throws IOException {
+        return NdjsonDataSetWriter.open(stream, profileFields, FlushPolicy.whenFull(ROW_WRITER_BUFFER_SIZE));
+    }
+}
@@ -0,0 +1,127 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.TextOutputBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes rows as a COPY ... FROM STDIN command followed by its data in PostgreSQL's text format, which psql can run
+ * to load all of the rows in one command.
+ *
+ * Values are separated by tabs, nulls are written as \N, and backslashes, tabs and line breaks in strings are escaped
+ * with backslashes. The data is ended with a line of \. when the writer is closed.
+ */
+class PostgresCopyDataSetWriter implements DataSetWriter {
+    private static final DateTimeFormatter standardDateFormat = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final char delimiter = '\t';
+    private static final String nullValue = "\\N";
+    private static final String endOfData = "\\.\n";
+
+    private final TextOutputBuffer output;
+    private final Field[] fieldOrder;
+    private final String endOfOutput;
+
+    private PostgresCopyDataSetWriter(TextOutputBuffer output, Field[] fieldOrder, String endOfOutput) {
+        this.output = output;
+        this.fieldOrder = fieldOrder;
+        this.endOfOutput = endOfOutput;
+    }
+
+    static DataSetWriter open(OutputStream stream, ProfileFields fields, FlushPolicy flushPolicy, String tableName)
+        throws IOException {
+        PostgresCopyDataSetWriter writer = new PostgresCopyDataSetWriter(
+            new TextOutputBuffer(stream, flushPolicy),
+            SqlIdentifiers.fieldOrder(fields),
+            endOfData);
+
+        writer.output
+            .append("COPY ")
+            .append(SqlIdentifiers.tableName(tableName))
+            .append(' ')
+            .append(SqlIdentifiers.columnList(fields))
+            .append(" FROM STDIN;\n");
+        writer.output.flush();
+
+        return writer;
+    }
+
+    /**
+     * Open a writer that writes rows of data without the COPY command before them or the end of the data after them
+     */
+    static DataSetWriter openRows(OutputStream stream, ProfileFields fields, FlushPolicy flushPolicy) {
+        return new PostgresCopyDataSetWriter(
+            new TextOutputBuffer(stream, flushPolicy),
+            SqlIdentifiers.fieldOrder(fields),
+            "");
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        for (int i = 0; i < fieldOrder.length; i++) {
+            if (i > 0) {
+                output.append(delimiter);
+            }
+
+            appendValue(row.getFormattedValue(fieldOrder[i]));
+        }
+        output.append('\n');
+
+        output.endRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            output.append(endOfOutput);
+        } finally {
+            output.close();
+        }
+    }
+
+    private void appendValue(Object value) throws IOException {
+        if (value == null) {
+            output.append(nullValue);
+        } else if (value instanceof BigDecimal) {
+            output.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            output.append(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            output.append((Boolean) value ? 't' : 'f');
+        } else if (value instanceof OffsetDateTime) {
+            output.append(standardDateFormat.format((OffsetDateTime) value));
+        } else {
+            appendEscaped(value.toString());
+        }
+    }
+
+    private void appendEscaped(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    output.append("\\\\");
+                    break;
+                case '\t':
+                    output.append("\\t");
+                    break;
+                case '\n':
+                    output.append("\\n");
+                    break;
+                case '\r':
+                    output.append("\\r");
+                    break;
+                default:
+                    output.append(c);
+            }
+        }
+    }
+}
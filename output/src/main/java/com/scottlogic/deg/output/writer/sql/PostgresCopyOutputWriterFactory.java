@@ -0,0 +1,48 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.OutputWriterFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+public class PostgresCopyOutputWriterFactory implements OutputWriterFactory {
+    private static final int ROW_WRITER_BUFFER_SIZE = 8192;
+
+    private final FlushPolicy flushPolicy;
+    private final String tableName;
+
+    @Inject
+    public PostgresCopyOutputWriterFactory(FlushPolicy flushPolicy, @Named("config:sqlTableName") String tableName) {
+        this.flushPolicy = flushPolicy;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public DataSetWriter createWriter(OutputStream stream, ProfileFields profileFields) throws IOException {
+        return PostgresCopyDataSetWriter.open(stream, profileFields, flushPolicy, tableName);
+    }
+
+    @Override
+    public Optional<String> getFileExtensionWithoutDot() {
+        return Optional.of("sql");
+    }
+
+    /**
+     * Each row is a line of the data, between the COPY command and the line that ends the data
+     */
+    @Override
+    public boolean canWriteRowsSeparately() {
+        return true;
+    }
+
+    @Override
+    public DataSetWriter createRowWriter(OutputStream stream, ProfileFields profileFields) {
+        return PostgresCopyDataSetWriter.openRows(stream, profileFields, FlushPolicy.whenFull(ROW_WRITER_BUFFER_SIZE));
+    }
+}
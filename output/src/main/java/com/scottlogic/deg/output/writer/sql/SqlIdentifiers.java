@@ -0,0 +1,70 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Quotes table and column names for PostgreSQL, leaving names that don't need quotes as they are: those that are
+ * already lower case, as PostgreSQL folds unquoted names to lower case, and aren't reserved words
+ */
+public class SqlIdentifiers {
+    private static final Pattern unquotedIdentifier = Pattern.compile("[a-z_][a-z0-9_$]*");
+
+    /** PostgreSQL's reserved key words, which can't be used as table or column names unless quoted */
+    private static final Set<String> reservedWords = new HashSet<>(Arrays.asList(
+        "all", "analyse", "analyze", "and", "any", "array", "as", "asc", "asymmetric", "authorization", "binary",
+        "both", "case", "cast", "check", "collate", "collation", "column", "concurrently", "constraint", "create",
+        "cross", "current_catalog", "current_date", "current_role", "current_schema", "current_time",
+        "current_timestamp", "current_user", "default", "deferrable", "desc", "distinct", "do", "else", "end",
+        "except", "false", "fetch", "for", "foreign", "freeze", "from", "full", "grant", "group", "having", "ilike",
+        "in", "initially", "inner", "intersect", "into", "is", "isnull", "join", "lateral", "leading", "left", "like",
+        "limit", "localtime", "localtimestamp", "natural", "not", "notnull", "null", "offset", "on", "only", "or",
+        "order", "outer", "overlaps", "placing", "primary", "references", "returning", "right", "select",
+        "session_user", "similar", "some", "symmetric", "table", "tablesample", "then", "to", "trailing", "true",
+        "union", "unique", "user", "using", "variadic", "verbose", "when", "where", "window", "with"));
+
+    /**
+     * @return the table name with each of its dot-separated parts quoted if necessary, e.g. schema.table
+     */
+    public static String tableName(String name) {
+        return Pattern.compile("\\.").splitAsStream(name)
+            .map(SqlIdentifiers::identifier)
+            .collect(Collectors.joining("."));
+    }
+
+    /**
+     * @return a parenthesised list of the columns, in profile order
+     */
+    public static String columnList(ProfileFields fields) {
+        return fields.stream()
+            .map(field -> identifier(field.name))
+            .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    public static String identifier(String name) {
+        if (unquotedIdentifier.matcher(name).matches() && !isReservedWord(name)) {
+            return name;
+        }
+
+        return "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * @return true if the name, in any case, is one of PostgreSQL's reserved key words, most of which are reserved by
+     * the SQL standard and so by other databases too
+     */
+    public static boolean isReservedWord(String name) {
+        return reservedWords.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    static Field[] fieldOrder(ProfileFields fields) {
+        return fields.stream().toArray(Field[]::new);
+    }
+}
@@ -0,0 +1,116 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.TextOutputBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes rows as multi-row INSERT statements, each of up to a batch size of rows, so that they can be loaded many
+ * rows at a time.
+ *
+ * Each value is written as a literal of its own type: numbers as they are, strings and date-times quoted, and nulls
+ * as NULL. The values a field can have are those of the type the profile gives it, so the literals suit its column.
+ */
+class SqlInsertDataSetWriter implements DataSetWriter {
+    private static final DateTimeFormatter standardDateFormat = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final String rowSeparator = ",\n";
+    private static final String statementTerminator = ";\n";
+
+    private final TextOutputBuffer output;
+    private final Field[] fieldOrder;
+    private final String statementStart;
+    private final int batchSize;
+    private int rowsInStatement;
+
+    SqlInsertDataSetWriter(
+        OutputStream stream,
+        ProfileFields fields,
+        FlushPolicy flushPolicy,
+        String tableName,
+        int batchSize) {
+        this.output = new TextOutputBuffer(stream, flushPolicy);
+        this.fieldOrder = SqlIdentifiers.fieldOrder(fields);
+        this.statementStart = "INSERT INTO " + SqlIdentifiers.tableName(tableName) + " "
+            + SqlIdentifiers.columnList(fields) + " VALUES\n";
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        output.append(rowsInStatement == 0 ? statementStart : rowSeparator);
+
+        output.append('(');
+        for (int i = 0; i < fieldOrder.length; i++) {
+            if (i > 0) {
+                output.append(", ");
+            }
+
+            appendLiteral(row.getFormattedValue(fieldOrder[i]));
+        }
+        output.append(')');
+
+        if (++rowsInStatement == batchSize) {
+            endStatement();
+        }
+        output.endRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rowsInStatement > 0) {
+                endStatement();
+            }
+        } finally {
+            output.close();
+        }
+    }
+
+    private void endStatement() throws IOException {
+        output.append(statementTerminator);
+        rowsInStatement = 0;
+    }
+
+    private void appendLiteral(Object value) throws IOException {
+        if (value == null) {
+            output.append("NULL");
+        } else if (value instanceof BigDecimal) {
+            output.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            output.append(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            output.append((Boolean) value ? "TRUE" : "FALSE");
+        } else if (value instanceof OffsetDateTime) {
+            appendQuoted(standardDateFormat.format((OffsetDateTime) value));
+        } else {
+            appendQuoted(value.toString());
+        }
+    }
+
+    private void appendQuoted(String value) throws IOException {
+        output.append('\'');
+
+        if (value.indexOf('\'') < 0) {
+            output.append(value);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\'') {
+                    output.append('\'');
+                }
+                output.append(c);
+            }
+        }
+
+        output.append('\'');
+    }
+}
@@ -0,0 +1,62 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.OutputWriterFactory;
+
+import java.io.OutputStream;
+import java.util.Optional;
+
+public class SqlInsertOutputWriterFactory implements OutputWriterFactory {
+    private static final int ROW_WRITER_BUFFER_SIZE = 8192;
+
+    private final FlushPolicy flushPolicy;
+    private final String tableName;
+    private final int batchSize;
+
+    @Inject
+    public SqlInsertOutputWriterFactory(
+        FlushPolicy flushPolicy,
+        @Named("config:sqlTableName") String tableName,
+        @Named("config:sqlInsertBatchSize") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("SQL insert batch size must be positive, but was " + batchSize);
+        }
+
+        this.flushPolicy = flushPolicy;
+        this.tableName = tableName;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public DataSetWriter createWriter(OutputStream stream, ProfileFields profileFields) {
+        return new SqlInsertDataSetWriter(stream, profileFields, flushPolicy, tableName, batchSize);
+    }
+
+    @Override
+    public Optional<String> getFileExtensionWithoutDot() {
+        return Optional.of("sql");
+    }
+
+    /**
+     * Statements are written whole, so runs of rows written separately are joined into a script with a few more,
+     * smaller statements than had they been written together
+     */
+    @Override
+    public boolean canWriteRowsSeparately() {
+        return true;
+    }
+
+    @Override
+    public DataSetWriter createRowWriter(OutputStream stream, ProfileFields profileFields) {
+        return new SqlInsertDataSetWriter(
+            stream,
+            profileFields,
+            FlushPolicy.whenFull(ROW_WRITER_BUFFER_SIZE),
+            tableName,
+            batchSize);
+    }
+}
@@ -0,0 +1,41 @@
+package com.scottlogic.deg.output.compression;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+
+import static org.hamcrest.Matchers.*;
+
+class OutputCompressionTests {
+    private final OutputStream stream = new ByteArrayOutputStream();
+
+    @Test
+    void compress_byFileExtensionWithGzExtension_shouldCompressWithGzip() {
+        OutputStream compressed = OutputCompression.byFileExtension().compress(stream, Paths.get("data.csv.gz"));
+
+        Assert.assertThat(compressed, instanceOf(ParallelGzipOutputStream.class));
+    }
+
+    @Test
+    void compress_byFileExtensionWithOtherExtension_shouldNotCompress() {
+        OutputStream compressed = OutputCompression.byFileExtension().compress(stream, Paths.get("data.csv"));
+
+        Assert.assertThat(compressed, sameInstance(stream));
+    }
+
+    @Test
+    void compress_withConfiguredCompression_shouldCompressWhateverTheExtension() {
+        OutputStream compressed = new OutputCompression(Compression.GZIP, 1).compress(stream, Paths.get("data.csv"));
+
+        Assert.assertThat(compressed, instanceOf(ParallelGzipOutputStream.class));
+    }
+
+    @Test
+    void addFileExtension_withConfiguredCompression_shouldAddExtensionOfCompression() {
+        Assert.assertThat(new OutputCompression(Compression.GZIP, 1).addFileExtension("1.csv"), equalTo("1.csv.gz"));
+        Assert.assertThat(OutputCompression.byFileExtension().addFileExtension("1.csv"), equalTo("1.csv"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.scottlogic.deg.output.compression;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.equalTo;
+
+class ParallelGzipOutputStreamTests {
+    @Test
+    void write_withMoreThanOneBlock_shouldWriteGzipThatReadsBackAsWritten() throws IOException {
+        byte[] data = new byte[10_000];
+        Random random = new Random(0);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        try (ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(compressed, 3, 1000)) {
+            gzip.write(data, 0, 2500);
+            gzip.write(data[2500]);
+            gzip.write(data, 2501, data.length - 2501);
+        }
+
+        Assert.assertThat(decompress(compressed.toByteArray()), equalTo(data));
+    }
+
+    @Test
+    void close_withNothingWritten_shouldWriteEmptyGzip() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        new ParallelGzipOutputStream(compressed, 2, 1000).close();
+
+        Assert.assertThat(decompress(compressed.toByteArray()), equalTo(new byte[0]));
+    }
+
+    @Test
+    void flush_shouldNotCutBlockBeingFilledShort() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(compressed, 2, 1000);
+
+        gzip.write("first row\n".getBytes());
+        gzip.flush();
+
+        Assert.assertThat(compressed.size(), equalTo(0));
+
+        gzip.write("second row\n".getBytes());
+        gzip.close();
+
+        Assert.assertThat(decompress(compressed.toByteArray()), equalTo("first row\nsecond row\n".getBytes()));
+    }
+
+    @Test
+    void flush_shouldWriteBlocksThatHaveBeenCompressed() throws IOException, InterruptedException {
+        byte[] block = new byte[1000];
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(compressed, 2, block.length);
+
+        gzip.write(block);
+        gzip.write("partial".getBytes());
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (compressed.size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            gzip.flush();
+        }
+
+        Assert.assertThat(decompress(compressed.toByteArray()), equalTo(block));
+        gzip.close();
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = gzip.read(buffer)) > 0) {
+                decompressed.write(buffer, 0, read);
+            }
+        }
+
+        return decompressed.toByteArray();
+    }
+}
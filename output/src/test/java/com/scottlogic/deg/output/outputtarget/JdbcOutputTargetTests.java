@@ -0,0 +1,161 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+
+class JdbcOutputTargetTests {
+    private final Field id = new Field("id");
+    private final Field name = new Field("name");
+    private final Field created = new Field("created");
+    private final ProfileFields fields = new ProfileFields(Arrays.asList(id, name, created));
+    private final String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    private Connection database;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        database = DriverManager.getConnection(url);
+        try (Statement statement = database.createStatement()) {
+            statement.execute(
+                "CREATE TABLE \"people\" (\"id\" DECIMAL(10, 2) NOT NULL, \"name\" VARCHAR(100), \"created\" TIMESTAMP WITH TIME ZONE)");
+        }
+    }
+
+    @AfterEach
+    void afterEach() throws SQLException {
+        try (Statement statement = database.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        database.close();
+    }
+
+    @Test
+    void openWriter_withSeveralConnections_shouldInsertEveryRow() throws IOException, SQLException {
+        write(new JdbcOutputOptions(url, "people", 100, 300, 3), 2500);
+
+        try (Statement statement = database.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*), COUNT(DISTINCT \"id\"), SUM(\"id\"), COUNT(\"name\") FROM \"people\"")) {
+            result.next();
+            Assert.assertThat(result.getLong(1), equalTo(2500L));
+            Assert.assertThat(result.getLong(2), equalTo(2500L));
+            Assert.assertThat(result.getBigDecimal(3), comparesEqualTo(new BigDecimal(2500 * 2499 / 2)));
+            Assert.assertThat(result.getLong(4), equalTo(2500L - 834));
+        }
+    }
+
+    @Test
+    void openWriter_shouldInsertValuesOfEachType() throws IOException, SQLException {
+        write(new JdbcOutputOptions(url, "people", 10, 0, 1), 2);
+
+        try (Statement statement = database.createStatement();
+             ResultSet result = statement.executeQuery("SELECT \"id\", \"name\", \"created\" FROM \"people\" ORDER BY \"id\"")) {
+            result.next();
+            Assert.assertThat(result.getBigDecimal(1), comparesEqualTo(BigDecimal.ZERO));
+            Assert.assertThat(result.getString(2), nullValue());
+            result.next();
+            Assert.assertThat(result.getString(2), equalTo("name 1"));
+            Assert.assertThat(
+                result.getObject(3, OffsetDateTime.class).toInstant(),
+                equalTo(OffsetDateTime.of(2001, 2, 4, 4, 5, 6, 0, ZoneOffset.UTC).toInstant()));
+        }
+    }
+
+    @Test
+    void openWriter_withNamesInTheCaseTheDatabaseStoresUnquotedNames_shouldInsertRows() throws IOException, SQLException {
+        try (Statement statement = database.createStatement()) {
+            statement.execute("CREATE TABLE places (code VARCHAR(10), \"ORDER\" INT)");
+        }
+        Field code = new Field("CODE");
+        Field order = new Field("ORDER");
+
+        try (DataSetWriter writer = new JdbcOutputTarget(new JdbcOutputOptions(url, "PLACES", 10, 0, 1))
+            .openWriter(new ProfileFields(Arrays.asList(code, order)))) {
+            writer.writeRow(field -> field.equals(code) ? "abc" : new BigDecimal(3));
+            writer.finish();
+        }
+
+        try (Statement statement = database.createStatement();
+             ResultSet result = statement.executeQuery("SELECT code, \"ORDER\" FROM places")) {
+            result.next();
+            Assert.assertThat(result.getString(1), equalTo("abc"));
+            Assert.assertThat(result.getInt(2), equalTo(3));
+        }
+    }
+
+    @Test
+    void finish_whenInsertFails_throwsException() throws IOException {
+        try (DataSetWriter writer = new JdbcOutputTarget(new JdbcOutputOptions(url, "people", 10, 0, 2)).openWriter(fields)) {
+            writer.writeRow(field -> field.equals(name) ? "no id" : null);
+
+            Assertions.assertThrows(IOException.class, writer::finish);
+        }
+    }
+
+    @Test
+    void close_withoutFinishing_shouldRollBackUncommittedRows() throws IOException, SQLException {
+        write(new JdbcOutputOptions(url, "people", 10, 0, 2), 100, false);
+
+        try (Statement statement = database.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM \"people\"")) {
+            result.next();
+            Assert.assertThat(result.getLong(1), equalTo(0L));
+        }
+    }
+
+    @Test
+    void openWriter_withMissingTable_throwsException() {
+        JdbcOutputTarget target = new JdbcOutputTarget(new JdbcOutputOptions(url, "missing", 10, 0, 2));
+
+        Assertions.assertThrows(IOException.class, () -> target.openWriter(fields));
+    }
+
+    @Test
+    void validate_withUrlThatCannotBeConnectedTo_throwsException() {
+        JdbcOutputTarget target = new JdbcOutputTarget(new JdbcOutputOptions("jdbc:unknown:database", "people", 10, 0, 1));
+
+        Assertions.assertThrows(OutputTargetValidationException.class, target::validate);
+    }
+
+    private void write(JdbcOutputOptions options, int rows) throws IOException {
+        write(options, rows, true);
+    }
+
+    private void write(JdbcOutputOptions options, int rows, boolean finish) throws IOException {
+        try (DataSetWriter writer = new JdbcOutputTarget(options).openWriter(fields)) {
+            for (int row = 0; row < rows; row++) {
+                int value = row;
+                writer.writeRow(field -> {
+                    if (field.equals(id)) {
+                        return new BigDecimal(value);
+                    }
+                    if (field.equals(name)) {
+                        return value % 3 == 0 ? null : "name " + value;
+                    }
+                    return OffsetDateTime.of(2001, 2, 3, 4, 5, 6, 0, ZoneOffset.UTC).plusDays(value);
+                });
+            }
+            if (finish) {
+                writer.finish();
+            }
+        }
+    }
+}
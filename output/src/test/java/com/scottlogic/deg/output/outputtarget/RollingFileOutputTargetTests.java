@@ -0,0 +1,161 @@
+package com.scottlogic.deg.output.outputtarget;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.FileUtilsImpl;
+import com.scottlogic.deg.output.OutputPath;
+import com.scottlogic.deg.output.compression.OutputCompression;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.OutputWriterFactory;
+import com.scottlogic.deg.output.writer.csv.CsvOutputWriterFactory;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.*;
+
+class RollingFileOutputTargetTests {
+    private final Field id = new Field("id");
+    private final ProfileFields fields = new ProfileFields(Collections.singletonList(id));
+    private Path directory;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        directory = Files.createTempDirectory("rolling-output");
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    void openWriter_withMaxRowsPerFile_shouldSplitRowsAcrossNumberedFilesInOrder() throws IOException {
+        write(target(10, 0, false), 25);
+
+        Assert.assertThat(fileNames(), contains("1.csv", "2.csv", "3.csv"));
+        Assert.assertThat(rows("1.csv"), equalTo(ids(0, 10)));
+        Assert.assertThat(rows("2.csv"), equalTo(ids(10, 20)));
+        Assert.assertThat(rows("3.csv"), equalTo(ids(20, 25)));
+    }
+
+    @Test
+    void openWriter_withMoreThanNineFiles_shouldPadFileNumbers() throws IOException {
+        write(target(2, 0, false), 22);
+
+        Assert.assertThat(fileNames(), hasSize(11));
+        Assert.assertThat(fileNames(), hasItems("01.csv", "09.csv", "10.csv", "11.csv"));
+        Assert.assertThat(rows("11.csv"), equalTo(ids(20, 22)));
+    }
+
+    @Test
+    void openWriter_withTenFiles_shouldPadFileNumbers() throws IOException {
+        write(target(1, 0, false), 10);
+
+        Assert.assertThat(fileNames(), hasItems("01.csv", "09.csv", "10.csv"));
+    }
+
+    @Test
+    void openWriter_withMaxBytesPerFile_shouldWriteEveryRowInOrder() throws IOException {
+        // a file's bytes are only counted as its writer flushes, so keep the buffer small
+        write(target(new CsvOutputWriterFactory(FlushPolicy.whenFull(64)), 0, 100, false), 50000);
+
+        List<String> fileNames = fileNames();
+        Assert.assertThat(fileNames.size(), greaterThan(1));
+        List<String> allRows = new ArrayList<>();
+        for (String fileName : fileNames) {
+            allRows.addAll(rows(fileName));
+        }
+        Assert.assertThat(allRows, equalTo(ids(0, 50000)));
+    }
+
+    @Test
+    void openWriter_withMaxBytesPerFile_shouldNotGrowFilesPastLimitByMoreThanBuffer() throws IOException {
+        write(target(new CsvOutputWriterFactory(FlushPolicy.whenFull(64)), 0, 100, false), 5000);
+
+        for (String fileName : fileNames()) {
+            Assert.assertThat(Files.size(directory.resolve(fileName)), lessThanOrEqualTo(100L + 64));
+        }
+    }
+
+    @Test
+    void validate_withNumberedFilesInDirectoryAndNoOverwrite_throwsException() throws IOException {
+        Files.write(directory.resolve("1.csv"), "id\r\n".getBytes());
+
+        Assertions.assertThrows(OutputTargetValidationException.class, () -> target(10, 0, false).validate());
+    }
+
+    @Test
+    void validate_withNumberedFilesInDirectoryAndOverwrite_doesNotThrow() throws IOException {
+        Files.write(directory.resolve("1.csv"), "id\r\n".getBytes());
+
+        Assertions.assertDoesNotThrow(() -> target(10, 0, true).validate());
+    }
+
+    private RollingFileOutputTarget target(long maxRowsPerFile, long maxBytesPerFile, boolean canOverwrite) {
+        return target(new CsvOutputWriterFactory(), maxRowsPerFile, maxBytesPerFile, canOverwrite);
+    }
+
+    private RollingFileOutputTarget target(
+        OutputWriterFactory outputWriterFactory,
+        long maxRowsPerFile,
+        long maxBytesPerFile,
+        boolean canOverwrite) {
+        OutputPath outputPath = new OutputPath(directory);
+        FileUtilsImpl fileUtils = new FileUtilsImpl();
+        OutputTargetFactory targetFactory = new OutputTargetFactory(
+            outputPath,
+            outputWriterFactory,
+            canOverwrite,
+            fileUtils,
+            OutputCompression.byFileExtension());
+
+        return new RollingFileOutputTarget(outputPath, targetFactory, canOverwrite, fileUtils, maxRowsPerFile, maxBytesPerFile);
+    }
+
+    private void write(RollingFileOutputTarget target, int rows) throws IOException {
+        try (DataSetWriter writer = target.openWriter(fields)) {
+            for (int row = 0; row < rows; row++) {
+                int value = row;
+                writer.writeRow(field -> value);
+            }
+        }
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<String> rows(String fileName) throws IOException {
+        List<String> lines = Files.readAllLines(directory.resolve(fileName), StandardCharsets.UTF_8);
+        Assert.assertThat(lines.get(0), equalTo("id"));
+        return lines.subList(1, lines.size());
+    }
+
+    private static List<String> ids(int from, int to) {
+        List<String> ids = new ArrayList<>();
+        for (int id = from; id < to; id++) {
+            ids.add(Integer.toString(id));
+        }
+        return ids;
+    }
+}
@@ -2,6 +2,7 @@ package com.scottlogic.deg.output.writer;
 
 import com.scottlogic.deg.output.FileUtils;
 import com.scottlogic.deg.output.OutputPath;
+import com.scottlogic.deg.output.compression.OutputCompression;
 import com.scottlogic.deg.output.outputtarget.FileOutputTarget;
 import com.scottlogic.deg.output.outputtarget.OutputTargetValidationException;
 import org.junit.Test;
@@ -30,7 +31,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFileUtils.isDirectory(Matchers.any())).thenReturn(true);
         Mockito.when(mockFilePath.getParent()).thenReturn(mockParentPath);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils, OutputCompression.byFileExtension());
 
         assertThrows(OutputTargetValidationException.class, outputTarget::validate, "Expected OutputTargetValidationException to throw, but didn't");
     }
@@ -42,7 +43,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFilePath.getParent()).thenReturn(mockParentPath);
         Mockito.when(mockFileUtils.exists(Matchers.any())).thenReturn(true);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils, OutputCompression.byFileExtension());
 
         assertThrows(OutputTargetValidationException.class, outputTarget::validate, "Expected OutputTargetValidationException to throw, but didn't");
     }
@@ -54,7 +55,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFilePath.getParent()).thenReturn(mockParentPath);
         Mockito.when(mockFileUtils.exists(Matchers.any())).thenReturn(true);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils, OutputCompression.byFileExtension());
 
         assertDoesNotThrow(outputTarget::validate,"Expected no exception, but one was thrown");
     }
@@ -67,7 +68,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFileUtils.isDirectory(mockFilePath)).thenReturn(false);
         Mockito.when(mockFileUtils.createDirectories(Matchers.any())).thenReturn(true);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils, OutputCompression.byFileExtension());
 
         assertDoesNotThrow(outputTarget::validate,"Expected no exception, but one was thrown");
     }
@@ -80,7 +81,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFileUtils.isDirectory(mockFilePath)).thenReturn(false);
         Mockito.when(mockFileUtils.isDirectory(mockParentPath)).thenReturn(false);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils, OutputCompression.byFileExtension());
 
         assertThrows(OutputTargetValidationException.class, outputTarget::validate,"Expected OutputTargetValidationException to throw, but didn't");
     }
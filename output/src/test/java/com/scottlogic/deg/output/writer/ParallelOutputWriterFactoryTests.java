@@ -0,0 +1,103 @@
+package com.scottlogic.deg.output.writer;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.csv.CsvOutputWriterFactory;
+import com.scottlogic.deg.output.writer.json.JsonOutputWriterFactory;
+import com.scottlogic.deg.output.writer.sql.PostgresCopyOutputWriterFactory;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.*;
+
+class ParallelOutputWriterFactoryTests {
+    private final ProfileFields fields = new ProfileFields(Arrays.asList(new Field("id"), new Field("name")));
+
+    @Test
+    void createWriter_whenOrdered_shouldWriteSameOutputAsUnderlyingWriter() throws IOException {
+        List<GeneratedObject> rows = rows(2500);
+
+        String parallelCsv = write(new ParallelOutputWriterFactory(new CsvOutputWriterFactory(), 4, true), rows);
+
+        Assert.assertThat(parallelCsv, equalTo(write(new CsvOutputWriterFactory(), rows)));
+    }
+
+    @Test
+    void createWriter_whenUnordered_shouldWriteEveryRowOnce() throws IOException {
+        List<GeneratedObject> rows = rows(2500);
+
+        String parallelCsv = write(new ParallelOutputWriterFactory(new CsvOutputWriterFactory(), 4, false), rows);
+
+        List<String> lines = Arrays.asList(parallelCsv.split("\r\n"));
+        Assert.assertThat(lines.get(0), equalTo("id,name"));
+        Assert.assertThat(
+            lines.subList(1, lines.size()),
+            containsInAnyOrder(Arrays.asList(write(new CsvOutputWriterFactory(), rows).split("\r\n")).subList(1, rows.size() + 1).toArray()));
+    }
+
+    @Test
+    void createWriter_withNoRows_shouldWriteHeaderOnly() throws IOException {
+        String parallelCsv = write(new ParallelOutputWriterFactory(new CsvOutputWriterFactory(), 2, true), rows(0));
+
+        Assert.assertThat(parallelCsv, equalTo("id,name\r\n"));
+    }
+
+    @Test
+    void createWriter_withFormatThatCannotWriteRowsSeparately_shouldWriteSameOutputAsUnderlyingWriter() throws IOException {
+        List<GeneratedObject> rows = rows(10);
+
+        String parallelJson = write(new ParallelOutputWriterFactory(new JsonOutputWriterFactory(), 4, true), rows);
+
+        Assert.assertThat(parallelJson, equalTo(write(new JsonOutputWriterFactory(), rows)));
+    }
+
+    @Test
+    void createWriter_withFormatThatEndsOutputWhenClosed_shouldWriteSameOutputAsUnderlyingWriter() throws IOException {
+        List<GeneratedObject> rows = rows(2500);
+        OutputWriterFactory copyFactory = new PostgresCopyOutputWriterFactory(FlushPolicy.defaultPolicy(), "data");
+
+        String parallelCopy = write(new ParallelOutputWriterFactory(copyFactory, 4, true), rows);
+
+        Assert.assertThat(parallelCopy, equalTo(write(copyFactory, rows)));
+    }
+
+    @Test
+    void close_whenFormattingFails_shouldThrow() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataSetWriter writer = new ParallelOutputWriterFactory(new CsvOutputWriterFactory(), 2, true)
+            .createWriter(stream, fields);
+
+        writer.writeRow(field -> { throw new IllegalStateException("unable to format"); });
+
+        IOException exception = Assertions.assertThrows(IOException.class, writer::close);
+        Assert.assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    private List<GeneratedObject> rows(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(id -> (GeneratedObject) field -> field.name.equals("id") ? new BigDecimal(id) : "name " + id)
+            .collect(Collectors.toList());
+    }
+
+    private String write(OutputWriterFactory factory, List<GeneratedObject> rows) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (DataSetWriter writer = factory.createWriter(stream, fields)) {
+            for (GeneratedObject row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
@@ -0,0 +1,83 @@
+package com.scottlogic.deg.output.writer;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.equalTo;
+
+class TextOutputBufferTests {
+    @Test
+    void endRow_beforeFlushIntervalHasPassed_shouldNotWriteRow() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        TextOutputBuffer buffer = new TextOutputBuffer(stream, new FlushPolicy(1024, 60_000));
+
+        buffer.append("row").endRow();
+
+        Assert.assertThat(stream.size(), equalTo(0));
+    }
+
+    @Test
+    void endRow_withNoFlushInterval_shouldWriteRow() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        TextOutputBuffer buffer = new TextOutputBuffer(stream, new FlushPolicy(1024, 0));
+
+        buffer.append("row").endRow();
+
+        Assert.assertThat(text(stream), equalTo("row"));
+    }
+
+    @Test
+    void append_whenBufferIsFull_shouldWriteBufferedText() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        TextOutputBuffer buffer = new TextOutputBuffer(stream, new FlushPolicy(4, 60_000));
+
+        buffer.append("abcdef");
+
+        Assert.assertThat(text(stream), equalTo("abcd"));
+    }
+
+    @Test
+    void close_shouldWriteBufferedText() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        TextOutputBuffer buffer = new TextOutputBuffer(stream, new FlushPolicy(1024, 60_000));
+
+        buffer.append("abc").append('d');
+        buffer.close();
+
+        Assert.assertThat(text(stream), equalTo("abcd"));
+    }
+
+    @Test
+    void close_withSurrogatePairSplitBetweenWrites_shouldEncodePair() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        TextOutputBuffer buffer = new TextOutputBuffer(stream, new FlushPolicy(3, 60_000));
+
+        buffer.append("ab😀c");
+        buffer.close();
+
+        Assert.assertThat(text(stream), equalTo("ab😀c"));
+    }
+
+    @Test
+    void append_withLongs_shouldWriteDigits() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        TextOutputBuffer buffer = new TextOutputBuffer(stream, new FlushPolicy(24, 60_000));
+
+        for (long value : new long[] { 0, 7, -10, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            buffer.append(value).append(',');
+        }
+        buffer.close();
+
+        Assert.assertThat(
+            text(stream),
+            equalTo("0,7,-10,1234567890123," + Long.MAX_VALUE + "," + Long.MIN_VALUE + ","));
+    }
+
+    private static String text(ByteArrayOutputStream stream) {
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
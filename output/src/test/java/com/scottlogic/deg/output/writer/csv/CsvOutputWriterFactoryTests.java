@@ -4,6 +4,7 @@ import com.scottlogic.deg.common.profile.Field;
 import com.scottlogic.deg.common.profile.ProfileFields;
 import com.scottlogic.deg.common.output.GeneratedObject;
 import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -78,6 +79,53 @@ class CsvOutputWriterFactoryTests {
             Matchers.containsString("2001-02-03T04:05:06.777Z"));
     }
 
+    @Test
+    void writeRow_withStringContainingQuotesDelimitersAndNewLines_shouldQuoteAndEscapeString() throws IOException {
+        expectCsv(
+            fields("my_string"),
+            ("a \"b\", c\nd"),
+
+            Matchers.equalTo("my_string\n\"a \"\"b\"\", c\nd\"\n"));
+    }
+
+    @Test
+    void writeRow_withString_shouldQuoteString() throws IOException {
+        expectCsv(
+            fields("my_string"),
+            ("abc"),
+
+            Matchers.equalTo("my_string\n\"abc\"\n"));
+    }
+
+    @Test
+    void createWriter_withFieldNameContainingDelimiter_shouldQuoteFieldName() throws IOException {
+        expectCsv(
+            fields("my,field"),
+            (1),
+
+            Matchers.equalTo("\"my,field\"\n1\n"));
+    }
+
+    @Test
+    void writeRow_withManyRows_shouldWriteEveryRowInOrder() throws IOException {
+        ProfileFields fields = fields("id", "name");
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StringBuilder expected = new StringBuilder("id,name\r\n");
+
+        try (DataSetWriter writer = new CsvOutputWriterFactory(new FlushPolicy(16, 1000)).createWriter(stream, fields)) {
+            for (int id = 0; id < 100; id++) {
+                GeneratedObject row = mock(GeneratedObject.class);
+                when(row.getFormattedValue(eq(fields.getByName("id")))).thenReturn(id);
+                when(row.getFormattedValue(eq(fields.getByName("name")))).thenReturn("name " + id);
+                writer.writeRow(row);
+
+                expected.append(id).append(",\"name ").append(id).append("\"\r\n");
+            }
+        }
+
+        Assert.assertThat(stream.toString(StandardCharsets.UTF_8.name()), Matchers.equalTo(expected.toString()));
+    }
+
     private static ProfileFields fields(String ...names) {
         return new ProfileFields(
             Arrays.stream(names)
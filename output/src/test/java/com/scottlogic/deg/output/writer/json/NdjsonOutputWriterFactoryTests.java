@@ -0,0 +1,69 @@
+package com.scottlogic.deg.output.writer.json;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NdjsonOutputWriterFactoryTests {
+    private final ProfileFields fields = new ProfileFields(
+        Arrays.stream(new String[] { "z_number", "a_string", "m_date", "null\"field" })
+            .map(Field::new)
+            .collect(Collectors.toList()));
+
+    @Test
+    void writeRow_shouldWriteCompactObjectPerLineInFieldOrder() throws IOException {
+        String json = generateJson(
+            row(new BigDecimal("1.50"), "a \"quoted\" string", OffsetDateTime.of(2001, 2, 3, 4, 5, 6, 0, ZoneOffset.UTC), null),
+            row(new BigDecimal("-2"), "b", null, 3));
+
+        Assert.assertThat(
+            json,
+            equalTo(
+                "{\"z_number\":1.50,\"a_string\":\"a \\\"quoted\\\" string\",\"m_date\":\"03-02-2001 04:05:06\",\"null\\\"field\":null}\n" +
+                "{\"z_number\":-2,\"a_string\":\"b\",\"m_date\":null,\"null\\\"field\":\"3\"}\n"));
+    }
+
+    @Test
+    void writeRow_withNoRows_shouldWriteNothing() throws IOException {
+        Assert.assertThat(generateJson(), equalTo(""));
+    }
+
+    private GeneratedObject row(Object... values) {
+        GeneratedObject row = mock(GeneratedObject.class);
+        int index = 0;
+        for (Field field : fields) {
+            when(row.getFormattedValue(eq(field))).thenReturn(values[index++]);
+        }
+
+        return row;
+    }
+
+    private String generateJson(GeneratedObject... rows) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try (DataSetWriter writer = new NdjsonOutputWriterFactory().createWriter(stream, fields)) {
+            for (GeneratedObject row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
@@ -0,0 +1,87 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgresCopyOutputWriterFactoryTests {
+    private final ProfileFields fields = new ProfileFields(
+        Arrays.stream(new String[] { "id", "name", "created at" })
+            .map(Field::new)
+            .collect(Collectors.toList()));
+
+    @Test
+    void writeRow_shouldWriteCopyCommandFollowedByTabSeparatedRows() throws IOException {
+        String sql = generateSql(
+            row(new BigDecimal("1.50"), "a\tb\\c\r\nd", OffsetDateTime.of(2001, 2, 3, 4, 5, 6, 0, ZoneOffset.UTC)),
+            row(2, null, null));
+
+        Assert.assertThat(
+            sql,
+            equalTo(
+                "COPY data (id, name, \"created at\") FROM STDIN;\n" +
+                "1.50\ta\\tb\\\\c\\r\\nd\t2001-02-03T04:05:06Z\n" +
+                "2\t\\N\t\\N\n" +
+                "\\.\n"));
+    }
+
+    @Test
+    void writeRow_withNoRows_shouldWriteEmptyCopy() throws IOException {
+        Assert.assertThat(
+            generateSql(),
+            equalTo("COPY data (id, name, \"created at\") FROM STDIN;\n\\.\n"));
+    }
+
+    @Test
+    void createRowWriter_shouldWriteRowsOnly() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try (DataSetWriter writer = new PostgresCopyOutputWriterFactory(FlushPolicy.defaultPolicy(), "data")
+            .createRowWriter(stream, fields)) {
+            writer.writeRow(row(2, null, null));
+        }
+
+        Assert.assertThat(stream.toString(StandardCharsets.UTF_8.name()), equalTo("2\t\\N\t\\N\n"));
+    }
+
+    private GeneratedObject row(Object... values) {
+        GeneratedObject row = mock(GeneratedObject.class);
+        int index = 0;
+        for (Field field : fields) {
+            when(row.getFormattedValue(eq(field))).thenReturn(values[index++]);
+        }
+
+        return row;
+    }
+
+    private String generateSql(GeneratedObject... rows) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try (DataSetWriter writer = new PostgresCopyOutputWriterFactory(FlushPolicy.defaultPolicy(), "data")
+            .createWriter(stream, fields)) {
+            for (GeneratedObject row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
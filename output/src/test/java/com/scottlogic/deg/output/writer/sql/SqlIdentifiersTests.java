@@ -0,0 +1,69 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+
+class SqlIdentifiersTests {
+    @Test
+    void identifier_withLowerCaseName_shouldNotQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("created_at"), equalTo("created_at"));
+    }
+
+    @Test
+    void identifier_withUpperCaseOrSpaces_shouldQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("Name"), equalTo("\"Name\""));
+        Assert.assertThat(SqlIdentifiers.identifier("created at"), equalTo("\"created at\""));
+    }
+
+    @Test
+    void identifier_withQuotes_shouldDoubleThem() {
+        Assert.assertThat(SqlIdentifiers.identifier("a\"b"), equalTo("\"a\"\"b\""));
+    }
+
+    @Test
+    void identifier_withOrder_shouldQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("order"), equalTo("\"order\""));
+    }
+
+    @Test
+    void identifier_withUser_shouldQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("user"), equalTo("\"user\""));
+    }
+
+    @Test
+    void identifier_withGroup_shouldQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("group"), equalTo("\"group\""));
+    }
+
+    @Test
+    void identifier_withSelect_shouldQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("select"), equalTo("\"select\""));
+    }
+
+    @Test
+    void identifier_withFrom_shouldQuoteIt() {
+        Assert.assertThat(SqlIdentifiers.identifier("from"), equalTo("\"from\""));
+    }
+
+    @Test
+    void tableName_shouldQuoteEachPartThatNeedsIt() {
+        Assert.assertThat(SqlIdentifiers.tableName("public.user"), equalTo("public.\"user\""));
+    }
+
+    @Test
+    void columnList_shouldQuoteReservedWords() {
+        ProfileFields fields = new ProfileFields(
+            Arrays.stream(new String[] { "id", "order", "from" })
+                .map(Field::new)
+                .collect(Collectors.toList()));
+
+        Assert.assertThat(SqlIdentifiers.columnList(fields), equalTo("(id, \"order\", \"from\")"));
+    }
+}
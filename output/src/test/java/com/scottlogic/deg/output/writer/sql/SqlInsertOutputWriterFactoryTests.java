@@ -0,0 +1,100 @@
+package com.scottlogic.deg.output.writer.sql;
+
+import com.scottlogic.deg.common.output.GeneratedObject;
+import com.scottlogic.deg.common.profile.Field;
+import com.scottlogic.deg.common.profile.ProfileFields;
+import com.scottlogic.deg.output.writer.DataSetWriter;
+import com.scottlogic.deg.output.writer.FlushPolicy;
+import com.scottlogic.deg.output.writer.OutputWriterFactory;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlInsertOutputWriterFactoryTests {
+    private final ProfileFields fields = new ProfileFields(
+        Arrays.stream(new String[] { "id", "Name", "created" })
+            .map(Field::new)
+            .collect(Collectors.toList()));
+
+    @Test
+    void writeRow_shouldWriteStatementsOfUpToBatchSizeRows() throws IOException {
+        String sql = generateSql(
+            new SqlInsertOutputWriterFactory(FlushPolicy.defaultPolicy(), "public.people", 2),
+            row(new BigDecimal("1.50"), "it's", OffsetDateTime.of(2001, 2, 3, 4, 5, 6, 0, ZoneOffset.UTC)),
+            row(2, null, null),
+            row(-3L, "c", null));
+
+        Assert.assertThat(
+            sql,
+            equalTo(
+                "INSERT INTO public.people (id, \"Name\", created) VALUES\n" +
+                "(1.50, 'it''s', '2001-02-03T04:05:06Z'),\n" +
+                "(2, NULL, NULL);\n" +
+                "INSERT INTO public.people (id, \"Name\", created) VALUES\n" +
+                "(-3, 'c', NULL);\n"));
+    }
+
+    @Test
+    void writeRow_withNoRows_shouldWriteNothing() throws IOException {
+        Assert.assertThat(
+            generateSql(new SqlInsertOutputWriterFactory(FlushPolicy.defaultPolicy(), "data", 10)),
+            equalTo(""));
+    }
+
+    @Test
+    void createRowWriter_shouldWriteCompleteStatements() throws IOException {
+        OutputWriterFactory factory = new SqlInsertOutputWriterFactory(FlushPolicy.defaultPolicy(), "data", 10);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try (DataSetWriter writer = factory.createRowWriter(stream, fields)) {
+            writer.writeRow(row(1, "a", null));
+        }
+
+        Assert.assertThat(
+            stream.toString(StandardCharsets.UTF_8.name()),
+            equalTo("INSERT INTO data (id, \"Name\", created) VALUES\n(1, 'a', NULL);\n"));
+    }
+
+    @Test
+    void constructor_withNoBatchSize_throwsException() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new SqlInsertOutputWriterFactory(FlushPolicy.defaultPolicy(), "data", 0));
+    }
+
+    private GeneratedObject row(Object... values) {
+        GeneratedObject row = mock(GeneratedObject.class);
+        int index = 0;
+        for (Field field : fields) {
+            when(row.getFormattedValue(eq(field))).thenReturn(values[index++]);
+        }
+
+        return row;
+    }
+
+    private String generateSql(OutputWriterFactory factory, GeneratedObject... rows) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try (DataSetWriter writer = factory.createWriter(stream, fields)) {
+            for (GeneratedObject row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
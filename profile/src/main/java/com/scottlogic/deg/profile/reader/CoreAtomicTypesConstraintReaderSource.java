@@ -14,7 +14,6 @@ import java.io.*;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -315,13 +314,12 @@ public class CoreAtomicTypesConstraintReaderSource implements ConstraintReaderMa
                     String value = ConstraintReaderHelpers.getValidatedValue(dto, String.class);
 
                     InputStream streamFromPath = createStreamFromPath(value);
-                    Set<String> names = CsvInputStreamReader.retrieveLines(streamFromPath);
+                    Set<Object> names = CsvInputStreamReader.retrieveLinesAsTable(streamFromPath);
                     closeStream(streamFromPath);
 
-                    Set<Object> downcastedNames = new HashSet<>(names);
                     Field field = fields.getByName(dto.field);
 
-                    return new IsInSetConstraint(field, downcastedNames, rules);
+                    return new IsInSetConstraint(field, names, rules);
                 }
             )
         );
@@ -1,5 +1,6 @@
 package com.scottlogic.deg.profile.reader.file;
 
+import com.scottlogic.deg.common.util.SortedStringTable;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -30,6 +31,23 @@ public final class CsvInputStreamReader {
         return firstElementFromEachRecord;
     }
 
+    /**
+     * Read the first element of each record into a table held outside the heap, without holding all of the records
+     * in memory at once
+     */
+    public static SortedStringTable retrieveLinesAsTable(InputStream stream) {
+        SortedStringTable.Builder firstElementFromEachRecord = SortedStringTable.builder();
+        try (CSVParser parser = CSVParser.parse(stream, Charset.defaultCharset(), CSVFormat.DEFAULT)) {
+            for (CSVRecord record : parser) {
+                firstElementFromEachRecord.add(firstElementFromRecord(record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return firstElementFromEachRecord.build();
+    }
+
     private static List<CSVRecord> parse(InputStream stream) {
         try {
             CSVParser parser = CSVParser.parse(stream, Charset.defaultCharset(), CSVFormat.DEFAULT);